@@ -1,6 +1,16 @@
 package com.bootcamp.clientservice.adapter;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
@@ -8,42 +18,318 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import com.bootcamp.clientservice.config.AsyncConfig;
+import com.bootcamp.clientservice.deadline.Deadline;
+import com.bootcamp.clientservice.deadline.DeadlineExceededException;
 import com.bootcamp.clientservice.dto.external.AccountResponse;
+import com.bootcamp.clientservice.jfr.AccountsCallEvent;
 import com.bootcamp.clientservice.port.AccountsClient;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Consulta de cuentas con deadline y cobertura (hedging). Si el intento original no respondió
+ * al llegar al percentil configurado de la latencia observada, se lanza un segundo intento y
+ * gana la primera respuesta; el otro se cancela. La espera nunca pasa del deadline de la petición.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RestAccountsClient implements AccountsClient {
 
+    private static final ParameterizedTypeReference<List<AccountResponse>> ACCOUNT_LIST =
+            new ParameterizedTypeReference<List<AccountResponse>>() {};
+
+    // Con pocas muestras el percentil no es representativo y se usa la demora mínima
+    private static final long MIN_SAMPLES = 50;
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final RestTemplate restTemplate;
+    private final Executor callExecutor;
+    private final boolean hedgeEnabled;
+    private final long minHedgeDelayNanos;
+    private final Timer attemptLatency;
+    private final Counter plainCalls;
+    private final Counter hedgedCalls;
+    private final Counter primaryWins;
+    private final Counter hedgeWins;
+    private final Counter deadlineExceeded;
+
+    private volatile long hedgeDelayNanos;
+    private volatile long hedgeDelayRefreshedAt;
 
     @Value("${accounts.base-url:http://localhost:8081}")
     private String baseUrl;
 
+    public RestAccountsClient(RestTemplate restTemplate,
+                              @Qualifier(AsyncConfig.ACCOUNTS_CALL_EXECUTOR) Executor callExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${accounts.hedge.enabled:true}") boolean hedgeEnabled,
+                              @Value("${accounts.hedge.percentile:0.95}") double hedgePercentile,
+                              @Value("${accounts.hedge.min-delay-ms:20}") long minHedgeDelayMillis) {
+        if (hedgePercentile <= 0 || hedgePercentile >= 1) {
+            throw new IllegalArgumentException("Hedge percentile must be between 0 and 1: " + hedgePercentile);
+        }
+        this.restTemplate = restTemplate;
+        this.callExecutor = callExecutor;
+        this.hedgeEnabled = hedgeEnabled;
+        this.minHedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(minHedgeDelayMillis);
+        this.attemptLatency = Timer.builder("clients.accounts.attempt.latency")
+                .publishPercentiles(hedgePercentile)
+                .register(meterRegistry);
+        this.plainCalls = callCounter(meterRegistry, false);
+        this.hedgedCalls = callCounter(meterRegistry, true);
+        this.primaryWins = winCounter(meterRegistry, "primary");
+        this.hedgeWins = winCounter(meterRegistry, "hedge");
+        this.deadlineExceeded = Counter.builder("clients.accounts.deadline_exceeded").register(meterRegistry);
+        this.hedgeDelayNanos = minHedgeDelayNanos;
+        this.hedgeDelayRefreshedAt = System.nanoTime();
+    }
+
     @Override
     public boolean hasAccounts(Long clientId) {
         String url = baseUrl + "/cuentas/" + clientId;
+        AccountsCallEvent event = new AccountsCallEvent(clientId);
+        event.begin();
 
         try {
-            ResponseEntity<List<AccountResponse>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<List<AccountResponse>>() {}
-            );
+            ResponseEntity<List<AccountResponse>> response = exchange(url);
 
             List<AccountResponse> accounts = response.getBody();
             boolean hasAccounts = response.getStatusCode().is2xxSuccessful() && accounts != null && !accounts.isEmpty();
 
             log.info("Checked accounts for client ID {}: found {} accounts", clientId, accounts != null ? accounts.size() : 0);
+            event.succeeded(response.getStatusCodeValue(), accounts != null ? accounts.size() : 0);
             return hasAccounts;
 
         } catch (RestClientException ex) {
+            event.failed();
             log.error("Error while checking accounts for client ID {}: {}", clientId, ex.getMessage(), ex);
             throw new IllegalStateException("No se pudo verificar las cuentas del cliente: " + clientId);
+        } catch (DeadlineExceededException ex) {
+            event.failed();
+            log.warn("Deadline exceeded while checking accounts for client ID {}", clientId);
+            throw ex;
+        } catch (RejectedExecutionException ex) {
+            event.failed();
+            log.warn("Accounts call rejected for client ID {}: executor saturated", clientId);
+            throw ex;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private ResponseEntity<List<AccountResponse>> exchange(String url) {
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            deadlineExceeded.increment();
+            throw new DeadlineExceededException("Deadline exceeded before calling accounts service");
+        }
+
+        HedgedCall call = new HedgedCall(url, hedgeEnabled);
+        try {
+            call.launch(false);
+            boolean hedged = hedgeEnabled
+                    && !call.awaitFirst(Math.min(hedgeDelayNanos(), remainingNanos(deadline)))
+                    && (deadline == null || !deadline.isExpired())
+                    && call.launch(true);
+            if (hedgeEnabled && !hedged) {
+                call.releaseHedge();
+            }
+            (hedged ? hedgedCalls : plainCalls).increment();
+
+            AttemptTask winner = call.await(deadline);
+            if (hedged) {
+                (winner.hedge ? hedgeWins : primaryWins).increment();
+            }
+            return winner.get();
+        } catch (ExecutionException ex) {
+            throw propagate(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for accounts service", ex);
+        } finally {
+            call.cancelPending();
+        }
+    }
+
+    private long hedgeDelayNanos() {
+        long now = System.nanoTime();
+        if (now - hedgeDelayRefreshedAt > DELAY_REFRESH_NANOS) {
+            hedgeDelayRefreshedAt = now;
+            hedgeDelayNanos = Math.max(minHedgeDelayNanos, observedPercentileNanos());
+        }
+        return hedgeDelayNanos;
+    }
+
+    private long observedPercentileNanos() {
+        HistogramSnapshot snapshot = attemptLatency.takeSnapshot();
+        ValueAtPercentile[] percentiles = snapshot.percentileValues();
+        if (snapshot.count() < MIN_SAMPLES || percentiles.length == 0) {
+            return minHedgeDelayNanos;
+        }
+        return (long) percentiles[0].value(TimeUnit.NANOSECONDS);
+    }
+
+    private static long remainingNanos(Deadline deadline) {
+        return deadline == null ? Long.MAX_VALUE : deadline.remainingNanos();
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, boolean hedged) {
+        return Counter.builder("clients.accounts.calls")
+                .tag("hedged", Boolean.toString(hedged))
+                .register(meterRegistry);
+    }
+
+    private static Counter winCounter(MeterRegistry meterRegistry, String winner) {
+        return Counter.builder("clients.accounts.hedge.wins")
+                .tag("winner", winner)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Intentos de una misma consulta; el primero que responde bien completa {@code winner}.
+     * Con cobertura habilitada el intento de cobertura cuenta como pendiente desde el principio:
+     * si el original falla durante la espera, la consulta no se da por fallida y la cobertura
+     * todavía puede responder. Se libera con {@link #releaseHedge()} si al final no se lanza.
+     */
+    private final class HedgedCall {
+        private final String url;
+        private final CompletableFuture<AttemptTask> winner = new CompletableFuture<>();
+        private final List<AttemptTask> attempts = new ArrayList<>(2);
+        private final AtomicInteger pending;
+        private volatile Throwable lastFailure;
+
+        private HedgedCall(String url, boolean hedgeReserved) {
+            this.url = url;
+            this.pending = new AtomicInteger(hedgeReserved ? 1 : 0);
+        }
+
+        /**
+         * @return false si el executor rechazó el intento de cobertura
+         * @throws RejectedExecutionException si rechazó el original: con el executor saturado se
+         *         responde 503 en lugar de bloquear el hilo de la petición con la llamada
+         */
+        boolean launch(boolean hedge) {
+            AttemptTask task = new AttemptTask(this, url, hedge);
+            if (!hedge) {
+                pending.incrementAndGet();
+            }
+            attempts.add(task);
+            try {
+                callExecutor.execute(task);
+                return true;
+            } catch (RejectedExecutionException ex) {
+                attempts.remove(task);
+                if (!hedge) {
+                    throw new RejectedExecutionException("Accounts call executor is saturated", ex);
+                }
+                log.debug("Hedge attempt rejected for {}", url);
+                return false;
+            }
+        }
+
+        // Sin cobertura, si el original ya falló su error es el de la consulta
+        void releaseHedge() {
+            if (pending.decrementAndGet() == 0 && lastFailure != null) {
+                winner.completeExceptionally(lastFailure);
+            }
+        }
+
+        /** true si ya hay resultado (bueno o malo) antes de {@code nanos} */
+        boolean awaitFirst(long nanos) throws InterruptedException {
+            try {
+                winner.get(nanos, TimeUnit.NANOSECONDS);
+                return true;
+            } catch (ExecutionException ex) {
+                return true;
+            } catch (TimeoutException ex) {
+                return false;
+            }
+        }
+
+        AttemptTask await(Deadline deadline) throws ExecutionException, InterruptedException {
+            if (deadline == null) {
+                return winner.get();
+            }
+            try {
+                return winner.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                deadlineExceeded.increment();
+                throw new DeadlineExceededException("Deadline exceeded waiting for accounts service");
+            }
+        }
+
+        // El intento perdedor se interrumpe; si ya está bloqueado leyendo el socket lo corta el read timeout
+        void cancelPending() {
+            for (AttemptTask attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+
+        void completed(AttemptTask attempt) {
+            pending.decrementAndGet();
+            winner.complete(attempt);
+        }
+
+        // Sólo falla la consulta cuando fallaron todos los intentos lanzados (o reservados)
+        void failed(Throwable cause) {
+            lastFailure = cause;
+            if (pending.decrementAndGet() == 0) {
+                winner.completeExceptionally(cause);
+            }
+        }
+    }
+
+    private final class AttemptTask extends FutureTask<ResponseEntity<List<AccountResponse>>> {
+        private final HedgedCall call;
+        private final boolean hedge;
+        private volatile long startedAt;
+
+        private AttemptTask(HedgedCall call, String url, boolean hedge) {
+            super(() -> restTemplate.exchange(url, HttpMethod.GET, null, ACCOUNT_LIST));
+            this.call = call;
+            this.hedge = hedge;
+        }
+
+        @Override
+        public void run() {
+            startedAt = System.nanoTime();
+            super.run();
+        }
+
+        @Override
+        protected void done() {
+            long started = startedAt;
+            if (started != 0) {
+                // Un perdedor cancelado aporta lo que llevaba esperando: una cota inferior de su latencia
+                attemptLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+            if (isCancelled()) {
+                return;
+            }
+            try {
+                get();
+                call.completed(this);
+            } catch (ExecutionException ex) {
+                call.failed(ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                call.failed(ex);
+            }
         }
     }
 }
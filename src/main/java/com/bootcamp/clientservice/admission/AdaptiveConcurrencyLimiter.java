@@ -0,0 +1,85 @@
+package com.bootcamp.clientservice.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Límite de concurrencia adaptativo por gradiente de latencia.
+ * Compara cada muestra contra la latencia sin carga (la mínima observada, suavizada): si la
+ * latencia sube el límite se reduce, si se mantiene cerca de la mínima el límite crece de a poco.
+ * Contra una media de largo plazo una sobrecarga sostenida terminaría siendo "la normal" y el
+ * límite volvería a crecer; la mínima sólo se vuelve a medir desde cero cada {@code PROBE_SAMPLES}
+ * muestras, para seguir cambios permanentes (p.ej. una base más lenta).
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+    private static final long PROBE_SAMPLES = 100_000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double noLoadRttNanos;
+    private long samplesSinceProbe;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /** true si la petición puede entrar; en ese caso debe llamarse a {@link #release(long)} al terminar */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            onSample(rttNanos, current);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtSample) {
+        if (noLoadRttNanos == 0 || ++samplesSinceProbe >= PROBE_SAMPLES) {
+            noLoadRttNanos = rttNanos;
+            samplesSinceProbe = 0;
+        } else if (rttNanos < noLoadRttNanos) {
+            // Suavizado para que una única muestra atípicamente rápida no fije la referencia
+            noLoadRttNanos += (rttNanos - noLoadRttNanos) * SMOOTHING;
+        }
+
+        double current = limit;
+        // Con pocas peticiones en vuelo la muestra no dice nada sobre la capacidad real
+        if (inFlightAtSample < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * noLoadRttNanos / rttNanos));
+        double queueSize = Math.sqrt(current);
+        double newLimit = current * gradient + queueSize;
+        newLimit = current * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
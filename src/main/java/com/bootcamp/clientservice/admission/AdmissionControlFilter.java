@@ -0,0 +1,201 @@
+package com.bootcamp.clientservice.admission;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.bootcamp.clientservice.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Control de admisión delante de {@code ClientController}.
+ * Primero aplica el rate limit del llamante (429) y luego el límite de concurrencia
+ * adaptativo del endpoint (503), rechazando rápido en lugar de encolar en Tomcat.
+ * <p>
+ * El filtro corre antes del dispatch, así que el endpoint se resuelve contra la lista fija de
+ * rutas de {@code ClientController}: cualquier otra ruta comparte {@code UNMATCHED} y la
+ * cantidad de limitadores y series de métricas queda acotada.
+ * <p>
+ * El rate limit es por usuario autenticado o, si no hay, por dirección remota. {@code X-Client-Id}
+ * lo pone el propio llamante y cualquiera puede rotarlo para esquivar el límite: sólo se usa con
+ * {@code trustCallerHeader}, cuando un gateway delante lo fija y descarta el que manda el cliente.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    static final String CALLER_HEADER = "X-Client-Id";
+
+    // Las rutas literales van antes que las de variable: /clientes/stats no es /clientes/{id}
+    private static final List<String> ROUTES = List.of(
+            "/clientes",
+            "/clientes/changes",
+            "/clientes/stats",
+            "/clientes/eliminaciones/{requestId}",
+            "/clientes/{id}");
+    private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final Supplier<AdaptiveConcurrencyLimiter> limiterFactory;
+    private final CallerRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean trustCallerHeader;
+
+    private final Map<String, EndpointState> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointState endpoint = endpoints.computeIfAbsent(endpointKey(request), this::newEndpointState);
+
+        long waitNanos = rateLimiter.tryAcquire(callerKey(request, trustCallerHeader));
+        if (waitNanos > 0) {
+            endpoint.rateLimited.increment();
+            reject(request, response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds(waitNanos),
+                    "Demasiadas solicitudes, intente nuevamente más tarde");
+            return;
+        }
+
+        if (!endpoint.limiter.tryAcquire()) {
+            endpoint.shed.increment();
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, 1,
+                    "Servicio saturado, intente nuevamente más tarde");
+            return;
+        }
+
+        endpoint.accepted.increment();
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                // En peticiones asíncronas el cupo se libera cuando termina la respuesta, no al soltar el hilo de Tomcat
+                request.getAsyncContext().addListener(new ReleaseOnComplete(endpoint.limiter, start));
+            } else {
+                endpoint.limiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private EndpointState newEndpointState(String endpoint) {
+        AdaptiveConcurrencyLimiter limiter = limiterFactory.get();
+        Gauge.builder("clients.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder("clients.admission.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return new EndpointState(limiter,
+                requestCounter(endpoint, "accepted"),
+                requestCounter(endpoint, "rate_limited"),
+                requestCounter(endpoint, "shed"));
+    }
+
+    private Counter requestCounter(String endpoint, String outcome) {
+        return Counter.builder("clients.admission.requests")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        HttpStatus status, long retryAfterSeconds, String message) throws IOException {
+        log.warn("Request rejected with {} for {} {}", status.value(), request.getMethod(), request.getRequestURI());
+
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    static String endpointKey(HttpServletRequest request) {
+        String method = METHODS.contains(request.getMethod()) ? request.getMethod() : "OTHER";
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String route : ROUTES) {
+            if (PATH_MATCHER.match(route, path)) {
+                return method + " " + route;
+            }
+        }
+        return method + " UNMATCHED";
+    }
+
+    static String callerKey(HttpServletRequest request, boolean trustCallerHeader) {
+        if (trustCallerHeader) {
+            String caller = request.getHeader(CALLER_HEADER);
+            if (caller != null && !caller.isBlank()) {
+                return caller;
+            }
+        }
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : request.getRemoteAddr();
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @RequiredArgsConstructor
+    private static final class ReleaseOnComplete implements AsyncListener {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long start;
+
+        // Tras un timeout o error el contenedor igual dispara onComplete, que es donde se libera una única vez
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(System.nanoTime() - start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class EndpointState {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final Counter accepted;
+        private final Counter rateLimited;
+        private final Counter shed;
+    }
+}
@@ -0,0 +1,138 @@
+package com.bootcamp.clientservice.admission;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket por llamante. Cada llamante tiene su propio balde que se rellena
+ * a ritmo constante; si no hay token disponible se informa cuánto falta para el siguiente.
+ * <p>
+ * Se siguen como mucho {@code maxCallers} baldes. Con el máximo alcanzado, cada llamante nuevo
+ * revisa unos pocos baldes ({@link #SWEEP_STEP}) y descarta los llenos; si aun así no hay lugar,
+ * comparte un balde de desborde con el resto de los llamantes que quedaron fuera.
+ */
+public class CallerRateLimiter {
+
+    /** Baldes revisados por llamante nuevo con el máximo alcanzado: el barrido completo se reparte entre peticiones */
+    static final int SWEEP_STEP = 64;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxCallers;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger tracked = new AtomicInteger();
+    private final TokenBucket overflow;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    /** Posición del barrido; sólo la usa quien tiene {@code sweeping} */
+    private Iterator<Map.Entry<String, TokenBucket>> sweepCursor;
+
+    public CallerRateLimiter(int capacity, int refillPerSecond, int maxCallers) {
+        this(capacity, refillPerSecond, maxCallers, System::nanoTime);
+    }
+
+    CallerRateLimiter(int capacity, int refillPerSecond, int maxCallers, LongSupplier clock) {
+        if (capacity < 1 || refillPerSecond < 1) {
+            throw new IllegalArgumentException("Rate limit capacity and refill must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+        this.maxCallers = maxCallers;
+        this.clock = clock;
+        this.overflow = new TokenBucket(capacity, clock.getAsLong());
+    }
+
+    /**
+     * Intenta consumir un token del llamante.
+     *
+     * @return 0 si la petición fue admitida, o los nanosegundos hasta el próximo token disponible
+     */
+    public long tryAcquire(String caller) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(caller);
+        if (bucket == null) {
+            bucket = track(caller, now);
+        }
+        return bucket.tryConsume(now);
+    }
+
+    int trackedCallers() {
+        return tracked.get();
+    }
+
+    // El contador reserva el lugar dentro de computeIfAbsent, así el máximo se respeta aun con carreras
+    private TokenBucket track(String caller, long now) {
+        if (tracked.get() >= maxCallers) {
+            sweep(now);
+        }
+        TokenBucket bucket = buckets.computeIfAbsent(caller, key -> {
+            if (tracked.incrementAndGet() > maxCallers) {
+                tracked.decrementAndGet();
+                return null;
+            }
+            return new TokenBucket(capacity, now);
+        });
+        return bucket != null ? bucket : overflow;
+    }
+
+    // Un balde lleno equivale a uno nuevo, así que se puede descartar sin cambiar el comportamiento.
+    // Si otro hilo ya está barriendo no se espera: este llamante usa el desborde
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (int i = 0; i < SWEEP_STEP; i++) {
+                if (sweepCursor == null || !sweepCursor.hasNext()) {
+                    sweepCursor = buckets.entrySet().iterator();
+                    if (!sweepCursor.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<String, TokenBucket> entry = sweepCursor.next();
+                if (entry.getValue().isFull(now) && buckets.remove(entry.getKey(), entry.getValue())) {
+                    tracked.decrementAndGet();
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private final class TokenBucket {
+
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+
+        synchronized long tryConsume(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+                lastRefill = now;
+            }
+        }
+    }
+}
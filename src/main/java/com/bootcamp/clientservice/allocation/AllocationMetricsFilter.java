@@ -0,0 +1,78 @@
+package com.bootcamp.clientservice.allocation;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bytes asignados en el heap por cada petición, por endpoint y clase de status, a partir del
+ * contador de asignación del hilo ({@link ThreadMXBean#getThreadAllocatedBytes(long)}).
+ * <p>
+ * Cuenta lo asignado en el hilo de Tomcat, incluida la serialización de la respuesta y el manejo
+ * de errores. En las peticiones asíncronas se suman el despacho inicial y el final; lo que corre
+ * en otros pools (p. ej. la consulta al servicio de cuentas) no entra.
+ */
+public class AllocationMetricsFilter extends OncePerRequestFilter {
+
+    static final String ALLOCATED_ATTRIBUTE = AllocationMetricsFilter.class.getName() + ".allocated";
+
+    private final ThreadMXBean threads;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public AllocationMetricsFilter(ThreadMXBean threads, MeterRegistry meterRegistry) {
+        this.threads = threads;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // También el despacho asíncrono, donde se escribe la respuesta de un CompletableFuture
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long threadId = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(threadId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long allocated = threads.getThreadAllocatedBytes(threadId) - start;
+            Object previous = request.getAttribute(ALLOCATED_ATTRIBUTE);
+            if (previous != null) {
+                allocated += (Long) previous;
+            }
+            if (request.isAsyncStarted()) {
+                request.setAttribute(ALLOCATED_ATTRIBUTE, allocated);
+            } else if (start >= 0) {
+                summary(request, response).record(allocated);
+            }
+        }
+    }
+
+    private DistributionSummary summary(HttpServletRequest request, HttpServletResponse response) {
+        // La ruta con plantilla sólo se conoce después de que Spring MVC resolvió el handler
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (route != null ? route : "UNMATCHED");
+        String status = response.getStatus() / 100 + "xx";
+        return summaries.computeIfAbsent(endpoint + '|' + status, key -> DistributionSummary
+                .builder("clients.http.allocated_bytes")
+                .description("Bytes asignados en el heap por petición")
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,21 @@
+package com.bootcamp.clientservice.audit;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Registra los eventos sólo cuando la transacción del servicio hizo commit: una operación
+ * revertida no queda auditada. Sin transacción activa se registra de inmediato.
+ */
+@RequiredArgsConstructor
+public class AuditEventListener {
+
+    private final AuditLog auditLog;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientChanged(ClientAuditEvent event) {
+        if (event.getOperation() != AuditOperation.UPDATE || event.hasChanges()) {
+            auditLog.append(event);
+        }
+    }
+}
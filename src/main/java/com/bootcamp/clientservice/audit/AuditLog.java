@@ -0,0 +1,201 @@
+package com.bootcamp.clientservice.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Auditoría append-only en archivos JSON por línea que rotan por tamaño.
+ * <p>
+ * Los hilos de petición sólo serializan y encolan en un ring buffer acotado; un único hilo escritor
+ * vacía lo acumulado en lotes, hace una escritura gather y un fsync por lote (group fsync).
+ * Si el buffer se llena, {@link #append(ClientAuditEvent)} bloquea: para auditoría se prefiere
+ * frenar al llamante antes que perder registros.
+ */
+@Slf4j
+public class AuditLog implements Closeable {
+
+    static final String FILE_PREFIX = "audit-";
+    static final String FILE_SUFFIX = ".jsonl";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxBatch;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Entry> ring;
+    private final Thread writer;
+
+    private final Counter records;
+    private final Counter failures;
+    private final Timer batchWrites;
+
+    private volatile boolean running = true;
+    private FileChannel channel;
+    private long fileBytes;
+    private int fileIndex;
+
+    public AuditLog(Path directory, int capacity, int maxBatch, long maxFileBytes,
+                    ObjectMapper objectMapper, MeterRegistry meterRegistry) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxFileBytes = maxFileBytes;
+        this.maxBatch = maxBatch;
+        this.objectMapper = objectMapper;
+        this.ring = new ArrayBlockingQueue<>(capacity);
+        this.records = Counter.builder("clients.audit.records").register(meterRegistry);
+        this.failures = Counter.builder("clients.audit.failures").register(meterRegistry);
+        this.batchWrites = Timer.builder("clients.audit.batch.write").register(meterRegistry);
+        Gauge.builder("clients.audit.queue", ring, BlockingQueue::size).register(meterRegistry);
+
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /** Encola el evento. Vuelve antes del fsync; usar {@link #flush()} para esperar a disco */
+    public void append(ClientAuditEvent event) {
+        byte[] line;
+        try {
+            line = objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException ex) {
+            failures.increment();
+            log.error("Could not serialize audit event for client {}: {}", event.getClientId(), ex.getMessage());
+            return;
+        }
+        enqueue(new Entry(line, null));
+    }
+
+    /** Bloquea hasta que todo lo encolado antes de esta llamada esté en disco */
+    public void flush() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        enqueue(new Entry(null, latch));
+        latch.await();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        if (!running) {
+            throw new IllegalStateException("Audit log is closed");
+        }
+        try {
+            ring.put(entry);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing audit record", ex);
+        }
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(maxBatch);
+        while (running || !ring.isEmpty()) {
+            try {
+                Entry first = ring.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                ring.drainTo(batch, maxBatch - 1);
+                batchWrites.record(() -> writeBatch(batch));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                for (Entry entry : batch) {
+                    if (entry.flushed != null) {
+                        entry.flushed.countDown();
+                    }
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<Entry> batch) {
+        List<ByteBuffer> buffers = new ArrayList<>(batch.size() * 2);
+        long bytes = 0;
+        int count = 0;
+        for (Entry entry : batch) {
+            if (entry.line != null) {
+                buffers.add(ByteBuffer.wrap(entry.line));
+                buffers.add(ByteBuffer.wrap(NEW_LINE));
+                bytes += entry.line.length + 1;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+
+        try {
+            if (channel == null || (fileBytes > 0 && fileBytes + bytes > maxFileBytes)) {
+                rotate();
+            }
+            ByteBuffer[] gather = buffers.toArray(new ByteBuffer[0]);
+            long remaining = bytes;
+            while (remaining > 0) {
+                remaining -= channel.write(gather);
+            }
+            channel.force(false);
+            fileBytes += bytes;
+            records.increment(count);
+        } catch (IOException ex) {
+            failures.increment(count);
+            log.error("Could not write {} audit records: {}", count, ex.getMessage(), ex);
+        }
+    }
+
+    private void rotate() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        // El índice desempata archivos creados en el mismo segundo y mantiene el orden lexicográfico
+        Path file = directory.resolve(String.format("%s%s-%04d%s",
+                FILE_PREFIX, LocalDateTime.now().format(FILE_TIMESTAMP), fileIndex++, FILE_SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileBytes = channel.size();
+        log.info("Audit log rotated to {}", file);
+    }
+
+    private static final class Entry {
+        private final byte[] line;
+        private final CountDownLatch flushed;
+
+        private Entry(byte[] line, CountDownLatch flushed) {
+            this.line = line;
+            this.flushed = flushed;
+        }
+    }
+}
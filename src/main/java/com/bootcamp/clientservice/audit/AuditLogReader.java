@@ -0,0 +1,77 @@
+package com.bootcamp.clientservice.audit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Lectura de la auditoría para revisiones de cumplimiento. Recorre los archivos en orden
+ * de creación y filtra por cliente y/o operación.
+ *
+ * java -cp client-service.jar -Dloader.main=com.bootcamp.clientservice.audit.AuditLogReader \
+ *     org.springframework.boot.loader.PropertiesLauncher logs/audit [clientId] [REGISTER|UPDATE|DELETE]
+ */
+public final class AuditLogReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private AuditLogReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: AuditLogReader <directory> [clientId|*] [operation]");
+            System.exit(2);
+        }
+        Long clientId = args.length > 1 && !"*".equals(args[1]) ? Long.valueOf(args[1]) : null;
+        AuditOperation operation = args.length > 2 ? AuditOperation.valueOf(args[2].toUpperCase()) : null;
+
+        for (JsonNode record : read(Paths.get(args[0]), clientId, operation)) {
+            System.out.println(record.toString());
+        }
+    }
+
+    /** Registros que cumplen los filtros; {@code null} en un filtro significa "cualquiera" */
+    public static List<JsonNode> read(Path directory, Long clientId, AuditOperation operation) throws IOException {
+        List<JsonNode> result = new ArrayList<>();
+        for (Path file : files(directory)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    JsonNode record = MAPPER.readTree(line);
+                    if (matches(record, clientId, operation)) {
+                        result.add(record);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean matches(JsonNode record, Long clientId, AuditOperation operation) {
+        return (clientId == null || clientId == record.path("clientId").asLong())
+                && (operation == null || operation.name().equals(record.path("operation").asText()));
+    }
+
+    private static List<Path> files(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                AuditLog.FILE_PREFIX + "*" + AuditLog.FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        return files;
+    }
+}
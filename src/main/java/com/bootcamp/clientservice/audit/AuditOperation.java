@@ -0,0 +1,7 @@
+package com.bootcamp.clientservice.audit;
+
+public enum AuditOperation {
+    REGISTER,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,74 @@
+package com.bootcamp.clientservice.audit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import com.bootcamp.clientservice.domain.Client;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Operación de escritura sobre un cliente, publicada por {@code ClientService} y persistida por {@link AuditLog}.
+ * Sólo lleva los campos que cambiaron, con su valor anterior y posterior.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClientAuditEvent {
+
+    private final String timestamp;
+    private final AuditOperation operation;
+    private final Long clientId;
+    private final List<FieldChange> changes;
+
+    public static ClientAuditEvent registered(Client client) {
+        return of(AuditOperation.REGISTER, client.getId(), Collections.emptyMap(), fieldsOf(client));
+    }
+
+    public static ClientAuditEvent updated(Long clientId, Map<String, String> before, Client after) {
+        return of(AuditOperation.UPDATE, clientId, before, fieldsOf(after));
+    }
+
+    public static ClientAuditEvent deleted(Client client) {
+        return of(AuditOperation.DELETE, client.getId(), fieldsOf(client), Collections.emptyMap());
+    }
+
+    /** Valores auditables de un cliente; se toma antes de modificar la entidad para tener el "antes" */
+    public static Map<String, String> fieldsOf(Client client) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("firstName", client.getFirstName());
+        fields.put("lastName", client.getLastName());
+        fields.put("dni", client.getDni());
+        fields.put("email", client.getEmail());
+        return fields;
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    private static ClientAuditEvent of(AuditOperation operation, Long clientId,
+                                       Map<String, String> before, Map<String, String> after) {
+        List<FieldChange> changes = new ArrayList<>();
+        for (String field : before.isEmpty() ? after.keySet() : before.keySet()) {
+            String oldValue = before.get(field);
+            String newValue = after.get(field);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new FieldChange(field, oldValue, newValue));
+            }
+        }
+        return new ClientAuditEvent(Instant.now().toString(), operation, clientId, changes);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FieldChange {
+        private final String field;
+        private final String before;
+        private final String after;
+    }
+}
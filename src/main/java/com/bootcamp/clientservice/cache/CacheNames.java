@@ -0,0 +1,10 @@
+package com.bootcamp.clientservice.cache;
+
+public final class CacheNames {
+
+    /** Clientes por id */
+    public static final String CLIENTS = "clients";
+
+    private CacheNames() {
+    }
+}
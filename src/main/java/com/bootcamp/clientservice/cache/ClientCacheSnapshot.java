@@ -0,0 +1,161 @@
+package com.bootcamp.clientservice.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import com.bootcamp.clientservice.domain.Client;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Snapshot del cache de clientes en un archivo mapeado en memoria:
+ * {@code [magic][formato][marca de agua][origen][cantidad][clientes...][crc32]}.
+ * La marca de agua es una secuencia del feed de cambios ya cubierta por el contenido: al arrancar
+ * sólo se aplican los cambios posteriores. El origen (URL de la base) evita restaurar el snapshot
+ * de otra base de datos.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ClientCacheSnapshot {
+
+    private static final int MAGIC = 0x434C4353;
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8;
+    private static final int CRC_BYTES = 4;
+    private static final long ABSENT = -1;
+
+    private final String source;
+    private final long watermark;
+    private final List<Client> clients;
+
+    public static ClientCacheSnapshot of(String source, long watermark, List<Client> clients) {
+        return new ClientCacheSnapshot(source, watermark, clients);
+    }
+
+    /** Escribe en un temporal y lo renombra: un lector nunca ve un snapshot a medio escribir */
+    public void writeTo(Path file) throws IOException {
+        List<byte[][]> encoded = new ArrayList<>(clients.size());
+        byte[] sourceBytes = utf8(source);
+        long size = HEADER_BYTES + stringBytes(sourceBytes) + 4 + CRC_BYTES;
+        for (Client client : clients) {
+            byte[][] fields = {
+                    utf8(client.getFirstName()), utf8(client.getLastName()), utf8(client.getDni()), utf8(client.getEmail())
+            };
+            size += 3 * 8;
+            for (byte[] field : fields) {
+                size += stringBytes(field);
+            }
+            encoded.add(fields);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Client cache snapshot too large: " + size + " bytes");
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC).putInt(FORMAT).putLong(watermark);
+            putString(buffer, sourceBytes);
+            buffer.putInt(clients.size());
+            for (int i = 0; i < clients.size(); i++) {
+                Client client = clients.get(i);
+                buffer.putLong(client.getId())
+                        .putLong(orAbsent(client.getVersion()))
+                        .putLong(orAbsent(client.getChangeSeq()));
+                for (byte[] field : encoded.get(i)) {
+                    putString(buffer, field);
+                }
+            }
+            buffer.putInt(checksum(buffer, buffer.position()));
+            buffer.force();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @throws IOException si el archivo está truncado, corrupto o es de otro formato
+     */
+    public static ClientCacheSnapshot readFrom(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + CRC_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid client cache snapshot size: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int end = (int) size - CRC_BYTES;
+            if (checksum(buffer, end) != buffer.getInt(end)) {
+                throw new IOException("Corrupted client cache snapshot: " + file);
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                throw new IOException("Unsupported client cache snapshot format: " + file);
+            }
+
+            long watermark = buffer.getLong();
+            String source = getString(buffer);
+            int count = buffer.getInt();
+            List<Client> clients = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                clients.add(Client.builder()
+                        .id(buffer.getLong())
+                        .version(nullIfAbsent(buffer.getLong()))
+                        .changeSeq(nullIfAbsent(buffer.getLong()))
+                        .firstName(getString(buffer))
+                        .lastName(getString(buffer))
+                        .dni(getString(buffer))
+                        .email(getString(buffer))
+                        .build());
+            }
+            return new ClientCacheSnapshot(source, watermark, clients);
+        }
+    }
+
+    private static int checksum(ByteBuffer buffer, int end) {
+        ByteBuffer body = buffer.duplicate();
+        body.position(0).limit(end);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    private static int stringBytes(byte[] value) {
+        return 2 + value.length;
+    }
+
+    // Los campos del cliente miden a lo sumo 150 caracteres, muy por debajo del límite de un short sin signo
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        buffer.putShort((short) value.length).put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static long orAbsent(Long value) {
+        return value != null ? value : ABSENT;
+    }
+
+    private static Long nullIfAbsent(long value) {
+        return value == ABSENT ? null : value;
+    }
+}
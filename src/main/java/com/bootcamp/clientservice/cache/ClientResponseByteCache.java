@@ -0,0 +1,96 @@
+package com.bootcamp.clientservice.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.dto.response.ClientResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Respuestas JSON de {@code GET /clientes/{id}} ya codificadas, por id y versión del cliente.
+ * En un acierto los bytes se copian del almacenamiento fuera del heap a un buffer por hilo y
+ * de ahí al output stream, sin pasar por el DTO ni por Jackson.
+ * <p>
+ * La versión en la clave hace que una entrada vieja nunca se sirva aunque la invalidación
+ * llegue tarde; {@link #evict(Long)} sólo libera el lugar antes.
+ */
+public class ClientResponseByteCache {
+
+    private final OffHeapByteStore identity;
+    /** null si no se guardan variantes comprimidas */
+    private final OffHeapByteStore gzip;
+    private final ObjectMapper objectMapper;
+    private final ThreadLocal<byte[]> scratch;
+
+    public ClientResponseByteCache(OffHeapByteStore identity, OffHeapByteStore gzip, ObjectMapper objectMapper) {
+        this.identity = identity;
+        this.gzip = gzip;
+        this.objectMapper = objectMapper;
+        int scratchSize = Math.max(identity.maxEntryBytes(), gzip != null ? gzip.maxEntryBytes() : 0);
+        this.scratch = ThreadLocal.withInitial(() -> new byte[scratchSize]);
+    }
+
+    /** Escribe la respuesta completa (headers y cuerpo) del cliente */
+    public void write(Client client, boolean acceptsGzip, HttpServletResponse response) throws IOException {
+        boolean compressed = acceptsGzip && gzip != null;
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        if (client.getVersion() == null) {
+            // Sin versión no hay forma de saber si lo guardado sigue vigente
+            writeBody(response, encode(client, compressed), compressed);
+            return;
+        }
+
+        OffHeapByteStore store = compressed ? gzip : identity;
+        byte[] buffer = scratch.get();
+        int length = store.read(client.getId(), client.getVersion(), buffer);
+        if (length >= 0) {
+            setLength(response, length, compressed);
+            response.getOutputStream().write(buffer, 0, length);
+            return;
+        }
+
+        byte[] body = encode(client, compressed);
+        store.put(client.getId(), client.getVersion(), body);
+        writeBody(response, body, compressed);
+    }
+
+    public void evict(Long clientId) {
+        identity.evict(clientId);
+        if (gzip != null) {
+            gzip.evict(clientId);
+        }
+    }
+
+    private byte[] encode(Client client, boolean compressed) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(ClientResponse.from(client));
+        if (!compressed) {
+            return json;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+            zip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeBody(HttpServletResponse response, byte[] body, boolean compressed) throws IOException {
+        setLength(response, body.length, compressed);
+        response.getOutputStream().write(body);
+    }
+
+    // Con Content-Encoding ya puesto, la compresión de Tomcat no vuelve a comprimir
+    private static void setLength(HttpServletResponse response, int length, boolean compressed) {
+        if (compressed) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(length);
+    }
+}
@@ -0,0 +1,21 @@
+package com.bootcamp.clientservice.cache;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.bootcamp.clientservice.audit.ClientAuditEvent;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Invalida los bytes de un cliente cuando {@code ClientService} lo modifica o elimina.
+ * Igual que la auditoría, actúa tras el commit: antes, una lectura concurrente podría volver
+ * a guardar la versión anterior.
+ */
+@RequiredArgsConstructor
+public class ClientResponseCacheEvictor {
+
+    private final ClientResponseByteCache cache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientChanged(ClientAuditEvent event) {
+        cache.evict(event.getClientId());
+    }
+}
@@ -0,0 +1,104 @@
+package com.bootcamp.clientservice.cache;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementación en memoria del nivel remoto, para un único nodo y para tests.
+ * Varios {@link TwoTierCacheManager} que comparten la misma instancia se comportan como
+ * réplicas conectadas al mismo servidor de cache. Cada cache admite como mucho
+ * {@code maxEntriesPerCache} claves; al llenarse descarta primero las vencidas.
+ */
+public class EmbeddedRemoteCacheTier implements RemoteCacheTier {
+
+    public static final int DEFAULT_MAX_ENTRIES_PER_CACHE = 100_000;
+
+    private final Map<String, Map<Object, VersionedValue>> caches = new ConcurrentHashMap<>();
+    private final List<Consumer<Invalidation>> subscribers = new CopyOnWriteArrayList<>();
+    private final int maxEntriesPerCache;
+    private final LongSupplier clock;
+
+    public EmbeddedRemoteCacheTier() {
+        this(DEFAULT_MAX_ENTRIES_PER_CACHE, System::currentTimeMillis);
+    }
+
+    public EmbeddedRemoteCacheTier(LongSupplier clock) {
+        this(DEFAULT_MAX_ENTRIES_PER_CACHE, clock);
+    }
+
+    public EmbeddedRemoteCacheTier(int maxEntriesPerCache, LongSupplier clock) {
+        this.maxEntriesPerCache = maxEntriesPerCache;
+        this.clock = clock;
+    }
+
+    @Override
+    public VersionedValue get(String cacheName, Object key) {
+        Map<Object, VersionedValue> entries = entries(cacheName);
+        VersionedValue value = entries.get(key);
+        if (value != null && value.isExpired(clock.getAsLong())) {
+            entries.remove(key, value);
+            return null;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean putIfNewer(String cacheName, Object key, VersionedValue value) {
+        long now = clock.getAsLong();
+        Map<Object, VersionedValue> entries = entries(cacheName);
+        makeRoom(entries, key, now);
+        VersionedValue stored = entries.compute(key,
+                (k, current) -> value.supersedes(current, now) ? value : current);
+        return stored == value;
+    }
+
+    @Override
+    public void put(String cacheName, Object key, VersionedValue value) {
+        Map<Object, VersionedValue> entries = entries(cacheName);
+        makeRoom(entries, key, clock.getAsLong());
+        entries.put(key, value);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        entries(cacheName).clear();
+    }
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        subscribers.forEach(subscriber -> subscriber.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    int size(String cacheName) {
+        return entries(cacheName).size();
+    }
+
+    // Igual que el near cache: primero las vencidas y, si no hay, cualquiera
+    private void makeRoom(Map<Object, VersionedValue> entries, Object key, long now) {
+        if (entries.size() < maxEntriesPerCache || entries.containsKey(key)) {
+            return;
+        }
+        if (entries.values().removeIf(v -> v.isExpired(now))) {
+            return;
+        }
+        Iterator<Object> keys = entries.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private Map<Object, VersionedValue> entries(String cacheName) {
+        return caches.computeIfAbsent(cacheName, k -> new ConcurrentHashMap<>());
+    }
+}
@@ -0,0 +1,17 @@
+package com.bootcamp.clientservice.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Mensaje de invalidación entre nodos; {@code key == null} invalida todo el cache */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class Invalidation {
+
+    private final String cacheName;
+    private final Object key;
+    private final long version;
+    private final String originNode;
+}
@@ -0,0 +1,177 @@
+package com.bootcamp.clientservice.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bytes por clave y versión en un único buffer directo (fuera del heap) usado como anillo:
+ * las escrituras se agregan al final y, al dar la vuelta, pisan las entradas más viejas (FIFO).
+ * En el heap sólo queda el índice; una lectura copia a un arreglo del llamante sin asignar memoria.
+ * <p>
+ * Las lecturas son optimistas ({@link StampedLock}) y sólo toman el lock si una escritura
+ * concurrente pudo haber pisado los bytes que estaban copiando.
+ */
+public class OffHeapByteStore {
+
+    private final String name;
+    private final ByteBuffer arena;
+    private final ByteBuffer writeView;
+    private final ThreadLocal<ByteBuffer> readViews;
+    private final int capacity;
+    private final int maxEntryBytes;
+    private final Map<Object, Slot> index = new ConcurrentHashMap<>();
+    private final ArrayDeque<Slot> writeOrder = new ArrayDeque<>();
+    private final StampedLock lock = new StampedLock();
+    private final Counter hits;
+    private final Counter misses;
+
+    /** Posición absoluta de la próxima escritura; el offset en el buffer es {@code head % capacity} */
+    private long head;
+
+    public OffHeapByteStore(String name, int capacity, int maxEntryBytes, MeterRegistry meterRegistry) {
+        if (capacity < 1 || maxEntryBytes < 1 || maxEntryBytes > capacity) {
+            throw new IllegalArgumentException("Invalid byte store size: capacity=" + capacity
+                    + ", maxEntryBytes=" + maxEntryBytes);
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.maxEntryBytes = maxEntryBytes;
+        this.arena = ByteBuffer.allocateDirect(capacity);
+        this.writeView = arena.duplicate();
+        // Cada hilo lee con su propia vista: comparten la memoria pero no la posición
+        this.readViews = ThreadLocal.withInitial(arena::duplicate);
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        Gauge.builder("clients.response_cache.entries", index, Map::size)
+                .tag("store", name)
+                .register(meterRegistry);
+        Gauge.builder("clients.response_cache.capacity_bytes", this, s -> s.capacity)
+                .tag("store", name)
+                .register(meterRegistry);
+    }
+
+    public int maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * Copia en {@code target} los bytes guardados para la clave si son de esa versión.
+     *
+     * @return la cantidad de bytes copiados, o -1 si no hay entrada vigente
+     */
+    public int read(Object key, long version, byte[] target) {
+        Slot slot = index.get(key);
+        if (slot == null || slot.version != version || slot.length > target.length) {
+            misses.increment();
+            return -1;
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        if (isLive(slot)) {
+            copy(slot, target);
+            if (lock.validate(stamp)) {
+                hits.increment();
+                return slot.length;
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            if (!isLive(slot)) {
+                index.remove(key, slot);
+                misses.increment();
+                return -1;
+            }
+            copy(slot, target);
+            hits.increment();
+            return slot.length;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** Entradas más grandes que {@code maxEntryBytes} no se guardan */
+    public void put(Object key, long version, byte[] bytes) {
+        if (bytes.length > maxEntryBytes) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int offset = (int) (head % capacity);
+            if (offset + bytes.length > capacity) {
+                // Una entrada nunca queda partida entre el final y el principio del buffer
+                head += capacity - offset;
+                offset = 0;
+            }
+            head += bytes.length;
+            dropOverwritten();
+
+            writeView.position(offset);
+            writeView.put(bytes);
+            Slot slot = new Slot(key, version, head - bytes.length, bytes.length);
+            writeOrder.addLast(slot);
+            index.put(key, slot);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Los bytes quedan en el buffer hasta que los pise una escritura, pero ya no se sirven */
+    public void evict(Object key) {
+        index.remove(key);
+    }
+
+    public void clear() {
+        index.clear();
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    // Las entradas que el anillo ya pisó (o está por pisar) salen del índice en orden de escritura
+    private void dropOverwritten() {
+        long oldestLive = head - capacity;
+        while (!writeOrder.isEmpty() && writeOrder.peekFirst().position < oldestLive) {
+            Slot overwritten = writeOrder.pollFirst();
+            index.remove(overwritten.key, overwritten);
+        }
+    }
+
+    private boolean isLive(Slot slot) {
+        return slot.position >= head - capacity;
+    }
+
+    private void copy(Slot slot, byte[] target) {
+        ByteBuffer view = readViews.get();
+        view.position((int) (slot.position % capacity));
+        view.get(target, 0, slot.length);
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("clients.response_cache.requests")
+                .tag("store", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class Slot {
+        private final Object key;
+        private final long version;
+        private final long position;
+        private final int length;
+
+        private Slot(Object key, long version, long position, int length) {
+            this.key = key;
+            this.version = version;
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
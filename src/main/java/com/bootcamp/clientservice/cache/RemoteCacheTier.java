@@ -0,0 +1,24 @@
+package com.bootcamp.clientservice.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Nivel compartido entre réplicas (p.ej. Redis) con canal pub/sub para invalidaciones.
+ * Las escrituras son condicionales a la versión para evitar repoblar con datos viejos.
+ */
+public interface RemoteCacheTier {
+
+    VersionedValue get(String cacheName, Object key);
+
+    /** Guarda el valor sólo si no hay uno más nuevo (o un tombstone de igual o mayor versión) */
+    boolean putIfNewer(String cacheName, Object key, VersionedValue value);
+
+    /** Guarda el valor sin condiciones; se usa para tombstones de borrado */
+    void put(String cacheName, Object key, VersionedValue value);
+
+    void clear(String cacheName);
+
+    void publish(Invalidation invalidation);
+
+    void subscribe(Consumer<Invalidation> subscriber);
+}
@@ -0,0 +1,204 @@
+package com.bootcamp.clientservice.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache de dos niveles: near cache local por nodo + nivel remoto compartido.
+ * <ul>
+ *   <li>Las escrituras ({@code @CachePut}) guardan la nueva versión en el nivel remoto y publican
+ *       una invalidación para que el resto de los nodos descarte versiones anteriores.</li>
+ *   <li>Los borrados ({@code @CacheEvict}) dejan un tombstone con TTL en ambos niveles.</li>
+ *   <li>Las entradas del nivel remoto vencen a los {@code remoteTtlMillis}: una clave que nadie
+ *       vuelve a escribir no queda ocupando el servidor de cache para siempre.</li>
+ *   <li>Una lectura lenta que intenta repoblar con una versión vieja es rechazada por el
+ *       tombstone o por la versión más nueva ya guardada.</li>
+ * </ul>
+ * No se cachean valores nulos.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final String nodeId;
+    private final RemoteCacheTier remote;
+    private final ToLongFunction<Object> versionOf;
+    private final int maxNearEntries;
+    private final long nearTtlMillis;
+    private final long remoteTtlMillis;
+    private final long tombstoneTtlMillis;
+    private final LongSupplier clock;
+    private final Map<Object, VersionedValue> near = new ConcurrentHashMap<>();
+
+    public TwoTierCache(String name, String nodeId, RemoteCacheTier remote, ToLongFunction<Object> versionOf,
+                        int maxNearEntries, long nearTtlMillis, long remoteTtlMillis, long tombstoneTtlMillis,
+                        LongSupplier clock) {
+        this.name = name;
+        this.nodeId = nodeId;
+        this.remote = remote;
+        this.versionOf = versionOf;
+        this.maxNearEntries = maxNearEntries;
+        this.nearTtlMillis = nearTtlMillis;
+        this.remoteTtlMillis = remoteTtlMillis;
+        this.tombstoneTtlMillis = tombstoneTtlMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return near;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long now = clock.getAsLong();
+        VersionedValue local = near.get(key);
+        if (local != null && !local.isTombstone() && !local.isExpired(now)) {
+            return new SimpleValueWrapper(local.getValue());
+        }
+
+        VersionedValue shared = remote.get(name, key);
+        if (shared == null || shared.isTombstone()) {
+            return null;
+        }
+        storeNear(key, VersionedValue.of(shared.getValue(), shared.getVersion(), now + nearTtlMillis), now);
+        return new SimpleValueWrapper(shared.getValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long version = versionOf.applyAsLong(value);
+
+        if (!remote.putIfNewer(name, key, VersionedValue.of(value, version, now + remoteTtlMillis))) {
+            log.debug("Discarded stale cache write for {}:{} (version {})", name, key, version);
+            return;
+        }
+        storeNear(key, VersionedValue.of(value, version, now + nearTtlMillis), now);
+        remote.publish(new Invalidation(name, key, version, nodeId));
+    }
+
+    @Override
+    public void evict(Object key) {
+        long now = clock.getAsLong();
+        remote.put(name, key, VersionedValue.tombstone(Long.MAX_VALUE, now + tombstoneTtlMillis));
+        near.put(key, VersionedValue.tombstone(Long.MAX_VALUE, now + tombstoneTtlMillis));
+        remote.publish(new Invalidation(name, key, Long.MAX_VALUE, nodeId));
+    }
+
+    @Override
+    public void clear() {
+        near.clear();
+        remote.clear(name);
+        remote.publish(new Invalidation(name, null, Long.MAX_VALUE, nodeId));
+    }
+
+    /** Invalidación recibida de otro nodo: descarta la entrada local si es más vieja que la versión anunciada */
+    void onInvalidation(Invalidation invalidation) {
+        if (nodeId.equals(invalidation.getOriginNode()) || !name.equals(invalidation.getCacheName())) {
+            return;
+        }
+        if (invalidation.getKey() == null) {
+            near.clear();
+            return;
+        }
+        long now = clock.getAsLong();
+        near.compute(invalidation.getKey(), (k, current) -> {
+            if (current != null && !current.isTombstone() && !current.isExpired(now)
+                    && current.getVersion() >= invalidation.getVersion()) {
+                return current;
+            }
+            return VersionedValue.tombstone(invalidation.getVersion(), now + tombstoneTtlMillis);
+        });
+    }
+
+    /**
+     * Carga un valor ya existente (p.ej. desde un snapshot al arrancar). A diferencia de {@link #put}
+     * no publica invalidación: no es un cambio, así que las demás réplicas no tienen nada que descartar.
+     */
+    public void warm(Object key, Object value) {
+        long now = clock.getAsLong();
+        long version = versionOf.applyAsLong(value);
+        if (remote.putIfNewer(name, key, VersionedValue.of(value, version, now + remoteTtlMillis))) {
+            storeNear(key, VersionedValue.of(value, version, now + nearTtlMillis), now);
+        }
+    }
+
+    /** Valores del near cache (sin tombstones), es decir lo que esta réplica leyó o escribió recientemente */
+    public Map<Object, Object> nearValues() {
+        Map<Object, Object> values = new LinkedHashMap<>();
+        near.forEach((key, value) -> {
+            if (!value.isTombstone()) {
+                values.put(key, value.getValue());
+            }
+        });
+        return values;
+    }
+
+    int nearSize() {
+        return near.size();
+    }
+
+    private void storeNear(Object key, VersionedValue value, long now) {
+        if (near.size() >= maxNearEntries && !near.containsKey(key)) {
+            evictOneNearEntry(now);
+        }
+        near.compute(key, (k, current) -> value.supersedes(current, now) ? value : current);
+    }
+
+    // Descarta primero entradas vencidas; si no hay, cualquiera (el near cache es sólo un atajo)
+    private void evictOneNearEntry(long now) {
+        if (near.values().removeIf(v -> v.isExpired(now))) {
+            return;
+        }
+        Iterator<Object> keys = near.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.bootcamp.clientservice.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/** Crea un {@link TwoTierCache} por nombre y les reparte las invalidaciones recibidas del nivel remoto */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final RemoteCacheTier remote;
+    private final ToLongFunction<Object> versionOf;
+    private final int maxNearEntries;
+    private final long nearTtlMillis;
+    private final long remoteTtlMillis;
+    private final long tombstoneTtlMillis;
+    private final LongSupplier clock;
+
+    public TwoTierCacheManager(RemoteCacheTier remote, ToLongFunction<Object> versionOf,
+                               int maxNearEntries, long nearTtlMillis, long remoteTtlMillis, long tombstoneTtlMillis) {
+        this(remote, versionOf, maxNearEntries, nearTtlMillis, remoteTtlMillis, tombstoneTtlMillis,
+                System::currentTimeMillis);
+    }
+
+    public TwoTierCacheManager(RemoteCacheTier remote, ToLongFunction<Object> versionOf, int maxNearEntries,
+                               long nearTtlMillis, long remoteTtlMillis, long tombstoneTtlMillis, LongSupplier clock) {
+        this.remote = remote;
+        this.versionOf = versionOf;
+        this.maxNearEntries = maxNearEntries;
+        this.nearTtlMillis = nearTtlMillis;
+        this.remoteTtlMillis = remoteTtlMillis;
+        this.tombstoneTtlMillis = tombstoneTtlMillis;
+        this.clock = clock;
+        remote.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(n, nodeId, remote, versionOf,
+                maxNearEntries, nearTtlMillis, remoteTtlMillis, tombstoneTtlMillis, clock));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private void onInvalidation(Invalidation invalidation) {
+        TwoTierCache cache = caches.get(invalidation.getCacheName());
+        if (cache != null) {
+            cache.onInvalidation(invalidation);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bootcamp.clientservice.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Valor cacheado junto con la versión de la entidad. Un tombstone marca la clave como
+ * invalidada hasta esa versión: cualquier valor más viejo que llegue después se descarta.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VersionedValue {
+
+    private final Object value;
+    private final long version;
+    private final boolean tombstone;
+    private final long expiresAtMillis;
+
+    public static VersionedValue of(Object value, long version, long expiresAtMillis) {
+        return new VersionedValue(value, version, false, expiresAtMillis);
+    }
+
+    public static VersionedValue tombstone(long version, long expiresAtMillis) {
+        return new VersionedValue(null, version, true, expiresAtMillis);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis > 0 && nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * true si este valor puede reemplazar a {@code current} sin volver a un estado anterior.
+     * Un tombstone de versión v admite valores de versión v o mayor; el de un borrado usa
+     * {@code Long.MAX_VALUE} y no admite ninguno hasta que vence.
+     */
+    public boolean supersedes(VersionedValue current, long nowMillis) {
+        return current == null || current.isExpired(nowMillis) || version >= current.version;
+    }
+}
@@ -0,0 +1,55 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import com.bootcamp.clientservice.admission.AdaptiveConcurrencyLimiter;
+import com.bootcamp.clientservice.admission.AdmissionControlFilter;
+import com.bootcamp.clientservice.admission.CallerRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig {
+
+    @Value("${admission.concurrency.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${admission.concurrency.min-limit:4}")
+    private int minLimit;
+
+    @Value("${admission.concurrency.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${admission.rate-limit.capacity:100}")
+    private int rateCapacity;
+
+    @Value("${admission.rate-limit.refill-per-second:50}")
+    private int refillPerSecond;
+
+    @Value("${admission.rate-limit.max-callers:10000}")
+    private int maxCallers;
+
+    @Value("${admission.rate-limit.trust-caller-header:false}")
+    private boolean trustCallerHeader;
+
+    @Bean
+    FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(ObjectMapper objectMapper,
+                                                                          MeterRegistry meterRegistry) {
+        AdmissionControlFilter filter = new AdmissionControlFilter(
+                () -> new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit),
+                new CallerRateLimiter(rateCapacity, refillPerSecond, maxCallers),
+                objectMapper,
+                meterRegistry,
+                trustCallerHeader);
+
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/clientes", "/clientes/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bootcamp.clientservice.config;
+
+import java.lang.management.ManagementFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import com.bootcamp.clientservice.allocation.AllocationMetricsFilter;
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "allocation.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class AllocationMetricsConfig {
+
+    // El más interno de los filtros: mide el trabajo de la petición, no el control de admisión ni la traza
+    @Bean
+    FilterRegistrationBean<AllocationMetricsFilter> allocationMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<AllocationMetricsFilter> registration = new FilterRegistrationBean<>(
+                new AllocationMetricsFilter(threadMXBean(), meterRegistry));
+        registration.addUrlPatterns("/clientes", "/clientes/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    private static ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof ThreadMXBean) || !((ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("Thread allocation counters are not supported by this JVM; "
+                    + "set allocation.metrics.enabled=false");
+        }
+        ThreadMXBean threads = (ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            log.info("Enabling thread allocated memory measurement for allocation metrics");
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+}
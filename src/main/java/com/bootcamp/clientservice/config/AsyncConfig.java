@@ -0,0 +1,64 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import io.opentelemetry.context.Context;
+
+/**
+ * Executor acotado para las operaciones que llaman al servicio de cuentas. Así un servicio de cuentas
+ * lento consume estos hilos y no los de Tomcat, que quedan libres para los GET.
+ * Con la cola llena se rechaza (503) en lugar de seguir acumulando trabajo.
+ * Los pools tienen tamaño fijo ({@code threads}) y cola corta: {@code ThreadPoolExecutor} sólo crea
+ * hilos por encima de los core cuando la cola ya está llena, así que un máximo mayor detrás de una
+ * cola larga nunca se usaba. Los hilos ociosos se liberan igual ({@code allowCoreThreadTimeOut}).
+ * Cada intento HTTP (el original y el de cobertura) corre en un executor aparte: quien espera
+ * la respuesta ocupa un hilo de {@link #ACCOUNTS_EXECUTOR} y no puede esperar en su propio pool.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String ACCOUNTS_EXECUTOR = "accountsExecutor";
+    public static final String ACCOUNTS_CALL_EXECUTOR = "accountsCallExecutor";
+
+    @Value("${accounts.executor.threads:32}")
+    private int threads;
+
+    @Value("${accounts.executor.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${accounts.call-executor.threads:64}")
+    private int callThreads;
+
+    @Value("${accounts.call-executor.queue-capacity:32}")
+    private int callQueueCapacity;
+
+    @Bean(ACCOUNTS_EXECUTOR)
+    ThreadPoolTaskExecutor accountsExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("accounts-io-");
+        // La traza de la petición continúa en el hilo del executor
+        executor.setTaskDecorator(task -> Context.current().wrap(task));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean(ACCOUNTS_CALL_EXECUTOR)
+    ThreadPoolTaskExecutor accountsCallExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(callThreads);
+        executor.setMaxPoolSize(callThreads);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(callQueueCapacity);
+        executor.setThreadNamePrefix("accounts-call-");
+        // Traza y deadline de la petición llegan a cada intento
+        executor.setTaskDecorator(task -> Context.current().wrap(task));
+        return executor;
+    }
+}
@@ -0,0 +1,41 @@
+package com.bootcamp.clientservice.config;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.bootcamp.clientservice.audit.AuditEventListener;
+import com.bootcamp.clientservice.audit.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(name = "audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditConfig {
+
+    @Value("${audit.directory:logs/audit}")
+    private String directory;
+
+    @Value("${audit.buffer-capacity:8192}")
+    private int bufferCapacity;
+
+    @Value("${audit.max-batch:512}")
+    private int maxBatch;
+
+    @Value("${audit.max-file-bytes:67108864}")
+    private long maxFileBytes;
+
+    // ObjectMapper propio: el del contexto lleva los serializadores de la API, no hacen falta aquí
+    @Bean(destroyMethod = "close")
+    AuditLog auditLog(MeterRegistry meterRegistry) throws IOException {
+        return new AuditLog(Paths.get(directory), bufferCapacity, maxBatch, maxFileBytes,
+                new ObjectMapper(), meterRegistry);
+    }
+
+    @Bean
+    AuditEventListener auditEventListener(AuditLog auditLog) {
+        return new AuditEventListener(auditLog);
+    }
+}
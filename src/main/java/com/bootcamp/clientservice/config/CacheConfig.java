@@ -0,0 +1,69 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import com.bootcamp.clientservice.cache.EmbeddedRemoteCacheTier;
+import com.bootcamp.clientservice.cache.RemoteCacheTier;
+import com.bootcamp.clientservice.cache.TwoTierCacheManager;
+import com.bootcamp.clientservice.domain.Client;
+
+/**
+ * El interceptor de cache se ordena por fuera del transaccional: {@code @CachePut}/{@code @CacheEvict}
+ * se aplican después del commit, cuando la versión de la entidad ya fue incrementada.
+ * <p>
+ * Con varias réplicas el cache sólo es coherente si comparten un {@link RemoteCacheTier} real;
+ * por eso está apagado por defecto y, si se enciende sin ninguno, el arranque falla. El nivel
+ * embebido ({@code clients.cache.remote.embedded=true}) sólo sirve para un único nodo y tests.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnProperty(name = "clients.cache.enabled", havingValue = "true")
+public class CacheConfig {
+
+    @Value("${clients.cache.near.max-entries:10000}")
+    private int maxNearEntries;
+
+    @Value("${clients.cache.near.ttl-ms:30000}")
+    private long nearTtlMillis;
+
+    @Value("${clients.cache.remote.ttl-ms:600000}")
+    private long remoteTtlMillis;
+
+    @Value("${clients.cache.remote.max-entries:100000}")
+    private int maxRemoteEntries;
+
+    @Value("${clients.cache.tombstone-ttl-ms:60000}")
+    private long tombstoneTtlMillis;
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "clients.cache.remote.embedded", havingValue = "true")
+    RemoteCacheTier remoteCacheTier() {
+        return new EmbeddedRemoteCacheTier(maxRemoteEntries, System::currentTimeMillis);
+    }
+
+    @Bean
+    CacheManager cacheManager(ObjectProvider<RemoteCacheTier> remoteCacheTier) {
+        RemoteCacheTier remote = remoteCacheTier.getIfAvailable();
+        if (remote == null) {
+            throw new IllegalStateException("clients.cache.enabled requires a RemoteCacheTier bean shared by all "
+                    + "replicas; set clients.cache.remote.embedded=true only for a single node");
+        }
+        return new TwoTierCacheManager(remote, CacheConfig::versionOf,
+                maxNearEntries, nearTtlMillis, remoteTtlMillis, tombstoneTtlMillis);
+    }
+
+    private static long versionOf(Object value) {
+        if (value instanceof Client && ((Client) value).getVersion() != null) {
+            return ((Client) value).getVersion();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Conversores binarios para llamadas entre servicios.
+ * Se construyen con el builder de Spring Boot para que Smile y CBOR compartan
+ * la misma configuración (módulos, fechas) que el JSON de los clientes externos.
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    @Bean
+    MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.smile().build());
+    }
+
+    @Bean
+    MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.cbor().build());
+    }
+}
@@ -0,0 +1,34 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import com.bootcamp.clientservice.deadline.DeadlineClientHttpRequestInterceptor;
+import com.bootcamp.clientservice.deadline.DeadlineFilter;
+
+@Configuration
+public class DeadlineConfig {
+
+    @Value("${deadline.default-ms:3000}")
+    private long defaultMillis;
+
+    @Value("${deadline.max-ms:10000}")
+    private long maxMillis;
+
+    // Después de la traza (el deadline se agrega a su Context) y antes del control de admisión
+    @Bean
+    FilterRegistrationBean<DeadlineFilter> deadlineFilter() {
+        FilterRegistrationBean<DeadlineFilter> registration =
+                new FilterRegistrationBean<>(new DeadlineFilter(defaultMillis, maxMillis));
+        registration.addUrlPatterns("/clientes", "/clientes/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    DeadlineClientHttpRequestInterceptor deadlineClientHttpRequestInterceptor() {
+        return new DeadlineClientHttpRequestInterceptor();
+    }
+}
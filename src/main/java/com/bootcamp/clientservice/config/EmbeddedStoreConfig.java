@@ -0,0 +1,47 @@
+package com.bootcamp.clientservice.config;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import com.bootcamp.clientservice.storage.ClientStore;
+import com.bootcamp.clientservice.storage.LogStructuredClientRepository;
+import com.bootcamp.clientservice.storage.StoreTransactionManager;
+
+/**
+ * Perfil {@code embedded-store}: clientes en el almacén log-structured local en lugar de MySQL.
+ * El perfil excluye DataSource/JPA/Flyway (ver application-embedded-store.yml), por lo que la
+ * cola de eliminaciones asíncronas no está disponible.
+ */
+@Configuration
+@Profile(EmbeddedStoreConfig.PROFILE)
+public class EmbeddedStoreConfig {
+
+    public static final String PROFILE = "embedded-store";
+
+    @Value("${clients.store.directory:data/clients}")
+    private String directory;
+
+    @Value("${clients.store.snapshot-every:10000}")
+    private int snapshotEvery;
+
+    @Bean(destroyMethod = "close")
+    ClientStore clientStore() throws IOException {
+        return ClientStore.open(Paths.get(directory), snapshotEvery);
+    }
+
+    @Bean
+    @Primary
+    LogStructuredClientRepository logStructuredClientRepository(ClientStore clientStore) {
+        return new LogStructuredClientRepository(clientStore);
+    }
+
+    @Bean
+    PlatformTransactionManager transactionManager() {
+        return new StoreTransactionManager();
+    }
+}
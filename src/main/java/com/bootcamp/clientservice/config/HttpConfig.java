@@ -1,13 +1,32 @@
 package com.bootcamp.clientservice.config;
 
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class HttpConfig {
+
+    @Value("${accounts.connect-timeout-ms:1000}")
+    private int connectTimeoutMillis;
+
+    @Value("${accounts.read-timeout-ms:2000}")
+    private int readTimeoutMillis;
+
     @Bean
-    RestTemplate restTemplate() {
-        return new RestTemplate();
+    RestTemplate restTemplate(ObjectProvider<ClientHttpRequestInterceptor> interceptors) {
+        // Sin timeouts una llamada colgada retiene su hilo indefinidamente
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(interceptors.orderedStream().collect(Collectors.toList()));
+        return restTemplate;
     }
 }
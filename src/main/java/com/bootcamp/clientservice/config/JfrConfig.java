@@ -0,0 +1,20 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.bootcamp.clientservice.jfr.ClientOperationEventAspect;
+
+/**
+ * Eventos JFR de negocio. Sin una grabación activa el costo es casi nulo; con
+ * {@code jfr.events.enabled=false} ni siquiera se interpone el aspecto sobre ClientService.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jfr.events.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig {
+
+    @Bean
+    ClientOperationEventAspect clientOperationEventAspect() {
+        return new ClientOperationEventAspect();
+    }
+}
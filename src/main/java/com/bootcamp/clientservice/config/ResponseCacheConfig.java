@@ -0,0 +1,43 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.bootcamp.clientservice.cache.ClientResponseByteCache;
+import com.bootcamp.clientservice.cache.ClientResponseCacheEvictor;
+import com.bootcamp.clientservice.cache.OffHeapByteStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache de respuestas ya serializadas de {@code GET /clientes/{id}}.
+ * Se usa el ObjectMapper del contexto para que los bytes sean idénticos a los de la ruta normal.
+ */
+@Configuration
+@ConditionalOnProperty(name = "clients.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Value("${clients.response-cache.capacity-bytes:16777216}")
+    private int capacityBytes;
+
+    @Value("${clients.response-cache.max-entry-bytes:4096}")
+    private int maxEntryBytes;
+
+    @Value("${clients.response-cache.gzip:false}")
+    private boolean gzip;
+
+    @Bean
+    ClientResponseByteCache clientResponseByteCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        OffHeapByteStore identity = new OffHeapByteStore("identity", capacityBytes, maxEntryBytes, meterRegistry);
+        OffHeapByteStore gzipped = gzip
+                ? new OffHeapByteStore("gzip", capacityBytes, maxEntryBytes, meterRegistry)
+                : null;
+        return new ClientResponseByteCache(identity, gzipped, objectMapper);
+    }
+
+    @Bean
+    ClientResponseCacheEvictor clientResponseCacheEvictor(ClientResponseByteCache clientResponseByteCache) {
+        return new ClientResponseCacheEvictor(clientResponseByteCache);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bootcamp.clientservice.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import com.bootcamp.clientservice.sharding.ShardDirectory;
+import com.bootcamp.clientservice.sharding.ShardedClientRepository;
+import com.bootcamp.clientservice.sharding.Shards;
+import com.bootcamp.clientservice.storage.StoreTransactionManager;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Perfil {@code sharded}: clientes repartidos en varias bases MySQL por hash del DNI, más una base
+ * de directorio (asignación de buckets, correos y secuencia de ids). Como en {@code embedded-store},
+ * el perfil excluye DataSource/JPA/Flyway (ver application-sharded.yml) y la cola de eliminaciones
+ * asíncronas no está disponible.
+ */
+@Configuration
+@Profile(ShardingConfig.PROFILE)
+public class ShardingConfig {
+
+    public static final String PROFILE = "sharded";
+
+    @Value("${clients.sharding.directory-url}")
+    private String directoryUrl;
+
+    /** El orden define el nombre de cada shard: se agregan al final, nunca se reordenan */
+    @Value("${clients.sharding.shard-urls}")
+    private List<String> shardUrls;
+
+    @Value("${clients.sharding.username:}")
+    private String username;
+
+    @Value("${clients.sharding.password:}")
+    private String password;
+
+    @Value("${clients.sharding.pool-size:10}")
+    private int poolSize;
+
+    @Bean(destroyMethod = "close")
+    HikariDataSource shardDirectoryDataSource() {
+        return dataSource(directoryUrl, "shard-directory");
+    }
+
+    @Bean
+    ShardDirectory shardDirectory(HikariDataSource shardDirectoryDataSource) {
+        return ShardDirectory.open(shardDirectoryDataSource);
+    }
+
+    @Bean(destroyMethod = "close")
+    Shards shards() {
+        List<DataSource> dataSources = new ArrayList<>();
+        for (int index = 0; index < shardUrls.size(); index++) {
+            dataSources.add(dataSource(shardUrls.get(index), Shards.name(index)));
+        }
+        return Shards.open(dataSources);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    ShardedClientRepository shardedClientRepository(ShardDirectory shardDirectory, Shards shards) {
+        return new ShardedClientRepository(shardDirectory, shards);
+    }
+
+    // Cada operación se confirma en su shard; no hay transacciones que abarquen varias bases
+    @Bean
+    PlatformTransactionManager transactionManager() {
+        return new StoreTransactionManager();
+    }
+
+    private HikariDataSource dataSource(String url, String poolName) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(poolSize);
+        return dataSource;
+    }
+}
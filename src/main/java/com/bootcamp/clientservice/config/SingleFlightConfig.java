@@ -0,0 +1,22 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.bootcamp.clientservice.singleflight.SingleFlightAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Agrupa las lecturas concurrentes idénticas marcadas con {@code @SingleFlight}
+ * ({@code ClientService.get}). {@code RestAccountsClient.hasAccounts} queda fuera a propósito:
+ * autoriza un borrado y cada llamada debe ver el estado de cuentas posterior a su inicio.
+ */
+@Configuration
+@ConditionalOnProperty(name = "singleflight.enabled", havingValue = "true", matchIfMissing = true)
+public class SingleFlightConfig {
+
+    @Bean
+    SingleFlightAspect singleFlightAspect(MeterRegistry meterRegistry) {
+        return new SingleFlightAspect(meterRegistry);
+    }
+}
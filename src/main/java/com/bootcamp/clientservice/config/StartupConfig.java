@@ -0,0 +1,23 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.bootcamp.clientservice.controller.ClientController;
+import com.bootcamp.clientservice.port.AccountsClient;
+import com.bootcamp.clientservice.service.ClientService;
+import com.bootcamp.clientservice.validation.ClientValidator;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Con lazy-initialization activa, el camino de las peticiones se sigue creando al arrancar
+     * para que la primera llamada no pague la inicialización de JPA y del controlador.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerRequestPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                ClientController.class, ClientService.class, ClientValidator.class, AccountsClient.class);
+    }
+}
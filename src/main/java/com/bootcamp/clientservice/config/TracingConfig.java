@@ -0,0 +1,111 @@
+package com.bootcamp.clientservice.config;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import com.bootcamp.clientservice.tracing.FileSpanExporter;
+import com.bootcamp.clientservice.tracing.RecordingSpanExporter;
+import com.bootcamp.clientservice.tracing.TracingAspect;
+import com.bootcamp.clientservice.tracing.TracingClientHttpRequestInterceptor;
+import com.bootcamp.clientservice.tracing.TracingFilter;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+/**
+ * Trazas con OpenTelemetry. El exportador se elige con {@code tracing.exporter}:
+ * {@code file} (JSON por línea, exportado en lotes fuera del hilo de la petición) o {@code memory}
+ * (últimos N spans, exportados de forma síncrona: sólo para tests y depuración).
+ * Se muestrea {@code tracing.sampler.ratio} de las trazas nuevas; si el llamante ya decidió
+ * (flag de {@code traceparent}) se respeta su decisión.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Value("${spring.application.name:client-service}")
+    private String serviceName;
+
+    @Value("${tracing.exporter:file}")
+    private String exporter;
+
+    @Value("${tracing.sampler.ratio:0.1}")
+    private double samplerRatio;
+
+    @Value("${tracing.memory.capacity:2048}")
+    private int memoryCapacity;
+
+    @Value("${tracing.file.path:target/traces/spans.jsonl}")
+    private String filePath;
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "memory")
+    RecordingSpanExporter recordingSpanExporter() {
+        return new RecordingSpanExporter(memoryCapacity);
+    }
+
+    @Bean
+    SdkTracerProvider sdkTracerProvider(ObjectProvider<RecordingSpanExporter> recordingSpanExporter)
+            throws IOException {
+        Resource resource = Resource.getDefault()
+                .merge(Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), serviceName)));
+        return SdkTracerProvider.builder()
+                .setResource(resource)
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(samplerRatio)))
+                .addSpanProcessor(spanProcessor(recordingSpanExporter))
+                .build();
+    }
+
+    private SpanProcessor spanProcessor(ObjectProvider<RecordingSpanExporter> recordingSpanExporter)
+            throws IOException {
+        if ("file".equalsIgnoreCase(exporter)) {
+            return BatchSpanProcessor.builder(new FileSpanExporter(Paths.get(filePath))).build();
+        }
+        if ("memory".equalsIgnoreCase(exporter)) {
+            return SimpleSpanProcessor.create(recordingSpanExporter.getObject());
+        }
+        throw new IllegalStateException("Unknown tracing exporter: " + exporter);
+    }
+
+    @Bean
+    OpenTelemetry openTelemetry(SdkTracerProvider sdkTracerProvider) {
+        return OpenTelemetrySdk.builder()
+                .setTracerProvider(sdkTracerProvider)
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+    }
+
+    @Bean
+    TracingAspect tracingAspect(OpenTelemetry openTelemetry) {
+        return new TracingAspect(openTelemetry);
+    }
+
+    @Bean
+    TracingClientHttpRequestInterceptor tracingClientHttpRequestInterceptor(OpenTelemetry openTelemetry) {
+        return new TracingClientHttpRequestInterceptor(openTelemetry);
+    }
+
+    // Antes del control de admisión, para que las peticiones rechazadas (429/503) también queden trazadas
+    @Bean
+    FilterRegistrationBean<TracingFilter> tracingFilter(OpenTelemetry openTelemetry) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(openTelemetry));
+        registration.addUrlPatterns("/clientes", "/clientes/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
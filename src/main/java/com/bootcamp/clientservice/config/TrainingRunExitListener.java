@@ -0,0 +1,24 @@
+package com.bootcamp.clientservice.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Corrida de entrenamiento para AppCDS (perfil Maven appcds): la aplicación termina apenas
+ * queda lista, así la JVM vuelca al archivo todas las clases cargadas durante el arranque.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "startup.training-run", havingValue = "true")
+public class TrainingRunExitListener {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exitAfterStartup(ApplicationReadyEvent event) {
+        log.info("Training run finished, exiting");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -1,17 +1,39 @@
 package com.bootcamp.clientservice.controller;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import com.bootcamp.clientservice.cache.ClientResponseByteCache;
 import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.domain.DeletionRequest;
 import com.bootcamp.clientservice.dto.request.CreateClientRequest;
 import com.bootcamp.clientservice.dto.request.PatchClientRequest;
 import com.bootcamp.clientservice.dto.request.UpdateClientRequest;
+import com.bootcamp.clientservice.dto.response.ClientChangesResponse;
 import com.bootcamp.clientservice.dto.response.ClientResponse;
+import com.bootcamp.clientservice.dto.response.ClientStatisticsResponse;
+import com.bootcamp.clientservice.dto.response.DeletionRequestResponse;
 import com.bootcamp.clientservice.exception.ErrorResponse;
+import com.bootcamp.clientservice.exception.FeatureUnavailableException;
+import com.bootcamp.clientservice.service.ClientAccessTracker;
+import com.bootcamp.clientservice.service.ClientAsyncService;
+import com.bootcamp.clientservice.service.ClientChangeFeed;
+import com.bootcamp.clientservice.service.ClientDeletionService;
 import com.bootcamp.clientservice.service.ClientService;
+import com.bootcamp.clientservice.service.ClientStatistics;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -29,7 +51,26 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("clientes")
 public class ClientController {
 
+    /** Media type de Smile (Spring no define una constante para él) */
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Atributo de las peticiones sintéticas de {@code WarmupRunner}, que no cuentan como acceso.
+     * Es un atributo y no un header: sólo se puede fijar en proceso, no desde la red
+     */
+    public static final String SYNTHETIC_REQUEST = ClientController.class.getName() + ".SYNTHETIC_REQUEST";
+
     private final ClientService clientService;
+    private final ClientAsyncService clientAsyncService;
+    private final ClientStatistics clientStatistics;
+    /** Ausente con el perfil embedded-store, que no tiene base relacional para la cola */
+    private final ObjectProvider<ClientDeletionService> clientDeletionService;
+    /** Ausente, igual que la cola, sin base relacional */
+    private final ObjectProvider<ClientChangeFeed> clientChangeFeed;
+    /** Ausente si {@code clients.response-cache.enabled=false} */
+    private final ObjectProvider<ClientResponseByteCache> responseCache;
+    /** Ausente sin base relacional, donde no hay archivado */
+    private final ObjectProvider<ClientAccessTracker> accessTracker;
 
     /**
      * Registrar un nuevo cliente
@@ -82,10 +123,23 @@ public class ClientController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
-    @GetMapping("/{id}")
-    public ResponseEntity<ClientResponse> get(@PathVariable Long id) {
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<ClientResponse> get(@PathVariable Long id, HttpServletRequest request,
+                                              HttpServletResponse response) throws IOException {
         log.info("Fetching client with ID: {}", id);
-        return ResponseEntity.ok(ClientResponse.from(clientService.get(id)));
+        Client client = clientService.get(id);
+        // Aquí y no en el servicio: las lecturas resueltas por el cache no llegan a ClientService.get
+        if (request.getAttribute(SYNTHETIC_REQUEST) == null) {
+            accessTracker.ifAvailable(tracker -> tracker.touch(id));
+        }
+        ClientResponseByteCache cache = responseCache.getIfAvailable();
+        if (cache != null && prefersJson(request)) {
+            // Bytes ya codificados directo al output stream; devolver null indica que la respuesta ya se escribió
+            cache.write(client, acceptsGzip(request), response);
+            return null;
+        }
+        return ResponseEntity.ok(ClientResponse.from(client));
     }
 
     /**
@@ -100,7 +154,8 @@ public class ClientController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE})
     public ResponseEntity<List<ClientResponse>> list() {
         log.info("Listing all clients");
         return ResponseEntity.ok(
@@ -110,6 +165,45 @@ public class ClientController {
         );
     }
 
+    /**
+     * Cambios posteriores a un token, para sincronizar réplicas sin volver a descargar todo
+     */
+    @Operation(summary = "Listar cambios de clientes posteriores a un token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de cambios en orden; next es el token siguiente",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ClientChangesResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Token o tamaño de página inválido",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "501", description = "Feed no disponible en este despliegue",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/changes", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<ClientChangesResponse> changes(@RequestParam(defaultValue = "0") long since,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        log.info("Listing client changes since {}", since);
+        return ResponseEntity.ok(ClientChangesResponse.from(changeFeed().changesSince(since, limit)));
+    }
+
+    /**
+     * Estadísticas mantenidas en memoria, sin contar sobre la tabla
+     */
+    @Operation(summary = "Obtener estadísticas de clientes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Total, altas y bajas por intervalo y dominios de correo",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ClientStatisticsResponse.class)))
+    })
+    @GetMapping(value = "/stats", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<ClientStatisticsResponse> stats() {
+        log.info("Fetching client statistics");
+        return ResponseEntity.ok(ClientStatisticsResponse.from(clientStatistics.snapshot()));
+    }
+
     /**
      * Actualizar cliente por ID
      */
@@ -199,13 +293,144 @@ public class ClientController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Cliente no encontrado",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Demasiadas verificaciones de cuentas en curso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "504", description = "El servicio de cuentas no respondió a tiempo",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public CompletableFuture<ResponseEntity<Void>> delete(@PathVariable Long id) {
         log.info("Deleting client with ID: {}", id);
-        clientService.deleteClient(id);
-        return ResponseEntity.noContent().build();
+        // Procesamiento asíncrono: el hilo de Tomcat se libera mientras se consulta el servicio de cuentas
+        return clientAsyncService.deleteClient(id)
+                .thenApply(ignored -> ResponseEntity.noContent().<Void>build());
+    }
+
+    /**
+     * Encolar eliminación de cliente (no espera al servicio de cuentas)
+     */
+    @Operation(summary = "Solicitar eliminación asíncrona de cliente por ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Eliminación encolada",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DeletionRequestResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Cliente no encontrado",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @DeleteMapping(value = "/{id}", params = "async=true")
+    public ResponseEntity<DeletionRequestResponse> deleteAsync(@PathVariable Long id) {
+        log.info("Queueing deletion of client with ID: {}", id);
+        DeletionRequest request = deletionService().requestDeletion(id);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/clientes/eliminaciones/{requestId}")
+                        .buildAndExpand(request.getId())
+                        .toUri())
+                .body(DeletionRequestResponse.from(request));
+    }
+
+    /**
+     * Consultar estado de una eliminación asíncrona
+     */
+    @Operation(summary = "Obtener estado de una solicitud de eliminación")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estado de la solicitud",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DeletionRequestResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Solicitud no encontrada",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/eliminaciones/{requestId}")
+    public ResponseEntity<DeletionRequestResponse> deletionStatus(@PathVariable Long requestId) {
+        log.info("Fetching deletion request with ID: {}", requestId);
+        return ResponseEntity.ok(DeletionRequestResponse.from(deletionService().getRequest(requestId)));
+    }
+
+    // Misma elección que haría la negociación de contenido: Smile y CBOR siguen por el converter
+    private static boolean prefersJson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+        MediaType.sortBySpecificityAndQuality(accepted);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)
+                    || type.isCompatibleWith(MediaType.parseMediaType(APPLICATION_SMILE_VALUE))) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * gzip aceptable según Accept-Encoding: listado con q &gt; 0, o cubierto por {@code *} sin aparecer
+     * explícitamente. {@code gzip;q=0} lo rechaza aunque haya un comodín; un q inválido cuenta como 0.
+     */
+    static boolean acceptsGzip(HttpServletRequest request) {
+        Double gzip = null;
+        Double wildcard = null;
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING))) {
+            for (String token : header.split(",")) {
+                String[] parts = token.split(";");
+                String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+                double quality = quality(parts);
+                if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                    gzip = gzip == null ? quality : Math.max(gzip, quality);
+                } else if (coding.equals("*")) {
+                    wildcard = quality;
+                }
+            }
+        }
+        Double effective = gzip != null ? gzip : wildcard;
+        return effective != null && effective > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    double quality = Double.parseDouble(parameter.substring(2).trim());
+                    return quality >= 0 && quality <= 1 ? quality : 0;
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private ClientChangeFeed changeFeed() {
+        ClientChangeFeed feed = clientChangeFeed.getIfAvailable();
+        if (feed == null) {
+            throw new FeatureUnavailableException("El feed de cambios no está disponible en este despliegue");
+        }
+        return feed;
+    }
+
+    private ClientDeletionService deletionService() {
+        ClientDeletionService service = clientDeletionService.getIfAvailable();
+        if (service == null) {
+            throw new FeatureUnavailableException("La eliminación asíncrona no está disponible en este despliegue");
+        }
+        return service;
     }
 }
@@ -0,0 +1,50 @@
+package com.bootcamp.clientservice.deadline;
+
+import java.util.concurrent.TimeUnit;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.ImplicitContextKeyed;
+
+/**
+ * Instante límite de la petición en curso. Viaja en el {@link Context} de OpenTelemetry, así que
+ * llega a los hilos de los executors que ya propagan la traza ({@code Context.current().wrap}).
+ */
+public final class Deadline implements ImplicitContextKeyed {
+
+    /** Presupuesto restante en milisegundos, enviado por el llamante y propagado a las llamadas salientes */
+    public static final String HEADER = "X-Deadline-Ms";
+
+    private static final ContextKey<Deadline> KEY = ContextKey.named("client-service-deadline");
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline after(long millis) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis)));
+    }
+
+    /** El deadline de la petición en curso, o null si la llamada no nace de una petición HTTP */
+    public static Deadline current() {
+        return Context.current().get(KEY);
+    }
+
+    public long remainingNanos() {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    @Override
+    public Context storeInContext(Context context) {
+        return context.with(KEY, this);
+    }
+}
@@ -0,0 +1,21 @@
+package com.bootcamp.clientservice.deadline;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/** Propaga al servicio remoto el presupuesto que le queda a la petición, para que no trabaje para una respuesta que nadie espera */
+public class DeadlineClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Deadline deadline = Deadline.current();
+        if (deadline != null) {
+            request.getHeaders().set(Deadline.HEADER, Long.toString(deadline.remainingMillis()));
+        }
+        return execution.execute(request, body);
+    }
+}
@@ -0,0 +1,9 @@
+package com.bootcamp.clientservice.deadline;
+
+/** El presupuesto de la petición se agotó antes de obtener respuesta de un servicio remoto */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
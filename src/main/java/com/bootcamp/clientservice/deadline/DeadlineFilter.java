@@ -0,0 +1,46 @@
+package com.bootcamp.clientservice.deadline;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Fija el deadline de cada petición a partir de {@link Deadline#HEADER}. Sin header se usa el
+ * presupuesto por defecto; un valor mayor al máximo se recorta para que un llamante no retenga hilos sin límite.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final long defaultMillis;
+    private final long maxMillis;
+
+    public DeadlineFilter(long defaultMillis, long maxMillis) {
+        if (defaultMillis < 1 || maxMillis < defaultMillis) {
+            throw new IllegalArgumentException("Invalid deadline budget: default=" + defaultMillis + ", max=" + maxMillis);
+        }
+        this.defaultMillis = defaultMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (Scope ignored = Deadline.after(budgetMillis(request.getHeader(Deadline.HEADER))).makeCurrent()) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    long budgetMillis(String header) {
+        if (header == null || header.isBlank()) {
+            return defaultMillis;
+        }
+        try {
+            return Math.max(0, Math.min(maxMillis, Long.parseLong(header.trim())));
+        } catch (NumberFormatException ex) {
+            return defaultMillis;
+        }
+    }
+}
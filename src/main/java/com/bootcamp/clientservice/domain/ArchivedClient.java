@@ -0,0 +1,107 @@
+package com.bootcamp.clientservice.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.*;
+import org.springframework.data.domain.Persistable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cliente inactivo movido fuera de {@code clients} por {@code ClientArchiver}.
+ * Conserva el id y la versión originales: para quien lo lee sigue siendo el mismo cliente.
+ */
+@AllArgsConstructor
+@Builder
+@Data
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "clients_archive",
+        indexes = {
+                @Index( name = "idx_clients_archive_email_unique",
+                        columnList = "email",
+                        unique = true),
+                @Index( name = "idx_clients_archive_dni_unique",
+                        columnList = "dni",
+                        unique = true)
+        }
+)
+public class ArchivedClient implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String firstName;
+
+    @Column(nullable = false, length = 100)
+    private String lastName;
+
+    @Column(nullable = false, length = 150)
+    private String email;
+
+    @Column(nullable = false)
+    private String dni;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Column(name = "last_accessed_at")
+    private LocalDateTime lastAccessedAt;
+
+    @Column(name = "last_modified_at")
+    private LocalDateTime lastModifiedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /** Con id asignado, sin esto {@code save()} haría un SELECT por fila antes de insertar */
+    @Transient
+    @Builder.Default
+    private boolean fresh = true;
+
+    public static ArchivedClient of(Client client, LocalDateTime archivedAt) {
+        return ArchivedClient.builder()
+                .id(client.getId())
+                .firstName(client.getFirstName())
+                .lastName(client.getLastName())
+                .email(client.getEmail())
+                .dni(client.getDni())
+                .version(client.getVersion() != null ? client.getVersion() : 0L)
+                .changeSeq(client.getChangeSeq())
+                .lastAccessedAt(client.getLastAccessedAt())
+                .lastModifiedAt(client.getLastModifiedAt())
+                .archivedAt(archivedAt)
+                .build();
+    }
+
+    public Client toClient() {
+        return Client.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .dni(dni)
+                .version(version)
+                .changeSeq(changeSeq)
+                .lastAccessedAt(lastAccessedAt)
+                .lastModifiedAt(lastModifiedAt)
+                .build();
+    }
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        fresh = false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bootcamp.clientservice.domain;
+
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contador del feed de cambios (una sola fila). Se incrementa con un UPDATE dentro de la
+ * transacción de cada escritura, cuyo lock de fila dura hasta el commit: así el orden de las
+ * secuencias coincide con el de los commits y un lector nunca ve la 6 antes que la 5.
+ */
+@AllArgsConstructor
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "client_change_sequence")
+public class ChangeSequence {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "seq_value", nullable = false)
+    private Long value;
+}
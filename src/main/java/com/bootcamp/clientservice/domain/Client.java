@@ -1,16 +1,18 @@
 package com.bootcamp.clientservice.domain;
 
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import com.bootcamp.clientservice.singleflight.SharedResult;
 import javax.persistence.*;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Data
 @Entity
 @NoArgsConstructor
@@ -22,10 +24,14 @@ import javax.validation.constraints.Size;
                         unique = true),
                 @Index( name = "idx_clients_dni_unique",
                         columnList = "dni",
-                        unique = true)
+                        unique = true),
+                @Index( name = "idx_clients_change_seq",
+                        columnList = "change_seq"),
+                @Index( name = "idx_clients_last_accessed",
+                        columnList = "last_accessed_at")
         }
 )
-public class Client {
+public class Client implements SharedResult<Client> {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -48,4 +54,25 @@ public class Client {
     @Size(min = 8, max = 12)
     @Column(nullable = false, unique = true)
     private String dni;
+
+    /** Versión para bloqueo optimista y para descartar entradas de cache desactualizadas */
+    @Version
+    private Long version;
+
+    /** Posición de la última modificación en el feed de cambios ({@code GET /clientes/changes}) */
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    /** Último acceso conocido (lectura o escritura); los accesos se registran en lote, ver {@code ClientAccessTracker} */
+    @Column(name = "last_accessed_at")
+    private LocalDateTime lastAccessedAt;
+
+    @Column(name = "last_modified_at")
+    private LocalDateTime lastModifiedAt;
+
+    /** Copia desacoplada con todos los campos; modificarla no afecta al original (ni al cache) */
+    @Override
+    public Client copy() {
+        return toBuilder().build();
+    }
 }
@@ -0,0 +1,26 @@
+package com.bootcamp.clientservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Entrada del feed de cambios: el estado actual del cliente, o {@code client == null} si fue eliminado */
+@Getter
+@AllArgsConstructor
+public class ClientChange {
+
+    private final long changeSeq;
+    private final Long clientId;
+    private final Client client;
+
+    public static ClientChange upserted(Client client) {
+        return new ClientChange(client.getChangeSeq(), client.getId(), client);
+    }
+
+    public static ClientChange deleted(ClientTombstone tombstone) {
+        return new ClientChange(tombstone.getChangeSeq(), tombstone.getClientId(), null);
+    }
+
+    public boolean isDeleted() {
+        return client == null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bootcamp.clientservice.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Marca de un cliente eliminado, para que el feed de cambios informe también los borrados */
+@AllArgsConstructor
+@Builder
+@Data
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "client_tombstones",
+        indexes = {
+                @Index( name = "idx_client_tombstones_change_seq",
+                        columnList = "change_seq")
+        }
+)
+public class ClientTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
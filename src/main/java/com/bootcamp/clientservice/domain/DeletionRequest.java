@@ -0,0 +1,57 @@
+package com.bootcamp.clientservice.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Solicitud de eliminación asíncrona de un cliente, persistida para sobrevivir reinicios */
+@AllArgsConstructor
+@Builder
+@Data
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "client_deletion_requests",
+        indexes = {
+                @Index( name = "idx_deletion_requests_status_next_attempt",
+                        columnList = "status, next_attempt_at"),
+                @Index( name = "idx_deletion_requests_client",
+                        columnList = "client_id")
+        }
+)
+public class DeletionRequest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeletionStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isFinished() {
+        return status == DeletionStatus.COMPLETED || status == DeletionStatus.REJECTED
+                || status == DeletionStatus.FAILED;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bootcamp.clientservice.domain;
+
+public enum DeletionStatus {
+    /** En cola, esperando al worker (o a su próximo reintento) */
+    PENDING,
+    /** Tomada por un worker; si el worker muere se retoma al vencer el lease */
+    IN_PROGRESS,
+    /** Cliente eliminado */
+    COMPLETED,
+    /** No se elimina: el cliente tiene cuentas activas */
+    REJECTED,
+    /** Se agotaron los reintentos contra el servicio de cuentas */
+    FAILED
+}
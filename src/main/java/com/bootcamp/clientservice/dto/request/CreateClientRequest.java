@@ -1,8 +1,8 @@
 package com.bootcamp.clientservice.dto.request;
 
-import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.Pattern;
+import com.bootcamp.clientservice.validation.ValidDni;
+import com.bootcamp.clientservice.validation.ValidEmail;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,11 +22,11 @@ public class CreateClientRequest {
     @NotBlank(message = "Last name is required")
     private String lastName;
 
-    @Pattern(regexp = "^[0-9]+$", message = "DNI must contain only digits")
+    @ValidDni
     @NotBlank(message = "DNI is required")
     private String dni;
 
     @NotBlank(message = "Email is required")
-    @Email(message = "Email must be valid")
+    @ValidEmail
     private String email;
 }
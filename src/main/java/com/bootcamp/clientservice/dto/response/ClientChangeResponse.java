@@ -0,0 +1,26 @@
+package com.bootcamp.clientservice.dto.response;
+
+import com.bootcamp.clientservice.domain.ClientChange;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClientChangeResponse {
+    private long seq;
+    private Long id;
+    private boolean deleted;
+    /** Estado actual del cliente; null si fue eliminado */
+    private ClientResponse client;
+
+    public static ClientChangeResponse from(ClientChange change) {
+        return new ClientChangeResponse(
+                change.getChangeSeq(),
+                change.getClientId(),
+                change.isDeleted(),
+                change.isDeleted() ? null : ClientResponse.from(change.getClient())
+        );
+    }
+}
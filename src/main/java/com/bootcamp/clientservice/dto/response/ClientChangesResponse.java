@@ -0,0 +1,26 @@
+package com.bootcamp.clientservice.dto.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import com.bootcamp.clientservice.service.ClientChangeFeed;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClientChangesResponse {
+    private List<ClientChangeResponse> changes;
+    /** Token para la próxima consulta ({@code since}) */
+    private long next;
+    private boolean hasMore;
+
+    public static ClientChangesResponse from(ClientChangeFeed.ChangePage page) {
+        return new ClientChangesResponse(
+                page.getChanges().stream().map(ClientChangeResponse::from).collect(Collectors.toList()),
+                page.getNext(),
+                page.isHasMore()
+        );
+    }
+}
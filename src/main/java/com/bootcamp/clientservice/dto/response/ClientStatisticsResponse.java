@@ -0,0 +1,46 @@
+package com.bootcamp.clientservice.dto.response;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import com.bootcamp.clientservice.service.ClientStatistics;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClientStatisticsResponse {
+    private long totalClients;
+    /** Última reconciliación contra la base (ISO-8601); null si todavía no hubo ninguna */
+    private String reconciledAt;
+    /** Altas y bajas por intervalo, del más antiguo al actual */
+    private List<Bucket> buckets;
+    /** Dominios de correo con más clientes, de mayor a menor */
+    private Map<String, Long> emailDomains;
+    private int distinctDomains;
+
+    public static ClientStatisticsResponse from(ClientStatistics.Snapshot snapshot) {
+        return new ClientStatisticsResponse(
+                snapshot.getTotalClients(),
+                snapshot.getReconciledAt() != null ? snapshot.getReconciledAt().toString() : null,
+                snapshot.getBuckets().stream().map(Bucket::from).collect(Collectors.toList()),
+                snapshot.getEmailDomains(),
+                snapshot.getDistinctDomains()
+        );
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Bucket {
+        private String start;
+        private long registrations;
+        private long deletions;
+
+        static Bucket from(ClientStatistics.BucketCounts counts) {
+            return new Bucket(counts.getStart().toString(), counts.getRegistrations(), counts.getDeletions());
+        }
+    }
+}
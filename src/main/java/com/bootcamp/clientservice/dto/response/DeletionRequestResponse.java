@@ -0,0 +1,33 @@
+package com.bootcamp.clientservice.dto.response;
+
+import java.time.LocalDateTime;
+import com.bootcamp.clientservice.domain.DeletionRequest;
+import com.bootcamp.clientservice.domain.DeletionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeletionRequestResponse {
+    private Long id;
+    private Long clientId;
+    private DeletionStatus status;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static DeletionRequestResponse from(DeletionRequest request) {
+        return new DeletionRequestResponse(
+                request.getId(),
+                request.getClientId(),
+                request.getStatus(),
+                request.getAttempts(),
+                request.getLastError(),
+                request.getCreatedAt(),
+                request.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.bootcamp.clientservice.exception;
+
+/** La funcionalidad existe pero no está habilitada en este despliegue (perfil o propiedad); se responde 501 */
+public class FeatureUnavailableException extends RuntimeException {
+
+    public FeatureUnavailableException(String message) {
+        super(message);
+    }
+}
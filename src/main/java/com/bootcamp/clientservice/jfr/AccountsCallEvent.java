@@ -0,0 +1,44 @@
+package com.bootcamp.clientservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(AccountsCallEvent.NAME)
+@Label("Accounts Call")
+@Category({"Client Service", "Outbound"})
+@Description("Llamada HTTP al servicio de cuentas")
+@StackTrace(false)
+public class AccountsCallEvent extends Event {
+
+    public static final String NAME = "com.bootcamp.clientservice.AccountsCall";
+
+    @Label("Client Id")
+    private long clientId;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("HTTP Status")
+    private int httpStatus;
+
+    @Label("Accounts")
+    private int accounts;
+
+    public AccountsCallEvent(Long clientId) {
+        this.clientId = clientId != null ? clientId : 0;
+    }
+
+    public void succeeded(int httpStatus, int accounts) {
+        this.outcome = "ok";
+        this.httpStatus = httpStatus;
+        this.accounts = accounts;
+    }
+
+    public void failed() {
+        this.outcome = "error";
+    }
+}
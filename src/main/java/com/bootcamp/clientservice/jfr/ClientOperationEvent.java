@@ -0,0 +1,30 @@
+package com.bootcamp.clientservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ClientOperationEvent.NAME)
+@Label("Client Operation")
+@Category({"Client Service", "Operations"})
+@Description("Operación de ClientService con su resultado y filas afectadas")
+@StackTrace(false)
+public class ClientOperationEvent extends Event {
+
+    public static final String NAME = "com.bootcamp.clientservice.ClientOperation";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Client Id")
+    long clientId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Rows")
+    int rows;
+}
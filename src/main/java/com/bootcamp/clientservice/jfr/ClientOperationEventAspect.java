@@ -0,0 +1,66 @@
+package com.bootcamp.clientservice.jfr;
+
+import java.util.Collection;
+import javax.validation.ValidationException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import com.bootcamp.clientservice.domain.Client;
+
+/**
+ * Emite un {@link ClientOperationEvent} por cada método público de {@code ClientService}.
+ * Si JFR no está grabando el evento, sólo se paga la comprobación de {@code isEnabled()}.
+ */
+@Aspect
+public class ClientOperationEventAspect {
+
+    @Around("execution(public * com.bootcamp.clientservice.service.ClientService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ClientOperationEvent event = new ClientOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.operation = joinPoint.getSignature().getName();
+        Object[] args = joinPoint.getArgs();
+        if (args.length > 0 && args[0] instanceof Long) {
+            event.clientId = (Long) args[0];
+        }
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            event.outcome = "ok";
+            event.rows = rows(result);
+            if (result instanceof Client && ((Client) result).getId() != null) {
+                event.clientId = ((Client) result).getId();
+            }
+            return result;
+        } catch (Throwable ex) {
+            event.outcome = outcome(ex);
+            throw ex;
+        } finally {
+            event.commit();
+        }
+    }
+
+    // void (delete) cuenta como una fila: si no hubo excepción, el borrado ocurrió
+    private static int rows(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        return 1;
+    }
+
+    private static String outcome(Throwable ex) {
+        if (ex instanceof ValidationException) {
+            return "invalid";
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return "rejected";
+        }
+        if (ex instanceof IllegalStateException) {
+            return "dependency_failure";
+        }
+        return "error";
+    }
+}
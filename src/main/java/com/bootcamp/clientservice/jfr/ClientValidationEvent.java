@@ -0,0 +1,39 @@
+package com.bootcamp.clientservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ClientValidationEvent.NAME)
+@Label("Client Validation")
+@Category({"Client Service", "Validation"})
+@Description("Validación de alta: en qué regla terminó y si llegó a consultar la base")
+@StackTrace(false)
+public class ClientValidationEvent extends Event {
+
+    public static final String NAME = "com.bootcamp.clientservice.ClientValidation";
+    public static final String OK = "ok";
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Database Queried")
+    private boolean queried;
+
+    public void outcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public void queried() {
+        this.queried = true;
+    }
+
+    /** Registra el motivo del rechazo y devuelve la excepción para lanzarla */
+    public <T extends RuntimeException> T reject(String reason, T exception) {
+        this.outcome = reason;
+        return exception;
+    }
+}
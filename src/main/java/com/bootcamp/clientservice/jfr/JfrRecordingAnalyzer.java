@@ -0,0 +1,110 @@
+package com.bootcamp.clientservice.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Resume una grabación JFR por operación de negocio: cantidad, tiempo total, promedio y máximo,
+ * agrupando los eventos propios del servicio por tipo, operación y resultado.
+ *
+ * java -XX:StartFlightRecording=filename=client-service.jfr,settings=profile -jar client-service.jar
+ * java -cp client-service.jar -Dloader.main=com.bootcamp.clientservice.jfr.JfrRecordingAnalyzer \
+ *     org.springframework.boot.loader.PropertiesLauncher client-service.jfr
+ */
+public final class JfrRecordingAnalyzer {
+
+    private static final String EVENT_PREFIX = "com.bootcamp.clientservice.";
+
+    private JfrRecordingAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrRecordingAnalyzer <recording.jfr>");
+            System.exit(2);
+        }
+        Map<String, Stats> summary = summarize(Paths.get(args[0]));
+        System.out.printf("%-55s %8s %12s %10s %10s %8s%n", "event / operation / outcome",
+                "count", "total ms", "avg ms", "max ms", "rows");
+        summary.forEach((key, stats) -> System.out.printf("%-55s %8d %12.1f %10.3f %10.3f %8d%n",
+                key, stats.count, millis(stats.totalNanos), millis(stats.totalNanos) / stats.count,
+                millis(stats.maxNanos), stats.rows));
+    }
+
+    /** Estadísticas por clave {@code Evento / operación / resultado}, ordenadas por clave */
+    public static Map<String, Stats> summarize(Path recording) throws IOException {
+        Map<String, Stats> summary = new TreeMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String type = event.getEventType().getName();
+            if (!type.startsWith(EVENT_PREFIX)) {
+                continue;
+            }
+            summary.computeIfAbsent(key(type.substring(EVENT_PREFIX.length()), event), k -> new Stats())
+                    .add(event.getDuration(), rows(event));
+        }
+        return summary;
+    }
+
+    private static String key(String type, RecordedEvent event) {
+        StringBuilder key = new StringBuilder(type);
+        if (event.hasField("operation")) {
+            key.append(" / ").append(event.getString("operation"));
+        }
+        if (event.hasField("outcome")) {
+            key.append(" / ").append(event.getString("outcome"));
+        }
+        return key.toString();
+    }
+
+    private static long rows(RecordedEvent event) {
+        if (event.hasField("rows")) {
+            return event.getInt("rows");
+        }
+        if (event.hasField("accounts")) {
+            return event.getInt("accounts");
+        }
+        return 0;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public static final class Stats {
+
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+
+        private void add(Duration duration, long eventRows) {
+            long nanos = duration.toNanos();
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            rows += eventRows;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+    }
+}
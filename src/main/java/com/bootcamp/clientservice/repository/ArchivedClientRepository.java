@@ -0,0 +1,33 @@
+package com.bootcamp.clientservice.repository;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.bootcamp.clientservice.domain.ArchivedClient;
+
+public interface ArchivedClientRepository extends JpaRepository<ArchivedClient, Long> {
+
+    /** Correo ocupado por un cliente activo o archivado, en una sola consulta */
+    @Query(value = "select count(*) from (select id from clients where email = :email "
+            + "union all select id from clients_archive where email = :email) used",
+            nativeQuery = true)
+    long countByEmailIncludingActive(@Param("email") String email);
+
+    /**
+     * Copia un archivado de vuelta a {@code clients} con su id y versión. Es nativo porque el id de
+     * {@code Client} es generado y {@code save()} le asignaría uno nuevo.
+     */
+    @Modifying
+    @Query(value = "insert into clients (id, first_name, last_name, email, dni, version, change_seq, "
+            + "last_accessed_at, last_modified_at) "
+            + "select id, first_name, last_name, email, dni, version, change_seq, :accessedAt, last_modified_at "
+            + "from clients_archive where id = :id",
+            nativeQuery = true)
+    int copyToClients(@Param("id") Long id, @Param("accessedAt") LocalDateTime accessedAt);
+
+    @Modifying
+    @Query("delete from ArchivedClient a where a.id = :id")
+    int deleteArchived(@Param("id") Long id);
+}
@@ -0,0 +1,18 @@
+package com.bootcamp.clientservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.bootcamp.clientservice.domain.ChangeSequence;
+
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequence, Long> {
+
+    /** Reserva {@code count} secuencias; el lock de la fila se mantiene hasta el commit */
+    @Modifying
+    @Query("update ChangeSequence s set s.value = s.value + :count where s.id = " + ChangeSequence.ID)
+    int increment(@Param("count") long count);
+
+    @Query("select s.value from ChangeSequence s where s.id = " + ChangeSequence.ID)
+    long current();
+}
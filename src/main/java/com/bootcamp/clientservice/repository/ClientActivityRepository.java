@@ -0,0 +1,25 @@
+package com.bootcamp.clientservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.Repository;
+import com.bootcamp.clientservice.domain.Client;
+
+/**
+ * Actividad de los clientes para el archivado, por el índice de {@code last_accessed_at}.
+ * Separado de {@link ClientRepository} porque sólo existe con la base relacional.
+ */
+public interface ClientActivityRepository extends Repository<Client, Long> {
+
+    List<Client> findByLastAccessedAtBeforeOrderByLastAccessedAtAsc(LocalDateTime cutoff, Pageable pageable);
+
+    /** Sin pasar por la entidad: un acceso no incrementa la versión ni invalida caches */
+    @Modifying
+    @Query("update Client c set c.lastAccessedAt = :accessedAt where c.id in :ids")
+    int touch(@Param("ids") Collection<Long> ids, @Param("accessedAt") LocalDateTime accessedAt);
+}
@@ -0,0 +1,15 @@
+package com.bootcamp.clientservice.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+import com.bootcamp.clientservice.domain.Client;
+
+/**
+ * Lectura del feed de cambios sobre {@code clients}, por el índice de {@code change_seq}.
+ * Separado de {@link ClientRepository} porque sólo existe con la base relacional.
+ */
+public interface ClientChangeRepository extends Repository<Client, Long> {
+
+    List<Client> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long since, Pageable pageable);
+}
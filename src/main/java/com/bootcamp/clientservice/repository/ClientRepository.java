@@ -1,7 +1,10 @@
 package com.bootcamp.clientservice.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.bootcamp.clientservice.domain.Client;
 
 public interface ClientRepository extends JpaRepository<Client, Long> {
@@ -9,4 +12,20 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     Optional<Client> findByDni(String dni);
     boolean existsByDni(String dni);
     boolean existsByEmail(String email);
+
+    /**
+     * Clientes que ya usan el DNI o el correo, en una sola consulta (a lo sumo uno por cada clave única).
+     * Incluye los archivados: un cliente inactivo sigue ocupando su DNI y su correo.
+     * La consulta es explícita; el nombre no describe una consulta derivada de Spring Data.
+     */
+    @Query(value = "select dni, email from clients where dni = :dni or email = :email "
+            + "union all select dni, email from clients_archive where dni = :dni or email = :email limit 2",
+            nativeQuery = true)
+    List<UniqueKeys> findUniqueKeyConflicts(@Param("dni") String dni, @Param("email") String email);
+
+    /** Proyección con sólo las columnas únicas, para no hidratar la entidad completa */
+    interface UniqueKeys {
+        String getDni();
+        String getEmail();
+    }
 }
@@ -0,0 +1,60 @@
+package com.bootcamp.clientservice.repository;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort;
+import com.bootcamp.clientservice.domain.Client;
+
+/**
+ * Orden en memoria equivalente a un {@link Sort} de Spring Data sobre {@link Client}, para las
+ * implementaciones de {@link ClientRepository} que no delegan el ORDER BY en una única base.
+ */
+public final class ClientSorting {
+
+    private ClientSorting() {
+    }
+
+    /** {@code null} si el orden no tiene propiedades */
+    public static Comparator<Client> comparator(Sort sort) {
+        Comparator<Client> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<Client> next = Comparator.comparing(property(order.getProperty()),
+                    Comparator.nullsFirst(Comparator.<Comparable<Object>>naturalOrder()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            result = result == null ? next : result.thenComparing(next);
+        }
+        return result;
+    }
+
+    private static Function<Client, Comparable<Object>> property(String name) {
+        Function<Client, ?> getter;
+        switch (name) {
+            case "id":
+                getter = Client::getId;
+                break;
+            case "firstName":
+                getter = Client::getFirstName;
+                break;
+            case "lastName":
+                getter = Client::getLastName;
+                break;
+            case "dni":
+                getter = Client::getDni;
+                break;
+            case "email":
+                getter = Client::getEmail;
+                break;
+            case "version":
+                getter = Client::getVersion;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown Client property for sorting: " + name);
+        }
+        Function<Client, ?> selected = getter;
+        @SuppressWarnings("unchecked")
+        Function<Client, Comparable<Object>> comparable = client -> (Comparable<Object>) selected.apply(client);
+        return comparable;
+    }
+}
@@ -0,0 +1,30 @@
+package com.bootcamp.clientservice.repository;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import com.bootcamp.clientservice.domain.Client;
+
+/**
+ * Agregados sobre {@code clients} y {@code clients_archive} para reconciliar las estadísticas mantenidas en memoria.
+ * Separado de {@link ClientRepository} porque las consultas son de la base relacional; el almacén embebido
+ * y el particionado lo implementan por su cuenta (sin archivo: los archivados cuentan 0).
+ */
+public interface ClientStatisticsRepository extends Repository<Client, Long> {
+
+    @Query("select lower(substring(c.email, locate('@', c.email) + 1)) as domain, count(c) as clients "
+            + "from Client c group by lower(substring(c.email, locate('@', c.email) + 1))")
+    List<DomainCount> countByEmailDomain();
+
+    @Query("select count(a) from ArchivedClient a")
+    long countArchived();
+
+    @Query("select lower(substring(a.email, locate('@', a.email) + 1)) as domain, count(a) as clients "
+            + "from ArchivedClient a group by lower(substring(a.email, locate('@', a.email) + 1))")
+    List<DomainCount> countArchivedByEmailDomain();
+
+    interface DomainCount {
+        String getDomain();
+        long getClients();
+    }
+}
@@ -0,0 +1,11 @@
+package com.bootcamp.clientservice.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import com.bootcamp.clientservice.domain.ClientTombstone;
+
+public interface ClientTombstoneRepository extends JpaRepository<ClientTombstone, Long> {
+
+    List<ClientTombstone> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long since, Pageable pageable);
+}
@@ -0,0 +1,32 @@
+package com.bootcamp.clientservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import com.bootcamp.clientservice.domain.DeletionRequest;
+import com.bootcamp.clientservice.domain.DeletionStatus;
+
+public interface DeletionRequestRepository extends JpaRepository<DeletionRequest, Long> {
+
+    Optional<DeletionRequest> findFirstByClientIdAndStatusIn(Long clientId, Collection<DeletionStatus> statuses);
+
+    /**
+     * Solicitudes listas para procesar, bloqueadas con SKIP LOCKED (lock timeout -2 en Hibernate)
+     * para que varias réplicas puedan tomar lotes distintos en paralelo.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select r from DeletionRequest r where r.status in :statuses and r.nextAttemptAt <= :now order by r.id")
+    List<DeletionRequest> findDue(@Param("statuses") Collection<DeletionStatus> statuses,
+                                  @Param("now") LocalDateTime now,
+                                  Pageable pageable);
+}
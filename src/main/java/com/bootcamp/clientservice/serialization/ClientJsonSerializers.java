@@ -0,0 +1,94 @@
+package com.bootcamp.clientservice.serialization;
+
+import java.io.IOException;
+import org.springframework.boot.jackson.JsonComponent;
+import com.bootcamp.clientservice.dto.response.ClientResponse;
+import com.bootcamp.clientservice.exception.ErrorResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Serializadores escritos a mano para los DTOs de mayor volumen.
+ * Evitan la introspección de beans y el acceso reflectivo por propiedad: cada campo se
+ * escribe directo al generador (que ya escribe sobre el output stream del servlet con
+ * buffers reciclados por Jackson) y los nombres de campo van pre-codificados.
+ * El orden y los nombres de los campos son los mismos que produce Jackson por defecto.
+ */
+@JsonComponent
+public class ClientJsonSerializers {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString DNI = new SerializedString("dni");
+    private static final SerializableString EMAIL = new SerializedString("email");
+
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString ERROR = new SerializedString("error");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString PATH = new SerializedString("path");
+
+    /** Módulo con los mismos serializadores, para ObjectMappers creados fuera de Spring (benchmarks, tests) */
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("ClientJsonSerializers");
+        module.addSerializer(ClientResponse.class, new ClientResponseSerializer());
+        module.addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+        return module;
+    }
+
+    public static class ClientResponseSerializer extends StdSerializer<ClientResponse> {
+
+        public ClientResponseSerializer() {
+            super(ClientResponse.class);
+        }
+
+        @Override
+        public void serialize(ClientResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(ID);
+            if (value.getId() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value.getId());
+            }
+            writeString(gen, FIRST_NAME, value.getFirstName());
+            writeString(gen, LAST_NAME, value.getLastName());
+            writeString(gen, DNI, value.getDni());
+            writeString(gen, EMAIL, value.getEmail());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+        public ErrorResponseSerializer() {
+            super(ErrorResponse.class);
+        }
+
+        @Override
+        public void serialize(ErrorResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            // La fecha respeta la configuración del mapper (ISO-8601 o timestamp numérico)
+            provider.defaultSerializeField("timestamp", value.getTimestamp(), gen);
+            gen.writeFieldName(STATUS);
+            gen.writeNumber(value.getStatus());
+            writeString(gen, ERROR, value.getError());
+            writeString(gen, MESSAGE, value.getMessage());
+            writeString(gen, PATH, value.getPath());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.bootcamp.clientservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import com.bootcamp.clientservice.config.EmbeddedStoreConfig;
+import com.bootcamp.clientservice.config.ShardingConfig;
+import com.bootcamp.clientservice.repository.ClientActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registro de lecturas para {@code last_accessed_at}. Escribir en cada lectura la convertiría en
+ * una escritura (y la mayoría ni llega a la base, las resuelve el cache): los ids leídos se juntan
+ * en memoria y se actualizan en lote cada {@code clients.archive.access-flush-ms}.
+ * Es aproximado a propósito; para el archivado alcanza con saber el día.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("!" + EmbeddedStoreConfig.PROFILE + " & !" + ShardingConfig.PROFILE)
+public class ClientAccessTracker {
+
+    private final ClientActivityRepository activityRepository;
+
+    private final Set<Long> accessed = ConcurrentHashMap.newKeySet();
+
+    @Value("${clients.archive.access-flush-batch:500}")
+    private int flushBatch;
+
+    public void touch(Long clientId) {
+        accessed.add(clientId);
+    }
+
+    @Scheduled(fixedDelayString = "${clients.archive.access-flush-ms:60000}")
+    @Transactional
+    public void flush() {
+        if (accessed.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> batch = new ArrayList<>(flushBatch);
+        int updated = 0;
+        for (Iterator<Long> it = accessed.iterator(); it.hasNext(); ) {
+            batch.add(it.next());
+            it.remove();
+            if (batch.size() == flushBatch) {
+                updated += activityRepository.touch(batch, now);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            updated += activityRepository.touch(batch, now);
+        }
+        log.debug("Recorded access for {} clients", updated);
+    }
+}
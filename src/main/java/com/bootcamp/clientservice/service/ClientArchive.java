@@ -0,0 +1,89 @@
+package com.bootcamp.clientservice.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.bootcamp.clientservice.config.EmbeddedStoreConfig;
+import com.bootcamp.clientservice.config.ShardingConfig;
+import com.bootcamp.clientservice.domain.ArchivedClient;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.repository.ArchivedClientRepository;
+import com.bootcamp.clientservice.repository.ClientActivityRepository;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Archivo de clientes inactivos ({@code clients_archive}). Mantiene chica la tabla caliente:
+ * índices, backups y {@code list()} sólo recorren clientes en uso, y {@code ClientService.get}
+ * sigue encontrando a los archivados. Los mueve {@link ClientArchiver} por lotes.
+ * Las escrituras (PUT, PATCH, DELETE) sobre un archivado primero lo restauran con {@link #restore}.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+@Profile("!" + EmbeddedStoreConfig.PROFILE + " & !" + ShardingConfig.PROFILE)
+public class ClientArchive {
+
+    private final ClientRepository clientRepository;
+    private final ClientActivityRepository activityRepository;
+    private final ArchivedClientRepository archivedClientRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<Client> find(Long id) {
+        return archivedClientRepository.findById(id).map(ArchivedClient::toClient);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean exists(Long id) {
+        return archivedClientRepository.existsById(id);
+    }
+
+    /** true si un cliente activo o archivado ya usa el correo; reemplaza a {@code existsByEmail} */
+    @Transactional(readOnly = true)
+    public boolean isEmailInUse(String email) {
+        return archivedClientRepository.countByEmailIncludingActive(email) > 0;
+    }
+
+    /**
+     * Devuelve un archivado a {@code clients} (mismo id y versión) y lo carga; vacío si no estaba archivado.
+     * Cuenta como acceso, así no vuelve al archivo en la siguiente pasada.
+     */
+    @Transactional
+    public Optional<Client> restore(Long id) {
+        if (archivedClientRepository.copyToClients(id, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        archivedClientRepository.deleteArchived(id);
+        log.info("Restored archived client {}", id);
+        return clientRepository.findById(id);
+    }
+
+    /**
+     * Mueve al archivo hasta {@code limit} clientes sin accesos desde {@code cutoff}, en una transacción.
+     * El borrado verifica la versión: si un cliente cambió mientras tanto, el lote entero se revierte.
+     *
+     * @return la cantidad de clientes archivados
+     */
+    @Transactional
+    public int archiveBatch(LocalDateTime cutoff, int limit) {
+        List<Client> cold = activityRepository.findByLastAccessedAtBeforeOrderByLastAccessedAtAsc(
+                cutoff, PageRequest.of(0, limit));
+        if (cold.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        archivedClientRepository.saveAll(cold.stream()
+                .map(client -> ArchivedClient.of(client, now))
+                .collect(Collectors.toList()));
+        clientRepository.deleteAll(cold);
+        log.debug("Archived {} clients inactive since {}", cold.size(), cutoff);
+        return cold.size();
+    }
+}
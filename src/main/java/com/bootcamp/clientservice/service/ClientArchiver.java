@@ -0,0 +1,75 @@
+package com.bootcamp.clientservice.service;
+
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import com.bootcamp.clientservice.config.EmbeddedStoreConfig;
+import com.bootcamp.clientservice.config.ShardingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Job de archivado: mueve a {@code clients_archive} los clientes sin accesos en
+ * {@code clients.archive.cold-after-days}, en lotes chicos para no mantener locks largos.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "clients.archive.enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!" + EmbeddedStoreConfig.PROFILE + " & !" + ShardingConfig.PROFILE)
+public class ClientArchiver {
+
+    private final ClientArchive archive;
+    private final ClientAccessTracker accessTracker;
+    private final long coldAfterDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter archived;
+
+    public ClientArchiver(ClientArchive archive,
+                          ClientAccessTracker accessTracker,
+                          MeterRegistry meterRegistry,
+                          @Value("${clients.archive.cold-after-days:365}") long coldAfterDays,
+                          @Value("${clients.archive.batch-size:500}") int batchSize,
+                          @Value("${clients.archive.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.archive = archive;
+        this.accessTracker = accessTracker;
+        this.coldAfterDays = coldAfterDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.archived = Counter.builder("clients.archive.archived")
+                .description("Clientes movidos a la tabla de archivo")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${clients.archive.delay-ms:3600000}",
+            initialDelayString = "${clients.archive.delay-ms:3600000}")
+    public void archiveInactive() {
+        // Los accesos pendientes primero: un cliente leído recién no debe salir de la tabla caliente
+        accessTracker.flush();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(coldAfterDays);
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved;
+            try {
+                moved = archive.archiveBatch(cutoff, batchSize);
+            } catch (OptimisticLockingFailureException ex) {
+                log.info("Archive batch skipped, a client changed while archiving: {}", ex.getMessage());
+                break;
+            }
+            total += moved;
+            archived.increment(moved);
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} clients inactive since {}", total, cutoff);
+        }
+    }
+}
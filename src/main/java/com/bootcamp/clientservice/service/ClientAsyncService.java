@@ -0,0 +1,57 @@
+package com.bootcamp.clientservice.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.bootcamp.clientservice.config.AsyncConfig;
+import com.bootcamp.clientservice.deadline.Deadline;
+import com.bootcamp.clientservice.deadline.DeadlineExceededException;
+import io.opentelemetry.context.Context;
+
+/**
+ * Operaciones de {@link ClientService} que llaman al servicio de cuentas, ejecutadas en el
+ * executor de I/O remoto para que el controller responda de forma asíncrona.
+ * El timeout corta la espera del cliente HTTP (el menor entre el configurado y el deadline de la petición).
+ * Ese mismo deadline viaja a la tarea: si vence mientras espera en la cola no se ejecuta, y
+ * {@link ClientService#deleteClient} lo vuelve a comprobar antes de borrar. Aun así un 504 significa
+ * "resultado desconocido": si vence entre esa comprobación y el commit el borrado sí ocurre.
+ */
+@Service
+public class ClientAsyncService {
+
+    private final ClientService clientService;
+    private final Executor executor;
+    private final long timeoutMillis;
+
+    public ClientAsyncService(ClientService clientService,
+                              @Qualifier(AsyncConfig.ACCOUNTS_EXECUTOR) Executor executor,
+                              @Value("${accounts.call-timeout-ms:3000}") long timeoutMillis) {
+        this.clientService = clientService;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException si el executor está saturado
+     */
+    public CompletableFuture<Void> deleteClient(Long id) {
+        Deadline deadline = deadline();
+        Runnable task = Context.current().with(deadline).wrap(() -> {
+            if (deadline.isExpired()) {
+                throw new DeadlineExceededException("Deadline exceeded before deleting client " + id);
+            }
+            clientService.deleteClient(id);
+        });
+        return CompletableFuture.runAsync(task, executor)
+                .orTimeout(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private Deadline deadline() {
+        Deadline configured = Deadline.after(timeoutMillis);
+        Deadline request = Deadline.current();
+        return request != null && request.remainingNanos() < configured.remainingNanos() ? request : configured;
+    }
+}
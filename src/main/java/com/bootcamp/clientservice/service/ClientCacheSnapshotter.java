@@ -0,0 +1,191 @@
+package com.bootcamp.clientservice.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import com.bootcamp.clientservice.cache.CacheNames;
+import com.bootcamp.clientservice.cache.ClientCacheSnapshot;
+import com.bootcamp.clientservice.cache.TwoTierCache;
+import com.bootcamp.clientservice.config.EmbeddedStoreConfig;
+import com.bootcamp.clientservice.config.ShardingConfig;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.domain.ClientChange;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reinicio en caliente del cache de clientes. Cada cierto intervalo (y al apagar) guarda en disco
+ * local los clientes del near cache; al arrancar los vuelve a cargar y aplica sólo los cambios del
+ * feed posteriores al snapshot, en lugar de repoblar el cache con una consulta por cliente.
+ * <p>
+ * La marca de agua de cada snapshot es la secuencia leída en el ciclo anterior: los {@code @CachePut}
+ * se aplican después del commit, y con un ciclo de margen todo cambio hasta esa secuencia ya llegó al cache.
+ * <p>
+ * Sin {@code clients.cache.enabled} no hay cache que guardar: encenderlo solo es un error de
+ * configuración y el arranque falla en lugar de dejar un snapshot que nunca se escribe.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "clients.cache.snapshot.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Profile("!" + EmbeddedStoreConfig.PROFILE + " & !" + ShardingConfig.PROFILE)
+public class ClientCacheSnapshotter implements ApplicationRunner, DisposableBean {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ClientChangeFeed changeFeed;
+    private final Path file;
+    private final String source;
+    private final int maxCatchUp;
+
+    private volatile Long coveredSequence;
+
+    public ClientCacheSnapshotter(ObjectProvider<CacheManager> cacheManager,
+                                  ClientChangeFeed changeFeed,
+                                  @Value("${clients.cache.snapshot.path:data/cache/clients.snapshot}") String path,
+                                  @Value("${spring.datasource.url:}") String source,
+                                  @Value("${clients.cache.snapshot.max-catch-up:50000}") int maxCatchUp,
+                                  @Value("${clients.cache.enabled:false}") boolean cacheEnabled) {
+        if (!cacheEnabled) {
+            throw new IllegalStateException("clients.cache.snapshot.enabled requires clients.cache.enabled=true");
+        }
+        this.cacheManager = cacheManager;
+        this.changeFeed = changeFeed;
+        this.file = Paths.get(path);
+        this.source = source;
+        this.maxCatchUp = maxCatchUp;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long current = changeFeed.currentSequence();
+        restore(current);
+        coveredSequence = current;
+    }
+
+    @Scheduled(fixedDelayString = "${clients.cache.snapshot.interval-ms:60000}",
+            initialDelayString = "${clients.cache.snapshot.interval-ms:60000}")
+    public void snapshot() {
+        TwoTierCache cache = clientsCache();
+        Long watermark = coveredSequence;
+        if (cache == null || watermark == null) {
+            return;
+        }
+        long next = changeFeed.currentSequence();
+        long start = System.nanoTime();
+
+        List<Client> clients = new ArrayList<>();
+        for (Object value : cache.nearValues().values()) {
+            if (value instanceof Client) {
+                clients.add((Client) value);
+            }
+        }
+        try {
+            ClientCacheSnapshot.of(source, watermark, clients).writeTo(file);
+            log.debug("Wrote client cache snapshot with {} clients (watermark {}) in {} ms",
+                    clients.size(), watermark, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException ex) {
+            log.warn("Could not write client cache snapshot {}: {}", file, ex.getMessage());
+        }
+        coveredSequence = next;
+    }
+
+    @Override
+    public void destroy() {
+        snapshot();
+    }
+
+    void restore(long currentSequence) {
+        TwoTierCache cache = clientsCache();
+        if (cache == null) {
+            return;
+        }
+        if (!Files.exists(file)) {
+            log.info("No client cache snapshot at {}, starting with a cold cache", file);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ClientCacheSnapshot snapshot;
+        try {
+            snapshot = ClientCacheSnapshot.readFrom(file);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unreadable client cache snapshot {}: {}", file, ex.getMessage());
+            return;
+        }
+        if (!source.equals(snapshot.getSource())) {
+            log.warn("Ignoring client cache snapshot taken from another database: {}", snapshot.getSource());
+            return;
+        }
+        if (snapshot.getWatermark() > currentSequence) {
+            log.warn("Ignoring client cache snapshot ahead of the database (watermark {}, current {})",
+                    snapshot.getWatermark(), currentSequence);
+            return;
+        }
+
+        Map<Long, Client> clients = new LinkedHashMap<>();
+        for (Client client : snapshot.getClients()) {
+            clients.put(client.getId(), client);
+        }
+        int applied = catchUp(clients, snapshot.getWatermark());
+        if (applied < 0) {
+            log.warn("Client cache snapshot is more than {} changes behind, starting with a cold cache", maxCatchUp);
+            return;
+        }
+
+        clients.forEach(cache::warm);
+        log.info("Restored {} cached clients from snapshot (watermark {}, {} changes applied) in {} ms",
+                clients.size(), snapshot.getWatermark(), applied,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Aplica los cambios posteriores a la marca de agua sobre los clientes del snapshot. Sólo se actualizan
+     * los que ya estaban: el snapshot representa lo que esta réplica tenía caliente, no la tabla entera.
+     *
+     * @return cambios recorridos, o -1 si superan {@code max-catch-up} (recorrerlos costaría más que arrancar en frío)
+     */
+    private int catchUp(Map<Long, Client> clients, long since) {
+        int applied = 0;
+        ClientChangeFeed.ChangePage page;
+        do {
+            page = changeFeed.changesSince(since, ClientChangeFeed.MAX_PAGE_SIZE);
+            for (ClientChange change : page.getChanges()) {
+                if (change.isDeleted()) {
+                    clients.remove(change.getClientId());
+                } else if (clients.containsKey(change.getClientId())) {
+                    clients.put(change.getClientId(), change.getClient());
+                }
+            }
+            applied += page.getChanges().size();
+            if (applied > maxCatchUp) {
+                return -1;
+            }
+            since = page.getNext();
+        } while (page.isHasMore());
+        return applied;
+    }
+
+    private TwoTierCache clientsCache() {
+        CacheManager manager = cacheManager.getIfAvailable();
+        Cache cache = manager != null ? manager.getCache(CacheNames.CLIENTS) : null;
+        return cache instanceof TwoTierCache ? (TwoTierCache) cache : null;
+    }
+}
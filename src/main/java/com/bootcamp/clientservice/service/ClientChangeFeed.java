@@ -0,0 +1,145 @@
+package com.bootcamp.clientservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javax.validation.ValidationException;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.bootcamp.clientservice.config.EmbeddedStoreConfig;
+import com.bootcamp.clientservice.config.ShardingConfig;
+import com.bootcamp.clientservice.domain.ChangeSequence;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.domain.ClientChange;
+import com.bootcamp.clientservice.domain.ClientTombstone;
+import com.bootcamp.clientservice.repository.ChangeSequenceRepository;
+import com.bootcamp.clientservice.repository.ClientChangeRepository;
+import com.bootcamp.clientservice.repository.ClientTombstoneRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feed incremental de cambios de clientes. Cada alta, modificación y baja toma una secuencia
+ * nueva; los consumidores piden "lo cambiado después de X" y el costo depende de cuánto cambió,
+ * no del tamaño de la tabla. Las bajas quedan como tombstones.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Profile("!" + EmbeddedStoreConfig.PROFILE + " & !" + ShardingConfig.PROFILE)
+public class ClientChangeFeed implements ApplicationRunner {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final ChangeSequenceRepository sequenceRepository;
+    private final ClientChangeRepository clientChangeRepository;
+    private final ClientTombstoneRepository tombstoneRepository;
+
+    /**
+     * Con Flyway la fila la crea V4; sin migraciones (ddl-auto) se crea al arrancar,
+     * antes que los demás runners (restauración del cache, calentamiento) que ya la usan.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!sequenceRepository.existsById(ChangeSequence.ID)) {
+            sequenceRepository.save(new ChangeSequence(ChangeSequence.ID, 0L));
+            log.info("Initialized client change sequence");
+        }
+    }
+
+    /**
+     * Secuencia para una escritura. Llamar lo más tarde posible dentro de la transacción
+     * (después de validaciones y llamadas remotas): desde aquí hasta el commit las demás
+     * escrituras de clientes esperan el lock de la secuencia.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long nextSequence() {
+        return reserve(1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(Long clientId) {
+        recordDeletions(List.of(clientId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletions(Collection<Long> clientIds) {
+        if (clientIds.isEmpty()) {
+            return;
+        }
+        long seq = reserve(clientIds.size()) - clientIds.size();
+        LocalDateTime now = LocalDateTime.now();
+        List<ClientTombstone> tombstones = new ArrayList<>(clientIds.size());
+        for (Long clientId : clientIds) {
+            tombstones.add(ClientTombstone.builder()
+                    .clientId(clientId)
+                    .changeSeq(++seq)
+                    .deletedAt(now)
+                    .build());
+        }
+        tombstoneRepository.saveAll(tombstones);
+    }
+
+    /** Última secuencia confirmada; todo cambio posterior aparecerá en {@code changesSince(currentSequence())} */
+    @Transactional(readOnly = true)
+    public long currentSequence() {
+        return sequenceRepository.findById(ChangeSequence.ID).map(ChangeSequence::getValue).orElse(0L);
+    }
+
+    /**
+     * Cambios con secuencia mayor a {@code since}, en orden. Se leen {@code limit + 1} filas de
+     * clientes y de tombstones (ambas por índice) y se combinan; la fila extra indica si hay más.
+     */
+    @Transactional(readOnly = true)
+    public ChangePage changesSince(long since, int limit) {
+        if (since < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException(
+                    "since must be >= 0 and limit between 1 and " + MAX_PAGE_SIZE);
+        }
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Client> clients = clientChangeRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, page);
+        List<ClientTombstone> tombstones = tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, page);
+
+        List<ClientChange> changes = new ArrayList<>(limit + 1);
+        int c = 0;
+        int t = 0;
+        while (changes.size() <= limit && (c < clients.size() || t < tombstones.size())) {
+            boolean takeClient = t == tombstones.size()
+                    || (c < clients.size() && clients.get(c).getChangeSeq() < tombstones.get(t).getChangeSeq());
+            changes.add(takeClient ? ClientChange.upserted(clients.get(c++)) : ClientChange.deleted(tombstones.get(t++)));
+        }
+
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes.remove(limit);
+        }
+        long next = changes.isEmpty() ? since : changes.get(changes.size() - 1).getChangeSeq();
+        return new ChangePage(changes, next, hasMore);
+    }
+
+    private long reserve(int count) {
+        if (sequenceRepository.increment(count) == 0) {
+            throw new IllegalStateException("Client change sequence is not initialized");
+        }
+        return sequenceRepository.current();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ChangePage {
+        private final List<ClientChange> changes;
+        /** Valor de {@code since} para la próxima consulta */
+        private final long next;
+        private final boolean hasMore;
+    }
+}
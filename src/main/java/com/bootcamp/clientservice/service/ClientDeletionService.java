@@ -0,0 +1,92 @@
+package com.bootcamp.clientservice.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.bootcamp.clientservice.config.EmbeddedStoreConfig;
+import com.bootcamp.clientservice.config.ShardingConfig;
+import com.bootcamp.clientservice.domain.DeletionRequest;
+import com.bootcamp.clientservice.domain.DeletionStatus;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.repository.DeletionRequestRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cola durable de eliminaciones. El alta es inmediata (sólo verifica que el cliente exista);
+ * la verificación de cuentas y el borrado los hace {@link DeletionWorker} en lotes.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+@Profile("!" + EmbeddedStoreConfig.PROFILE + " & !" + ShardingConfig.PROFILE)
+public class ClientDeletionService {
+
+    private static final Collection<DeletionStatus> OPEN = EnumSet.of(DeletionStatus.PENDING, DeletionStatus.IN_PROGRESS);
+
+    private final ClientRepository clientRepository;
+    private final DeletionRequestRepository deletionRequestRepository;
+    private final ClientService clientService;
+    private final ClientArchive clientArchive;
+
+    @Transactional
+    public DeletionRequest requestDeletion(Long clientId) {
+        log.info("Queueing deletion for client ID: {}", clientId);
+        // Un archivado también se puede borrar: ClientService.deleteApproved lo restaura antes
+        if (!clientRepository.existsById(clientId) && !clientArchive.exists(clientId)) {
+            log.warn("Client not found for deletion. ID: {}", clientId);
+            throw new IllegalArgumentException("Client not found");
+        }
+
+        // Idempotente: si ya hay una solicitud abierta para el cliente se devuelve esa
+        return deletionRequestRepository.findFirstByClientIdAndStatusIn(clientId, OPEN)
+                .orElseGet(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    return deletionRequestRepository.save(DeletionRequest.builder()
+                            .clientId(clientId)
+                            .status(DeletionStatus.PENDING)
+                            .attempts(0)
+                            .nextAttemptAt(now)
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .build());
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public DeletionRequest getRequest(Long requestId) {
+        return deletionRequestRepository.findById(requestId)
+                .orElseThrow(() -> new IllegalArgumentException("Deletion request not found"));
+    }
+
+    /** Toma un lote de solicitudes vencidas y las marca IN_PROGRESS por {@code leaseSeconds} */
+    @Transactional
+    public List<DeletionRequest> claimBatch(int batchSize, long leaseSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<DeletionRequest> batch = deletionRequestRepository.findDue(OPEN, now, PageRequest.of(0, batchSize));
+        batch.forEach(request -> {
+            request.setStatus(DeletionStatus.IN_PROGRESS);
+            request.setNextAttemptAt(now.plusSeconds(leaseSeconds));
+            request.setUpdatedAt(now);
+        });
+        return deletionRequestRepository.saveAll(batch);
+    }
+
+    /**
+     * Borra en un solo DELETE los clientes aprobados y guarda el nuevo estado de cada solicitud.
+     * El borrado pasa por {@link ClientService#deleteApproved}, así publica los mismos eventos que el síncrono.
+     */
+    @Transactional
+    public void completeBatch(List<DeletionRequest> processed, List<Long> clientIdsToDelete) {
+        if (!clientIdsToDelete.isEmpty()) {
+            clientService.deleteApproved(clientIdsToDelete);
+        }
+        deletionRequestRepository.saveAll(processed);
+        log.info("Deletion batch finished: {} requests, {} clients deleted", processed.size(), clientIdsToDelete.size());
+    }
+}
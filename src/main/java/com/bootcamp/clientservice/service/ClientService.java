@@ -1,14 +1,31 @@
 package com.bootcamp.clientservice.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.validation.ValidationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.bootcamp.clientservice.audit.ClientAuditEvent;
+import com.bootcamp.clientservice.cache.CacheNames;
+import com.bootcamp.clientservice.deadline.Deadline;
+import com.bootcamp.clientservice.deadline.DeadlineExceededException;
 import com.bootcamp.clientservice.domain.Client;
 import com.bootcamp.clientservice.dto.request.CreateClientRequest;
 import com.bootcamp.clientservice.port.AccountsClient;
 import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.singleflight.SingleFlight;
 import com.bootcamp.clientservice.validation.ClientValidator;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +38,9 @@ public class ClientService {
     private final ClientRepository clientRepository;
     private final AccountsClient accountsClient; // <<— DIP
     private final ClientValidator clientValidator; // <<- S — Single Responsibility
+    private final ApplicationEventPublisher eventPublisher; // auditoría, se escribe después del commit
+    private final ObjectProvider<ClientChangeFeed> changeFeed; // ausente sin base relacional (embedded-store, sharded)
+    private final ObjectProvider<ClientArchive> archive; // ídem
 
     @Transactional
     public Client register(CreateClientRequest req) {
@@ -33,15 +53,21 @@ public class ClientService {
 
         log.info("Attempting to register client with DNI: {}", client.getDni());
         clientValidator.validateNewClient(client);
+        client.setChangeSeq(nextChangeSequence());
+        touchModified(client);
         Client saved = clientRepository.save(client);
+        eventPublisher.publishEvent(ClientAuditEvent.registered(saved));
         log.info("Client registered successfully with ID: {}", saved.getId());
         return saved;
     }
 
+    @SingleFlight("clients.get")
+    @Cacheable(cacheNames = CacheNames.CLIENTS, key = "#id")
     @Transactional(readOnly = true)
     public Client get(Long id) {
         log.info("Fetching client with ID: {}", id);
         return clientRepository.findById(id)
+                .or(() -> findArchived(id))
                 .orElseThrow(() -> {
                     log.warn("Client not found with ID: {}", id);
                     return new IllegalArgumentException("Client not found");
@@ -54,48 +80,132 @@ public class ClientService {
         return clientRepository.findAll();
     }
 
+    @CachePut(cacheNames = CacheNames.CLIENTS, key = "#id")
     @Transactional
     public Client updateClient(Long id, String firstName, String lastName, String email) {
         log.info("Updating client with ID: {}", id);
-        Client client = clientRepository.findById(id)
+        Client client = findForWrite(id)
                 .orElseThrow(() -> {
                     log.warn("Client not found for update. ID: {}", id);
                     return new IllegalArgumentException("Client with ID " + id + " not found");
                 });
+        Map<String, String> before = ClientAuditEvent.fieldsOf(client);
+
+        // La consulta de unicidad va antes de tocar la entidad: con la entidad sucia Hibernate
+        // haría flush (un UPDATE y un incremento de versión de más) antes del SELECT
+        boolean emailChanged = email != null && !email.isBlank() && !email.equalsIgnoreCase(client.getEmail());
+        if (emailChanged && isEmailInUse(email)) {
+            log.warn("Email already in use: {}", email);
+            throw new IllegalArgumentException("Email is already in use");
+        }
 
         updateIfPresent(client::setFirstName, firstName);
         updateIfPresent(client::setLastName, lastName);
-
-        if (email != null && !email.isBlank() && !email.equalsIgnoreCase(client.getEmail())) {
-            if (clientRepository.existsByEmail(email)) {
-                log.warn("Email already in use: {}", email);
-                throw new IllegalArgumentException("Email is already in use");
-            }
+        if (emailChanged) {
             client.setEmail(email);
         }
 
+        client.setChangeSeq(nextChangeSequence());
+        touchModified(client);
         Client updated = clientRepository.save(client);
+        eventPublisher.publishEvent(ClientAuditEvent.updated(id, before, updated));
         log.info("Client updated successfully. ID: {}", updated.getId());
         return updated;
     }
 
+    @CacheEvict(cacheNames = CacheNames.CLIENTS, key = "#id")
     @Transactional
     public void deleteClient(Long id) {
         log.info("Attempting to delete client with ID: {}", id);
-        if (!clientRepository.existsById(id)) {
-            log.warn("Client not found for deletion. ID: {}", id);
-            throw new IllegalArgumentException("Client not found");
-        }
+        // findById + delete(entity): deleteById volvería a cargar la entidad antes de borrarla
+        Client client = findForWrite(id)
+                .orElseThrow(() -> {
+                    log.warn("Client not found for deletion. ID: {}", id);
+                    return new IllegalArgumentException("Client not found");
+                });
 
         if (accountsClient.hasAccounts(id)) { // <<-- Usando el puerto
             log.warn("Client has active accounts. Cannot delete. ID: {}", id);
             throw new ValidationException("Cannot delete client with active accounts");
         }
+        // Si la consulta de cuentas agotó el presupuesto el llamante ya recibió un 504: no se borra
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException("Deadline exceeded before deleting client " + id);
+        }
 
-        clientRepository.deleteById(id);
+        clientRepository.delete(client);
+        ClientChangeFeed feed = changeFeed.getIfAvailable();
+        if (feed != null) {
+            feed.recordDeletion(id);
+        }
+        eventPublisher.publishEvent(ClientAuditEvent.deleted(client));
         log.info("Client deleted successfully. ID: {}", id);
     }
 
+    /**
+     * Borra en un único DELETE clientes cuya eliminación ya fue aprobada (cuentas verificadas por
+     * {@code DeletionWorker}). Como {@link #deleteClient} deja la lápida en el feed de cambios y publica
+     * un {@link ClientAuditEvent} por cliente, del que cuelgan auditoría, estadísticas y cache de respuestas.
+     * El cache de entidades lo vacía el llamante: {@code @CacheEvict} no admite varias claves.
+     *
+     * @return ids efectivamente borrados (los que ya no existían se ignoran)
+     */
+    @Transactional
+    public List<Long> deleteApproved(Collection<Long> ids) {
+        List<Client> clients = new ArrayList<>(clientRepository.findAllById(ids));
+        if (clients.size() < ids.size()) {
+            Set<Long> found = clients.stream().map(Client::getId).collect(Collectors.toSet());
+            ids.stream().filter(id -> !found.contains(id)).forEach(id -> restoreArchived(id).ifPresent(clients::add));
+        }
+        if (clients.isEmpty()) {
+            return List.of();
+        }
+        List<Long> deleted = clients.stream().map(Client::getId).collect(Collectors.toList());
+        clientRepository.deleteAllByIdInBatch(deleted);
+        ClientChangeFeed feed = changeFeed.getIfAvailable();
+        if (feed != null) {
+            feed.recordDeletions(deleted);
+        }
+        clients.forEach(client -> eventPublisher.publishEvent(ClientAuditEvent.deleted(client)));
+        log.info("Deleted {} approved clients", deleted.size());
+        return deleted;
+    }
+
+    // Después de validar y de las llamadas remotas: la secuencia queda bloqueada hasta el commit
+    private Long nextChangeSequence() {
+        ClientChangeFeed feed = changeFeed.getIfAvailable();
+        return feed != null ? feed.nextSequence() : null;
+    }
+
+    // Un cliente archivado no está en la tabla caliente pero sigue existiendo para las lecturas
+    private Optional<Client> findArchived(Long id) {
+        ClientArchive clientArchive = archive.getIfAvailable();
+        return clientArchive != null ? clientArchive.find(id) : Optional.empty();
+    }
+
+    // Escribir sobre un archivado lo devuelve primero a la tabla caliente; desde ahí sigue el camino normal
+    private Optional<Client> findForWrite(Long id) {
+        return clientRepository.findById(id).or(() -> restoreArchived(id));
+    }
+
+    private Optional<Client> restoreArchived(Long id) {
+        ClientArchive clientArchive = archive.getIfAvailable();
+        return clientArchive != null ? clientArchive.restore(id) : Optional.empty();
+    }
+
+    // Con archivo, una sola consulta cubre ambas tablas
+    private boolean isEmailInUse(String email) {
+        ClientArchive clientArchive = archive.getIfAvailable();
+        return clientArchive != null ? clientArchive.isEmailInUse(email) : clientRepository.existsByEmail(email);
+    }
+
+    private static void touchModified(Client client) {
+        LocalDateTime now = LocalDateTime.now();
+        client.setLastModifiedAt(now);
+        client.setLastAccessedAt(now);
+    }
+
     private void updateIfPresent(Consumer<String> setter, String value) {
         if (value != null && !value.isBlank()) setter.accept(value.trim());
     }
@@ -0,0 +1,274 @@
+package com.bootcamp.clientservice.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.bootcamp.clientservice.audit.AuditOperation;
+import com.bootcamp.clientservice.audit.ClientAuditEvent;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.repository.ClientStatisticsRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Estadísticas de clientes mantenidas en memoria: total, altas y bajas por intervalo de tiempo
+ * y distribución de dominios de correo. Se actualizan con cada escritura de {@code ClientService}
+ * (después del commit) y se leen en tiempo constante, sin {@code count(*)} sobre la tabla.
+ * <p>
+ * Cada cierto intervalo el total y los dominios se reconcilian contra la base: corrigen lo que
+ * no pasa por el servicio (bajas del worker asíncrono, escrituras de otra instancia). Los dominios
+ * sólo se reconcilian con un {@link ClientStatisticsRepository}, que los agrega sin leer clientes. Los
+ * intervalos de altas y bajas son de esta instancia y no se reconcilian: la tabla no guarda fechas.
+ */
+@Slf4j
+@Service
+public class ClientStatistics implements ApplicationRunner {
+
+    private final ClientRepository clientRepository;
+    private final ObjectProvider<ClientStatisticsRepository> statisticsRepository;
+    private final long bucketMillis;
+    private final int maxDomains;
+    private final LongSupplier clock;
+    private final Bucket[] buckets;
+    private final DistributionSummary drift;
+
+    // Todo el estado se modifica bajo el lock de la instancia: las escrituras son pocas operaciones
+    private long total;
+    private Map<String, Long> domains = new HashMap<>();
+    private Instant reconciledAt;
+    /** Cambios aplicados mientras corre una reconciliación, que la consulta a la base puede no ver */
+    private Delta pending;
+
+    @Autowired
+    public ClientStatistics(ClientRepository clientRepository,
+                            ObjectProvider<ClientStatisticsRepository> statisticsRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${clients.stats.bucket-minutes:60}") int bucketMinutes,
+                            @Value("${clients.stats.buckets:24}") int bucketCount,
+                            @Value("${clients.stats.max-domains:50}") int maxDomains) {
+        this(clientRepository, statisticsRepository, meterRegistry, bucketMinutes, bucketCount, maxDomains,
+                System::currentTimeMillis);
+    }
+
+    ClientStatistics(ClientRepository clientRepository,
+                     ObjectProvider<ClientStatisticsRepository> statisticsRepository,
+                     MeterRegistry meterRegistry, int bucketMinutes, int bucketCount, int maxDomains,
+                     LongSupplier clock) {
+        if (bucketMinutes < 1 || bucketCount < 1) {
+            throw new IllegalArgumentException("Invalid statistics buckets: minutes=" + bucketMinutes
+                    + ", count=" + bucketCount);
+        }
+        this.clientRepository = clientRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.bucketMillis = TimeUnit.MINUTES.toMillis(bucketMinutes);
+        this.maxDomains = maxDomains;
+        this.clock = clock;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+        Gauge.builder("clients.stats.total", this, ClientStatistics::totalClients)
+                .register(meterRegistry);
+        this.drift = DistributionSummary.builder("clients.stats.reconcile.drift")
+                .description("Diferencia absoluta entre el total mantenido y el de la base")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcile();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onClientChanged(ClientAuditEvent event) {
+        ClientAuditEvent.FieldChange email = emailChange(event);
+        if (event.getOperation() == AuditOperation.REGISTER) {
+            apply(1, null, email != null ? email.getAfter() : null);
+            currentBucket().registrations++;
+        } else if (event.getOperation() == AuditOperation.DELETE) {
+            apply(-1, email != null ? email.getBefore() : null, null);
+            currentBucket().deletions++;
+        } else if (email != null) {
+            apply(0, email.getBefore(), email.getAfter());
+        }
+    }
+
+    /** Recalcula el total y los dominios desde la base, conservando lo que cambió mientras se consultaba */
+    @Scheduled(fixedDelayString = "${clients.stats.reconcile-ms:300000}",
+            initialDelayString = "${clients.stats.reconcile-ms:300000}")
+    public void reconcile() {
+        Delta delta = new Delta();
+        synchronized (this) {
+            pending = delta;
+        }
+
+        long counted;
+        Map<String, Long> countedDomains;
+        try {
+            counted = clientRepository.count() + countArchived();
+            countedDomains = countDomains();
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                pending = null;
+            }
+            log.warn("Could not reconcile client statistics: {}", ex.getMessage());
+            return;
+        }
+
+        long difference;
+        synchronized (this) {
+            pending = null;
+            counted += delta.total;
+            if (countedDomains != null) {
+                delta.domains.forEach((domain, change) -> addTo(countedDomains, domain, change));
+            }
+            difference = total - counted;
+            total = counted;
+            if (countedDomains != null) {
+                domains = countedDomains;
+            }
+            reconciledAt = Instant.ofEpochMilli(clock.getAsLong());
+        }
+        drift.record(Math.abs(difference));
+        if (difference != 0) {
+            log.info("Client statistics reconciled, total drifted by {}", difference);
+        }
+    }
+
+    public synchronized long totalClients() {
+        return total;
+    }
+
+    public synchronized Snapshot snapshot() {
+        long current = clock.getAsLong() / bucketMillis;
+        List<BucketCounts> counts = new ArrayList<>(buckets.length);
+        for (long index = current - buckets.length + 1; index <= current; index++) {
+            Bucket bucket = buckets[(int) (index % buckets.length)];
+            boolean live = bucket.index == index;
+            counts.add(new BucketCounts(Instant.ofEpochMilli(index * bucketMillis),
+                    live ? bucket.registrations : 0, live ? bucket.deletions : 0));
+        }
+
+        Map<String, Long> topDomains = domains.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(maxDomains)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+        return new Snapshot(total, reconciledAt, counts, topDomains, domains.size());
+    }
+
+    private void apply(int totalChange, String removedEmail, String addedEmail) {
+        total += totalChange;
+        if (pending != null) {
+            pending.total += totalChange;
+        }
+        if (removedEmail != null) {
+            addDomain(domainOf(removedEmail), -1);
+        }
+        if (addedEmail != null) {
+            addDomain(domainOf(addedEmail), 1);
+        }
+    }
+
+    private void addDomain(String domain, long change) {
+        addTo(domains, domain, change);
+        if (pending != null) {
+            addTo(pending.domains, domain, change);
+        }
+    }
+
+    private Bucket currentBucket() {
+        long index = clock.getAsLong() / bucketMillis;
+        Bucket bucket = buckets[(int) (index % buckets.length)];
+        if (bucket.index != index) {
+            bucket.index = index;
+            bucket.registrations = 0;
+            bucket.deletions = 0;
+        }
+        return bucket;
+    }
+
+    // null sin repositorio de agregados: se conservan los dominios mantenidos en lugar de leer todos los clientes
+    private Map<String, Long> countDomains() {
+        ClientStatisticsRepository repository = statisticsRepository.getIfAvailable();
+        if (repository == null) {
+            return null;
+        }
+        Map<String, Long> counted = new HashMap<>();
+        repository.countByEmailDomain().forEach(row -> addTo(counted, row.getDomain(), row.getClients()));
+        repository.countArchivedByEmailDomain().forEach(row -> addTo(counted, row.getDomain(), row.getClients()));
+        return counted;
+    }
+
+    // Los archivados siguen siendo clientes aunque no estén en la tabla caliente
+    private long countArchived() {
+        ClientStatisticsRepository repository = statisticsRepository.getIfAvailable();
+        return repository != null ? repository.countArchived() : 0;
+    }
+
+    private static ClientAuditEvent.FieldChange emailChange(ClientAuditEvent event) {
+        for (ClientAuditEvent.FieldChange change : event.getChanges()) {
+            if ("email".equals(change.getField())) {
+                return change;
+            }
+        }
+        return null;
+    }
+
+    private static void addTo(Map<String, Long> counts, String domain, long change) {
+        counts.merge(domain, change, Long::sum);
+    }
+
+    static String domainOf(String email) {
+        return email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Bucket {
+        private long index = -1;
+        private long registrations;
+        private long deletions;
+    }
+
+    private static final class Delta {
+        private long total;
+        private final Map<String, Long> domains = new HashMap<>();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BucketCounts {
+        private final Instant start;
+        private final long registrations;
+        private final long deletions;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long totalClients;
+        /** null hasta la primera reconciliación */
+        private final Instant reconciledAt;
+        private final List<BucketCounts> buckets;
+        private final Map<String, Long> emailDomains;
+        private final int distinctDomains;
+    }
+}
@@ -0,0 +1,120 @@
+package com.bootcamp.clientservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import com.bootcamp.clientservice.cache.CacheNames;
+import com.bootcamp.clientservice.config.EmbeddedStoreConfig;
+import com.bootcamp.clientservice.config.ShardingConfig;
+import com.bootcamp.clientservice.domain.DeletionRequest;
+import com.bootcamp.clientservice.domain.DeletionStatus;
+import com.bootcamp.clientservice.port.AccountsClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Procesa la cola de eliminaciones en lotes: verifica cuentas fuera de cualquier transacción,
+ * reintenta con backoff exponencial si el servicio de cuentas falla y borra en bloque.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "clients.deletion.worker.enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!" + EmbeddedStoreConfig.PROFILE + " & !" + ShardingConfig.PROFILE)
+public class DeletionWorker {
+
+    /** Largo de la columna {@code client_deletion_requests.last_error} */
+    static final int MAX_ERROR_LENGTH = 500;
+
+    private final ClientDeletionService deletionService;
+    private final AccountsClient accountsClient;
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    @Value("${clients.deletion.worker.batch-size:100}")
+    private int batchSize;
+
+    @Value("${clients.deletion.worker.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${clients.deletion.worker.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${clients.deletion.worker.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    @Value("${clients.deletion.worker.max-backoff-seconds:600}")
+    private long maxBackoffSeconds;
+
+    @Scheduled(fixedDelayString = "${clients.deletion.worker.delay-ms:2000}")
+    public void processPending() {
+        List<DeletionRequest> batch = deletionService.claimBatch(batchSize, leaseSeconds);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Long> toDelete = new ArrayList<>();
+        for (DeletionRequest request : batch) {
+            if (evaluate(request)) {
+                toDelete.add(request.getClientId());
+            }
+        }
+
+        deletionService.completeBatch(batch, toDelete);
+        evictFromCache(toDelete);
+    }
+
+    /** Actualiza el estado de la solicitud; true si el cliente se puede borrar */
+    boolean evaluate(DeletionRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        request.setUpdatedAt(now);
+        request.setAttempts(request.getAttempts() + 1);
+        try {
+            if (accountsClient.hasAccounts(request.getClientId())) {
+                request.setStatus(DeletionStatus.REJECTED);
+                request.setLastError("Cannot delete client with active accounts");
+                return false;
+            }
+            request.setStatus(DeletionStatus.COMPLETED);
+            request.setLastError(null);
+            return true;
+        } catch (RuntimeException ex) {
+            request.setLastError(truncate(ex.getMessage()));
+            if (request.getAttempts() >= maxAttempts) {
+                log.error("Giving up deletion of client {} after {} attempts", request.getClientId(), request.getAttempts());
+                request.setStatus(DeletionStatus.FAILED);
+            } else {
+                request.setStatus(DeletionStatus.PENDING);
+                request.setNextAttemptAt(now.plusSeconds(backoffSeconds(request.getAttempts())));
+                log.warn("Accounts check failed for client {}, retry #{} at {}", request.getClientId(),
+                        request.getAttempts(), request.getNextAttemptAt());
+            }
+            return false;
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private long backoffSeconds(int attempts) {
+        long backoff = baseBackoffSeconds << Math.min(attempts - 1, 20);
+        return Math.min(backoff, maxBackoffSeconds);
+    }
+
+    private void evictFromCache(List<Long> clientIds) {
+        cacheManager.ifAvailable(manager -> {
+            Cache cache = manager.getCache(CacheNames.CLIENTS);
+            if (cache != null) {
+                clientIds.forEach(cache::evict);
+            }
+        });
+    }
+}
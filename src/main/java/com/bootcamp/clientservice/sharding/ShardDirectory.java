@@ -0,0 +1,127 @@
+package com.bootcamp.clientservice.sharding;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Directorio global de la base de clientes particionada: a qué shard pertenece cada bucket,
+ * qué cliente usa cada correo (la unicidad del correo es global, la del DNI la garantiza su shard)
+ * y la secuencia de ids, reservada por bloques para no consultar el directorio en cada alta.
+ */
+@Slf4j
+public class ShardDirectory {
+
+    static final String SCHEMA_LOCATION = "classpath:db/directory";
+
+    private static final int ID_BLOCK_SIZE = 100;
+
+    private final JdbcTemplate jdbc;
+
+    private long nextSequence;
+    private long sequenceLimit;
+
+    public ShardDirectory(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** Aplica las migraciones de {@code db/directory} */
+    public static ShardDirectory open(DataSource dataSource) {
+        Flyway.configure().dataSource(dataSource).locations(SCHEMA_LOCATION).load().migrate();
+        return new ShardDirectory(new JdbcTemplate(dataSource));
+    }
+
+    /**
+     * Asignación vigente bucket -&gt; shard. En un clúster nuevo se inicializa con el anillo;
+     * después sólo la cambia {@link ShardRebalancer}. Si otra instancia inicializa el mismo bucket
+     * a la vez, gana la que insertó primero y esta adopta su asignación.
+     */
+    public synchronized String[] loadAssignments(ShardRing ring) {
+        String[] assignments = new String[ShardRing.BUCKETS];
+        jdbc.query("SELECT bucket, shard FROM shard_buckets",
+                rs -> {
+                    assignments[rs.getInt("bucket")] = rs.getString("shard");
+                });
+
+        int initialized = 0;
+        for (int bucket = 0; bucket < assignments.length; bucket++) {
+            if (assignments[bucket] == null) {
+                String shard = ring.shardFor(bucket);
+                try {
+                    jdbc.update("INSERT INTO shard_buckets (bucket, shard) VALUES (?, ?)", bucket, shard);
+                    assignments[bucket] = shard;
+                    initialized++;
+                } catch (DuplicateKeyException ex) {
+                    assignments[bucket] = jdbc.queryForObject(
+                            "SELECT shard FROM shard_buckets WHERE bucket = ?", String.class, bucket);
+                }
+            }
+        }
+        if (initialized > 0) {
+            log.info("Assigned {} unassigned buckets from the shard ring", initialized);
+        }
+        return assignments;
+    }
+
+    public void assign(int bucket, String shard) {
+        jdbc.update("UPDATE shard_buckets SET shard = ? WHERE bucket = ?", shard, bucket);
+    }
+
+    /** @throws org.springframework.dao.DuplicateKeyException si otro cliente ya usa el correo */
+    public void reserveEmail(String email, long clientId) {
+        jdbc.update("INSERT INTO client_emails (email, client_id) VALUES (?, ?)", email, clientId);
+    }
+
+    public void releaseEmail(String email, long clientId) {
+        jdbc.update("DELETE FROM client_emails WHERE email = ? AND client_id = ?", email, clientId);
+    }
+
+    /** Libera los correos de los clientes indicados, sea cual sea el correo que tengan reservado */
+    public void releaseEmails(Collection<Long> clientIds) {
+        if (clientIds.isEmpty()) {
+            return;
+        }
+        jdbc.update("DELETE FROM client_emails WHERE client_id IN ("
+                + String.join(", ", Collections.nCopies(clientIds.size(), "?")) + ")", clientIds.toArray());
+    }
+
+    public void releaseAllEmails() {
+        jdbc.update("DELETE FROM client_emails");
+    }
+
+    public Optional<Long> findClientId(String email) {
+        List<Long> ids = jdbc.queryForList("SELECT client_id FROM client_emails WHERE email = ?", Long.class, email);
+        return ids.stream().findFirst();
+    }
+
+    public boolean containsEmail(String email) {
+        return findClientId(email).isPresent();
+    }
+
+    public synchronized long nextSequence() {
+        if (nextSequence == sequenceLimit) {
+            reserveBlock();
+        }
+        return nextSequence++;
+    }
+
+    // Reserva optimista: si otra instancia tomó el bloque al mismo tiempo, se reintenta con el valor nuevo
+    private void reserveBlock() {
+        while (true) {
+            Long current = jdbc.queryForObject("SELECT next_value FROM client_id_sequence WHERE id = 1", Long.class);
+            int updated = jdbc.update("UPDATE client_id_sequence SET next_value = ? WHERE id = 1 AND next_value = ?",
+                    current + ID_BLOCK_SIZE, current);
+            if (updated == 1) {
+                nextSequence = current;
+                sequenceLimit = current + ID_BLOCK_SIZE;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.bootcamp.clientservice.sharding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lleva la asignación de buckets del directorio a la que define el anillo para los shards configurados,
+ * moviendo los clientes de cada bucket que cambia de dueño. Se ejecuta después de agregar un shard
+ * y sin instancias del servicio escribiendo (la asignación se lee al arrancar).
+ *
+ * Cada bucket se mueve en tres pasos idempotentes (copiar, reasignar, borrar del origen) y al final
+ * se eliminan de cada shard las filas de buckets que no le pertenecen, así que si la corrida se
+ * interrumpe basta con volver a ejecutarla.
+ *
+ * java -cp client-service.jar -Dloader.main=com.bootcamp.clientservice.sharding.ShardRebalancer \
+ *     -Dclients.sharding.username=... -Dclients.sharding.password=... \
+ *     org.springframework.boot.loader.PropertiesLauncher &lt;directory-url&gt; &lt;shard-0-url&gt; [&lt;shard-1-url&gt; ...]
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardRebalancer {
+
+    private static final String COLUMNS = "id, bucket, first_name, last_name, email, dni, version";
+
+    private final ShardDirectory directory;
+    private final Shards shards;
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: ShardRebalancer <directory-url> <shard-0-url> [<shard-1-url> ...]");
+            System.exit(2);
+        }
+        String username = System.getProperty("clients.sharding.username", "");
+        String password = System.getProperty("clients.sharding.password", "");
+
+        List<DataSource> shardDataSources = new ArrayList<>();
+        for (String url : Arrays.asList(args).subList(1, args.length)) {
+            shardDataSources.add(new DriverManagerDataSource(url, username, password));
+        }
+        ShardDirectory directory = ShardDirectory.open(new DriverManagerDataSource(args[0], username, password));
+        try (Shards shards = Shards.open(shardDataSources)) {
+            Result result = new ShardRebalancer(directory, shards).rebalance();
+            System.out.println("Moved " + result.getBuckets() + " buckets (" + result.getClients() + " clients), "
+                    + "removed " + result.getOrphans() + " orphaned rows");
+        }
+    }
+
+    public Result rebalance() {
+        ShardRing ring = new ShardRing(shards.names());
+        String[] assignments = directory.loadAssignments(ring);
+
+        int buckets = 0;
+        long clients = 0;
+        for (int bucket = 0; bucket < ShardRing.BUCKETS; bucket++) {
+            String target = ring.shardFor(bucket);
+            if (!target.equals(assignments[bucket])) {
+                clients += moveBucket(bucket, assignments[bucket], target);
+                assignments[bucket] = target;
+                buckets++;
+            }
+        }
+        long orphans = removeOrphans(assignments);
+        log.info("Rebalanced {} shards: moved {} buckets ({} clients), removed {} orphaned rows",
+                shards.names().size(), buckets, clients, orphans);
+        return new Result(buckets, clients, orphans);
+    }
+
+    private int moveBucket(int bucket, String source, String target) {
+        JdbcTemplate from = shards.get(source);
+        JdbcTemplate to = shards.get(target);
+
+        // Restos de una corrida interrumpida antes de reasignar el bucket
+        to.update("DELETE FROM clients WHERE bucket = ?", bucket);
+        List<Object[]> rows = from.query("SELECT " + COLUMNS + " FROM clients WHERE bucket = ?",
+                (rs, rowNum) -> new Object[] {
+                        rs.getLong("id"), rs.getInt("bucket"), rs.getString("first_name"), rs.getString("last_name"),
+                        rs.getString("email"), rs.getString("dni"), rs.getLong("version")},
+                bucket);
+        if (!rows.isEmpty()) {
+            to.batchUpdate("INSERT INTO clients (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+
+        directory.assign(bucket, target);
+        from.update("DELETE FROM clients WHERE bucket = ?", bucket);
+        log.debug("Moved bucket {} from {} to {} ({} clients)", bucket, source, target, rows.size());
+        return rows.size();
+    }
+
+    private long removeOrphans(String[] assignments) {
+        long removed = 0;
+        for (String shard : shards.names()) {
+            JdbcTemplate jdbc = shards.get(shard);
+            for (Integer bucket : jdbc.queryForList("SELECT DISTINCT bucket FROM clients", Integer.class)) {
+                if (!shard.equals(assignments[bucket])) {
+                    removed += jdbc.update("DELETE FROM clients WHERE bucket = ?", bucket);
+                }
+            }
+        }
+        return removed;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final int buckets;
+        private final long clients;
+        private final long orphans;
+    }
+}
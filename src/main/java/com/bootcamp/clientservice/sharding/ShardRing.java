@@ -0,0 +1,75 @@
+package com.bootcamp.clientservice.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Hash consistente de clientes a shards en dos niveles: el DNI define uno de {@link #BUCKETS}
+ * buckets fijos, y un anillo con nodos virtuales reparte los buckets entre los shards.
+ * Al agregar un shard sólo cambian de dueño ~1/N de los buckets; el id de cada cliente
+ * lleva su bucket, así que el id alcanza para encontrar el shard sin consultar por DNI.
+ */
+public final class ShardRing {
+
+    public static final int BUCKET_BITS = 10;
+    public static final int BUCKETS = 1 << BUCKET_BITS;
+
+    private static final int VIRTUAL_NODES = 128;
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ShardRing(Collection<String> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        for (String shard : shards) {
+            for (int node = 0; node < VIRTUAL_NODES; node++) {
+                ring.put(hash(shard + "#" + node), shard);
+            }
+        }
+    }
+
+    /** Shard dueño del bucket según el anillo (la asignación vigente la guarda {@link ShardDirectory}) */
+    public String shardFor(int bucket) {
+        Map.Entry<Long, String> owner = ring.ceilingEntry(hash("bucket-" + bucket));
+        return (owner != null ? owner : ring.firstEntry()).getValue();
+    }
+
+    public String[] assignments() {
+        String[] assignments = new String[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            assignments[bucket] = shardFor(bucket);
+        }
+        return assignments;
+    }
+
+    public static int bucketOf(String dni) {
+        return (int) (hash(dni) & (BUCKETS - 1));
+    }
+
+    public static int bucketOf(long id) {
+        return (int) (id & (BUCKETS - 1));
+    }
+
+    public static long clientId(long sequence, int bucket) {
+        return (sequence << BUCKET_BITS) | bucket;
+    }
+
+    // FNV-1a de 64 bits con la mezcla final de MurmurHash3 para repartir bien claves parecidas
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,522 @@
+package com.bootcamp.clientservice.sharding;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.repository.ClientSorting;
+import com.bootcamp.clientservice.repository.ClientStatisticsRepository;
+
+/**
+ * {@link ClientRepository} particionado por hash del DNI (perfil {@code sharded}).
+ * <ul>
+ *   <li>Alta y búsqueda por DNI van al shard del bucket del DNI.</li>
+ *   <li>El id lleva el bucket en sus bits bajos, así que {@code findById} va directo a un shard.</li>
+ *   <li>La búsqueda por correo pasa por el directorio global (correo -&gt; id).</li>
+ *   <li>Listados y conteos consultan todos los shards en paralelo y combinan los resultados.</li>
+ * </ul>
+ * La asignación de buckets se lee al arrancar: {@link ShardRebalancer} se ejecuta sin instancias
+ * atendiendo escrituras. No hay transacciones entre shards: el correo se reserva en el directorio
+ * antes de escribir en el shard y se libera si la escritura falla. Query by Example no está soportado.
+ * Los agregados de {@link ClientStatisticsRepository} se calculan con un GROUP BY en cada shard.
+ */
+public class ShardedClientRepository implements ClientRepository, ClientStatisticsRepository, Closeable {
+
+    private static final String COLUMNS = "id, first_name, last_name, email, dni, version";
+
+    private static final String EMAIL_DOMAIN = "LOWER(SUBSTRING(email, LOCATE('@', email) + 1))";
+
+    private static final RowMapper<Client> CLIENT_ROW = (rs, rowNum) -> Client.builder()
+            .id(rs.getLong("id"))
+            .firstName(rs.getString("first_name"))
+            .lastName(rs.getString("last_name"))
+            .email(rs.getString("email"))
+            .dni(rs.getString("dni"))
+            .version(rs.getLong("version"))
+            .build();
+
+    private final ShardDirectory directory;
+    private final Shards shards;
+    private final String[] assignments;
+    private final ExecutorService scatterExecutor;
+
+    public ShardedClientRepository(ShardDirectory directory, Shards shards) {
+        this.directory = directory;
+        this.shards = shards;
+        this.assignments = directory.loadAssignments(new ShardRing(shards.names()));
+        // Falla al arrancar si el directorio asigna buckets a un shard que ya no está configurado
+        for (String shard : assignments) {
+            shards.get(shard);
+        }
+        this.scatterExecutor = Executors.newFixedThreadPool(shards.names().size(), runnable -> {
+            Thread thread = new Thread(runnable, "client-shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Optional<Client> findByEmail(String email) {
+        return directory.findClientId(email).flatMap(this::findById);
+    }
+
+    @Override
+    public Optional<Client> findByDni(String dni) {
+        return shardForBucket(ShardRing.bucketOf(dni))
+                .query("SELECT " + COLUMNS + " FROM clients WHERE dni = ?", CLIENT_ROW, dni)
+                .stream().findFirst();
+    }
+
+    @Override
+    public boolean existsByDni(String dni) {
+        return findByDni(dni).isPresent();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return directory.containsEmail(email);
+    }
+
+    @Override
+    public List<UniqueKeys> findUniqueKeyConflicts(String dni, String email) {
+        List<UniqueKeys> conflicts = new ArrayList<>(2);
+        Optional<Client> byDni = findByDni(dni);
+        byDni.ifPresent(client -> conflicts.add(new Keys(client)));
+        directory.findClientId(email)
+                .filter(id -> byDni.map(other -> !other.getId().equals(id)).orElse(true))
+                .flatMap(this::findById)
+                .ifPresent(client -> conflicts.add(new Keys(client)));
+        return conflicts;
+    }
+
+    @Override
+    public <S extends Client> S save(S entity) {
+        if (entity.getId() == null) {
+            insert(entity);
+        } else {
+            update(entity);
+        }
+        return entity;
+    }
+
+    private void insert(Client client) {
+        int bucket = ShardRing.bucketOf(client.getDni());
+        long id = ShardRing.clientId(directory.nextSequence(), bucket);
+
+        directory.reserveEmail(client.getEmail(), id);
+        try {
+            shardForBucket(bucket).update("INSERT INTO clients (id, bucket, first_name, last_name, email, dni, version)"
+                            + " VALUES (?, ?, ?, ?, ?, ?, 0)",
+                    id, bucket, client.getFirstName(), client.getLastName(), client.getEmail(), client.getDni());
+        } catch (DataIntegrityViolationException ex) {
+            directory.releaseEmail(client.getEmail(), id);
+            throw ex;
+        }
+        client.setId(id);
+        client.setVersion(0L);
+    }
+
+    private void update(Client client) {
+        long id = client.getId();
+        Client current = findById(id)
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(Client.class, id));
+        long version = client.getVersion() != null ? client.getVersion() : current.getVersion();
+        boolean emailChanged = !current.getEmail().equals(client.getEmail());
+
+        if (emailChanged) {
+            directory.reserveEmail(client.getEmail(), id);
+        }
+        int updated = shardForId(id).update("UPDATE clients SET first_name = ?, last_name = ?, email = ?,"
+                        + " version = version + 1 WHERE id = ? AND version = ?",
+                client.getFirstName(), client.getLastName(), client.getEmail(), id, version);
+        if (updated == 0) {
+            if (emailChanged) {
+                directory.releaseEmail(client.getEmail(), id);
+            }
+            throw new ObjectOptimisticLockingFailureException(Client.class, id);
+        }
+        if (emailChanged) {
+            directory.releaseEmail(current.getEmail(), id);
+        }
+        client.setVersion(version + 1);
+    }
+
+    @Override
+    public <S extends Client> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public <S extends Client> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends Client> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    // Cada escritura se confirma en su shard al volver de save/delete
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public Optional<Client> findById(Long id) {
+        return shardForId(id)
+                .query("SELECT " + COLUMNS + " FROM clients WHERE id = ?", CLIENT_ROW, id)
+                .stream().findFirst();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return findAll(Sort.by("id"));
+    }
+
+    @Override
+    public List<Client> findAll(Sort sort) {
+        List<Client> clients = flatten(scatter(shard -> shard.query("SELECT " + COLUMNS + " FROM clients", CLIENT_ROW)));
+        Comparator<Client> comparator = ClientSorting.comparator(sort);
+        if (comparator != null) {
+            clients.sort(comparator);
+        }
+        return clients;
+    }
+
+    /**
+     * Cada shard aporta a lo sumo {@code offset + size} filas en el orden pedido;
+     * con eso alcanza para armar la página al combinar.
+     */
+    @Override
+    public Page<Client> findAll(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(pageable.getSort()));
+        }
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort().and(Sort.by("id")) : Sort.by("id");
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        String sql = "SELECT " + COLUMNS + " FROM clients ORDER BY " + orderBy(sort) + " LIMIT ?";
+
+        List<Client> clients = flatten(scatter(shard -> shard.query(sql, CLIENT_ROW, limit)));
+        clients.sort(ClientSorting.comparator(sort));
+        int from = (int) Math.min(pageable.getOffset(), clients.size());
+        int to = Math.min(from + pageable.getPageSize(), clients.size());
+        return new PageImpl<>(new ArrayList<>(clients.subList(from, to)), pageable, count());
+    }
+
+    @Override
+    public List<Client> findAllById(Iterable<Long> ids) {
+        List<Client> clients = new ArrayList<>();
+        for (Map.Entry<String, List<Long>> shard : groupByShard(ids).entrySet()) {
+            clients.addAll(shards.get(shard.getKey()).query("SELECT " + COLUMNS + " FROM clients WHERE id IN ("
+                    + placeholders(shard.getValue().size()) + ")", CLIENT_ROW, shard.getValue().toArray()));
+        }
+        return clients;
+    }
+
+    @Override
+    public long count() {
+        return scatter(shard -> shard.queryForObject("SELECT COUNT(*) FROM clients", Long.class))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public List<DomainCount> countByEmailDomain() {
+        Map<String, Long> counts = new HashMap<>();
+        String sql = "SELECT " + EMAIL_DOMAIN + " AS domain, COUNT(*) AS clients FROM clients GROUP BY " + EMAIL_DOMAIN;
+        for (List<Map<String, Object>> rows : scatter(shard -> shard.queryForList(sql))) {
+            for (Map<String, Object> row : rows) {
+                counts.merge((String) row.get("domain"), ((Number) row.get("clients")).longValue(), Long::sum);
+            }
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new Domain(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    // Sin archivo de clientes inactivos en los shards
+    @Override
+    public long countArchived() {
+        return 0;
+    }
+
+    @Override
+    public List<DomainCount> countArchivedByEmailDomain() {
+        return List.of();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (deleteRow(id) == 0) {
+            throw new EmptyResultDataAccessException(
+                    String.format("No %s entity with id %s exists!", Client.class, id), 1);
+        }
+    }
+
+    @Override
+    public void delete(Client entity) {
+        if (entity.getId() != null) {
+            deleteRow(entity.getId());
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        for (Long id : ids) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Client> entities) {
+        for (Client entity : entities) {
+            delete(entity);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAllInBatch();
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<Client> entities) {
+        List<Long> ids = new ArrayList<>();
+        for (Client entity : entities) {
+            if (entity.getId() != null) {
+                ids.add(entity.getId());
+            }
+        }
+        deleteAllByIdInBatch(ids);
+    }
+
+    /** Un {@code DELETE ... IN} por shard y uno en el directorio para los correos */
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        List<Long> deleted = new ArrayList<>();
+        for (Map.Entry<String, List<Long>> shard : groupByShard(ids).entrySet()) {
+            shards.get(shard.getKey()).update("DELETE FROM clients WHERE id IN ("
+                    + placeholders(shard.getValue().size()) + ")", shard.getValue().toArray());
+            deleted.addAll(shard.getValue());
+        }
+        directory.releaseEmails(deleted);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        scatter(shard -> shard.update("DELETE FROM clients"));
+        directory.releaseAllEmails();
+    }
+
+    /** @deprecated como en {@code JpaRepository}; usar {@link #getReferenceById(Long)} */
+    @Deprecated
+    @Override
+    public Client getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    /** @deprecated como en {@code JpaRepository}; usar {@link #getReferenceById(Long)} */
+    @Deprecated
+    @Override
+    public Client getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public Client getReferenceById(Long id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException(
+                "Unable to find " + Client.class.getName() + " with id " + id));
+    }
+
+    @Override
+    public <S extends Client> Optional<S> findOne(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> List<S> findAll(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> List<S> findAll(Example<S> example, Sort sort) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> long count(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> boolean exists(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client, R> R findBy(Example<S> example,
+                                          Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public void close() {
+        scatterExecutor.shutdownNow();
+    }
+
+    String shardOf(long id) {
+        return assignments[ShardRing.bucketOf(id)];
+    }
+
+    // El correo se libera por id: no hace falta leer la fila para saber cuál tenía reservado
+    private int deleteRow(long id) {
+        int deleted = shardForId(id).update("DELETE FROM clients WHERE id = ?", id);
+        if (deleted > 0) {
+            directory.releaseEmails(List.of(id));
+        }
+        return deleted;
+    }
+
+    private JdbcTemplate shardForId(long id) {
+        return shards.get(shardOf(id));
+    }
+
+    private JdbcTemplate shardForBucket(int bucket) {
+        return shards.get(assignments[bucket]);
+    }
+
+    private <T> List<T> scatter(Function<JdbcTemplate, T> query) {
+        List<CompletableFuture<T>> futures = shards.all().values().stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), scatterExecutor))
+                .collect(Collectors.toList());
+        return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    private Map<String, List<Long>> groupByShard(Iterable<Long> ids) {
+        Map<String, List<Long>> byShard = new LinkedHashMap<>();
+        for (Long id : ids) {
+            byShard.computeIfAbsent(shardOf(id), shard -> new ArrayList<>()).add(id);
+        }
+        return byShard;
+    }
+
+    private static <T> List<T> flatten(List<List<T>> lists) {
+        List<T> result = new ArrayList<>();
+        lists.forEach(result::addAll);
+        return result;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> columns = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            columns.add(column(order.getProperty()) + (order.isDescending() ? " DESC" : " ASC"));
+        }
+        return String.join(", ", columns);
+    }
+
+    private static String column(String property) {
+        switch (property) {
+            case "id":
+                return "id";
+            case "firstName":
+                return "first_name";
+            case "lastName":
+                return "last_name";
+            case "dni":
+                return "dni";
+            case "email":
+                return "email";
+            case "version":
+                return "version";
+            default:
+                throw new IllegalArgumentException("Unknown Client property for sorting: " + property);
+        }
+    }
+
+    private static UnsupportedOperationException queryByExampleNotSupported() {
+        return new UnsupportedOperationException("Query by Example is not supported by the sharded client repository");
+    }
+
+    private static final class Keys implements UniqueKeys {
+
+        private final String dni;
+        private final String email;
+
+        private Keys(Client client) {
+            this.dni = client.getDni();
+            this.email = client.getEmail();
+        }
+
+        @Override
+        public String getDni() {
+            return dni;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+    }
+
+    private static final class Domain implements DomainCount {
+
+        private final String domain;
+        private final long clients;
+
+        private Domain(String domain, long clients) {
+            this.domain = domain;
+            this.clients = clients;
+        }
+
+        @Override
+        public String getDomain() {
+            return domain;
+        }
+
+        @Override
+        public long getClients() {
+            return clients;
+        }
+    }
+}
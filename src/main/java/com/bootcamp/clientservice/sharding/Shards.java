@@ -0,0 +1,75 @@
+package com.bootcamp.clientservice.sharding;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Datasources de los shards, nombrados por su posición en la configuración ({@code shard-0}, {@code shard-1}, ...).
+ * Para agregar un shard se agrega su URL al final de la lista; el nombre de los existentes no cambia.
+ */
+@Slf4j
+public final class Shards implements Closeable {
+
+    static final String SCHEMA_LOCATION = "classpath:db/shard";
+
+    private final Map<String, JdbcTemplate> templates;
+    private final List<DataSource> dataSources;
+
+    private Shards(Map<String, JdbcTemplate> templates, List<DataSource> dataSources) {
+        this.templates = templates;
+        this.dataSources = dataSources;
+    }
+
+    /** Aplica las migraciones de {@code db/shard} en cada datasource */
+    public static Shards open(List<DataSource> dataSources) {
+        Map<String, JdbcTemplate> templates = new LinkedHashMap<>();
+        for (int index = 0; index < dataSources.size(); index++) {
+            DataSource dataSource = dataSources.get(index);
+            Flyway.configure().dataSource(dataSource).locations(SCHEMA_LOCATION).load().migrate();
+            templates.put(name(index), new JdbcTemplate(dataSource));
+        }
+        log.info("Opened {} client shards", templates.size());
+        return new Shards(Collections.unmodifiableMap(templates), List.copyOf(dataSources));
+    }
+
+    public static String name(int index) {
+        return "shard-" + index;
+    }
+
+    public Set<String> names() {
+        return templates.keySet();
+    }
+
+    public JdbcTemplate get(String name) {
+        JdbcTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalStateException("Shard " + name + " is assigned buckets but is not configured");
+        }
+        return template;
+    }
+
+    public Map<String, JdbcTemplate> all() {
+        return templates;
+    }
+
+    @Override
+    public void close() {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof Closeable) {
+                try {
+                    ((Closeable) dataSource).close();
+                } catch (Exception ex) {
+                    log.warn("Failed to close shard datasource: {}", ex.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.bootcamp.clientservice.singleflight;
+
+/**
+ * Resultado mutable de un método {@link SingleFlight}. El aspecto entrega a cada llamante
+ * {@link #copy()}, así que lo que uno modifique no lo ven el resto ni el cache.
+ */
+public interface SharedResult<T> {
+
+    T copy();
+}
@@ -0,0 +1,23 @@
+package com.bootcamp.clientservice.singleflight;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Las invocaciones concurrentes del método con los mismos argumentos se agrupan en una sola
+ * ejecución y todas reciben su resultado (o su excepción). Pensado para lecturas idempotentes
+ * sin efectos posteriores: no debe proteger comprobaciones que autoricen una escritura, porque el
+ * seguidor recibiría una respuesta obtenida antes de su propia llamada. Si el resultado es mutable
+ * debe implementar {@link SharedResult} para que cada llamante reciba su propia copia.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /** Nombre del grupo en las métricas {@code clients.singleflight.*} */
+    String value();
+}
@@ -0,0 +1,68 @@
+package com.bootcamp.clientservice.singleflight;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Aplica {@link SingleFlight}. Va por fuera de cache y transacción: tras vaciar el cache sólo el
+ * líder abre transacción y consulta, y al terminar deja el valor cacheado para los siguientes.
+ * No puede ser {@code HIGHEST_PRECEDENCE}: quedaría antes de {@code ExposeInvocationInterceptor}
+ * y AspectJ no podría evaluar el pointcut; por eso la anotación se lee del método y no se enlaza.
+ */
+@Aspect
+public class SingleFlightAspect implements Ordered {
+
+    /** Justo después de {@code ExposeInvocationInterceptor} (HIGHEST + 1), por fuera de cache y transacción */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SingleFlightGroup> groups = new ConcurrentHashMap<>();
+
+    public SingleFlightAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.bootcamp.clientservice.singleflight.SingleFlight)")
+    public Object collapse(ProceedingJoinPoint joinPoint) throws Throwable {
+        SingleFlight singleFlight = annotation(joinPoint);
+        if (singleFlight == null) {
+            return joinPoint.proceed();
+        }
+        SingleFlightGroup group = groups.computeIfAbsent(singleFlight.value(),
+                name -> new SingleFlightGroup(name, meterRegistry));
+        Object result = group.execute(key(joinPoint), joinPoint::proceed);
+        return result instanceof SharedResult ? ((SharedResult<?>) result).copy() : result;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private static SingleFlight annotation(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (joinPoint.getTarget() != null) {
+            method = AopUtils.getMostSpecificMethod(method, joinPoint.getTarget().getClass());
+        }
+        return AnnotatedElementUtils.findMergedAnnotation(method, SingleFlight.class);
+    }
+
+    private static List<Object> key(ProceedingJoinPoint joinPoint) {
+        List<Object> key = new ArrayList<>();
+        key.add(joinPoint.getSignature().toLongString());
+        key.addAll(Arrays.asList(joinPoint.getArgs()));
+        return key;
+    }
+}
@@ -0,0 +1,91 @@
+package com.bootcamp.clientservice.singleflight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import com.bootcamp.clientservice.deadline.Deadline;
+import com.bootcamp.clientservice.deadline.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Llamadas en vuelo por clave. La primera llamada para una clave ejecuta el backend ("líder");
+ * las que llegan mientras tanto esperan su resultado en lugar de repetir la consulta.
+ * No es un cache: al terminar el líder la clave se libera y la próxima llamada vuelve al backend.
+ * Cada llamante espera como mucho lo que le queda de su propio {@link Deadline}.
+ */
+public class SingleFlightGroup {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter collapsed;
+
+    public SingleFlightGroup(String name, MeterRegistry meterRegistry) {
+        this.executed = callCounter(meterRegistry, name, "executed");
+        this.collapsed = callCounter(meterRegistry, name, "collapsed");
+        Gauge.builder("clients.singleflight.in_flight", inFlight, ConcurrentMap::size)
+                .tag("group", name)
+                .register(meterRegistry);
+    }
+
+    public Object execute(Object key, Call call) throws Throwable {
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            collapsed.increment();
+            return await(existing, call);
+        }
+
+        executed.increment();
+        try {
+            Object result = call.run();
+            leader.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            leader.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    // Los que esperan reciben la misma excepción que el líder, no un CompletionException;
+    // si el líder agotó su deadline y al seguidor aún le queda tiempo, éste llama por su cuenta
+    private static Object await(CompletableFuture<Object> future, Call call) throws Throwable {
+        Deadline deadline = Deadline.current();
+        try {
+            return deadline == null
+                    ? future.get()
+                    : future.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new DeadlineExceededException("Deadline exceeded waiting for in-flight call");
+        } catch (ExecutionException | CompletionException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof DeadlineExceededException && (deadline == null || !deadline.isExpired())) {
+                return call.run();
+            }
+            throw cause;
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("clients.singleflight.calls")
+                .tag("group", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface Call {
+        Object run() throws Throwable;
+    }
+}
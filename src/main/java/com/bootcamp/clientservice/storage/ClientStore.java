@@ -0,0 +1,535 @@
+package com.bootcamp.clientservice.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import com.bootcamp.clientservice.domain.Client;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Motor de almacenamiento embebido para clientes.
+ * <ul>
+ *     <li>Índice primario en memoria por id y dos índices hash secundarios (DNI y correo).</li>
+ *     <li>Cada cambio se escribe en el {@link WriteAheadLog} y se confirma con group commit
+ *     antes de devolver el control. Las lecturas por id sólo lo ven una vez en disco; mientras tanto
+ *     queda pendiente, aunque ya reserva DNI y correo para los chequeos de unicidad.</li>
+ *     <li>Si un fsync falla se descartan los cambios pendientes y el almacén deja de aceptar
+ *     escrituras: lo que haya llegado al disco se sabe recién al reabrirlo.</li>
+ *     <li>Cada {@code snapshotEvery} cambios se rota el log y se escribe en segundo plano un snapshot
+ *     compactado; los segmentos anteriores se borran.</li>
+ *     <li>Al abrir se carga el último snapshot y se reproducen los segmentos posteriores.</li>
+ * </ul>
+ * Las entidades guardadas nunca se exponen: se copian al entrar y al salir, igual que una fila leída de la base.
+ */
+@Slf4j
+public class ClientStore implements Closeable {
+
+    /** Formato anterior, sin changeSeq ni fechas: sólo se lee al recuperar */
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte PUT_FULL = 3;
+    private static final int SNAPSHOT_MAGIC = 0x434c5331;
+    private static final int SNAPSHOT_MAGIC_FULL = 0x434c5332;
+    private static final String SNAPSHOT_FILE = "clients.snapshot";
+
+    private final Path directory;
+    private final int snapshotEvery;
+    /** Estado confirmado en disco */
+    private final Map<Long, Client> byId = new ConcurrentHashMap<>();
+    /** Índices secundarios con los cambios pendientes incluidos */
+    private final Map<String, Long> byDni = new ConcurrentHashMap<>();
+    private final Map<String, Long> byEmail = new ConcurrentHashMap<>();
+    private final Object mutationLock = new Object();
+    /** Cambios escritos en el log y aún sin fsync, en orden de secuencia (bajo {@code mutationLock}) */
+    private final Deque<Pending> pending = new ArrayDeque<>();
+    private final Map<Long, Pending> latestPending = new HashMap<>();
+    private final AtomicBoolean snapshotRunning = new AtomicBoolean();
+    private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "client-store-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private WriteAheadLog wal;
+    private long nextId = 1;
+    private volatile long changesSinceSnapshot;
+    private volatile IOException syncFailure;
+
+    private ClientStore(Path directory, int snapshotEvery) {
+        this.directory = directory;
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    /** Abre el almacén en {@code directory}, recuperando el estado del snapshot y del log */
+    public static ClientStore open(Path directory, int snapshotEvery) throws IOException {
+        Files.createDirectories(directory);
+        ClientStore store = new ClientStore(directory, snapshotEvery);
+        store.recover();
+        return store;
+    }
+
+    public Optional<Client> get(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(ClientStore::copy);
+    }
+
+    public Optional<Client> getByDni(String dni) {
+        return lookup(byDni, dni, Client::getDni);
+    }
+
+    public Optional<Client> getByEmail(String email) {
+        return lookup(byEmail, email, Client::getEmail);
+    }
+
+    public boolean contains(Long id) {
+        return byId.containsKey(id);
+    }
+
+    /** Incluye los cambios pendientes de fsync: un DNI reservado por otra escritura cuenta como usado */
+    public boolean containsDni(String dni) {
+        return dni != null && byDni.containsKey(dni);
+    }
+
+    public boolean containsEmail(String email) {
+        return email != null && byEmail.containsKey(email);
+    }
+
+    public long size() {
+        return byId.size();
+    }
+
+    /** Clientes por dominio de correo (en minúsculas), recorriendo el índice sin copiar entidades */
+    public Map<String, Long> countByEmailDomain() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Client client : byId.values()) {
+            String email = client.getEmail();
+            counts.merge(email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    /** Todos los clientes ordenados por id */
+    public List<Client> all() {
+        List<Client> result = new ArrayList<>(byId.size());
+        for (Client client : byId.values()) {
+            result.add(copy(client));
+        }
+        result.sort(Comparator.comparing(Client::getId));
+        return result;
+    }
+
+    /**
+     * Inserta o actualiza. Asigna id y versión sobre la misma instancia recibida, como hace JPA.
+     *
+     * @throws DataIntegrityViolationException si el DNI o el correo ya pertenecen a otro cliente
+     * @throws ObjectOptimisticLockingFailureException si la versión no coincide con la guardada
+     */
+    public <S extends Client> S put(S client) {
+        long sequence;
+        synchronized (mutationLock) {
+            sequence = putLocked(client);
+        }
+        commit(sequence);
+        return client;
+    }
+
+    /** Como {@link #put(Client)} para varios clientes, con un único fsync al final */
+    public <S extends Client> List<S> putAll(Iterable<S> clients) {
+        List<S> result = new ArrayList<>();
+        long sequence = 0;
+        synchronized (mutationLock) {
+            for (S client : clients) {
+                sequence = putLocked(client);
+                result.add(client);
+            }
+        }
+        commit(sequence);
+        return result;
+    }
+
+    /** Borra los clientes indicados con un único fsync. Devuelve cuántos existían */
+    public int deleteAll(Iterable<Long> ids) {
+        int deleted = 0;
+        long sequence = 0;
+        synchronized (mutationLock) {
+            requireWritable();
+            for (Long id : ids) {
+                Client current = id == null ? null : latest(id);
+                if (current == null) {
+                    continue;
+                }
+                sequence = append(encodeDelete(id));
+                unindex(current);
+                enqueue(new Pending(sequence, id, null));
+                deleted++;
+            }
+        }
+        commit(sequence);
+        return deleted;
+    }
+
+    public boolean delete(Long id) {
+        return deleteAll(List.of(id)) == 1;
+    }
+
+    /** Rota el log, escribe un snapshot compactado de forma atómica y borra los segmentos ya cubiertos */
+    public synchronized void snapshot() throws IOException {
+        List<Client> rows;
+        long generation;
+        long snapshotNextId;
+        synchronized (mutationLock) {
+            requireWritable();
+            generation = wal.rotate();
+            // rotate hace fsync de todo lo escrito: los pendientes ya están en disco
+            applyPending(Long.MAX_VALUE);
+            rows = new ArrayList<>(byId.values());
+            snapshotNextId = nextId;
+            changesSinceSnapshot = 0;
+        }
+
+        Path tmp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(tmp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(SNAPSHOT_MAGIC_FULL);
+            out.writeLong(generation);
+            out.writeLong(snapshotNextId);
+            out.writeInt(rows.size());
+            for (Client row : rows) {
+                writeClient(out, row);
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(tmp, directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        wal.deleteSegmentsBefore(generation);
+        log.info("Client store snapshot written with {} clients at log generation {}", rows.size(), generation);
+    }
+
+    @Override
+    public void close() throws IOException {
+        snapshotExecutor.shutdown();
+        try {
+            snapshotExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (mutationLock) {
+            wal.close();
+        }
+    }
+
+    private long putLocked(Client client) {
+        requireWritable();
+        requireColumns(client);
+        Client current = client.getId() == null ? null : latest(client.getId());
+        if (current != null && !Objects.equals(current.getVersion(), client.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Client.class, client.getId());
+        }
+        if (current == null && client.getId() != null && client.getVersion() != null) {
+            // Entidad con versión que ya no existe: fue borrada por otro
+            throw new ObjectOptimisticLockingFailureException(Client.class, client.getId());
+        }
+
+        long id = client.getId() != null ? client.getId() : nextId;
+        requireUnique(byDni, client.getDni(), id, "DNI");
+        requireUnique(byEmail, client.getEmail(), id, "email");
+
+        Client stored = copy(client);
+        stored.setId(id);
+        stored.setVersion(current == null ? 0L : current.getVersion() + 1);
+        long sequence = append(encodePut(stored));
+
+        if (current != null) {
+            unindex(current);
+        }
+        index(stored);
+        enqueue(new Pending(sequence, id, stored));
+        client.setId(stored.getId());
+        client.setVersion(stored.getVersion());
+        return sequence;
+    }
+
+    private long append(byte[] record) {
+        try {
+            changesSinceSnapshot++;
+            return wal.append(record);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append to the client store log", ex);
+        }
+    }
+
+    // Tras el fsync publica los cambios hasta sequence, los de este hilo y los de otros cubiertos por el mismo fsync
+    private void commit(long sequence) {
+        if (sequence == 0) {
+            return;
+        }
+        try {
+            wal.sync(sequence);
+        } catch (IOException ex) {
+            synchronized (mutationLock) {
+                discardPending(ex);
+            }
+            throw new UncheckedIOException("Could not sync the client store log", ex);
+        }
+        synchronized (mutationLock) {
+            // Un fsync que falló antes invalida lo pendiente aunque un fsync posterior diga que no
+            requireWritable();
+            applyPending(sequence);
+        }
+        if (changesSinceSnapshot >= snapshotEvery && snapshotRunning.compareAndSet(false, true)) {
+            snapshotExecutor.execute(() -> {
+                try {
+                    snapshot();
+                } catch (IOException | RuntimeException ex) {
+                    log.error("Client store snapshot failed: {}", ex.getMessage(), ex);
+                } finally {
+                    snapshotRunning.set(false);
+                }
+            });
+        }
+    }
+
+    private void recover() throws IOException {
+        long fromGeneration = 0;
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+                int magic = in.readInt();
+                if (magic != SNAPSHOT_MAGIC && magic != SNAPSHOT_MAGIC_FULL) {
+                    throw new IllegalStateException("Not a client store snapshot: " + snapshot);
+                }
+                fromGeneration = in.readLong();
+                nextId = in.readLong();
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    apply(readClient(in, magic == SNAPSHOT_MAGIC_FULL));
+                }
+            }
+        }
+
+        long lastGeneration = WriteAheadLog.replay(directory, fromGeneration, this::applyRecord);
+        wal = WriteAheadLog.open(directory, lastGeneration);
+        log.info("Client store recovered {} clients from {}", byId.size(), directory);
+    }
+
+    private void applyRecord(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte type = in.readByte();
+            if (type == PUT || type == PUT_FULL) {
+                apply(readClient(in, type == PUT_FULL));
+            } else if (type == DELETE) {
+                Client removed = byId.remove(in.readLong());
+                if (removed != null) {
+                    unindex(removed);
+                }
+            } else {
+                throw new IllegalStateException("Unknown client store record type: " + type);
+            }
+            changesSinceSnapshot++;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Sólo al recuperar, donde todo lo leído ya está en disco
+    private void apply(Client stored) {
+        Client previous = byId.put(stored.getId(), stored);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(stored);
+    }
+
+    // El último estado de id, pendientes incluidos (bajo mutationLock)
+    private Client latest(Long id) {
+        Pending latest = latestPending.get(id);
+        return latest != null ? latest.stored : byId.get(id);
+    }
+
+    private void enqueue(Pending change) {
+        pending.addLast(change);
+        latestPending.put(change.id, change);
+    }
+
+    // Los índices secundarios ya reflejan estos cambios; sólo falta hacerlos visibles por id
+    private void applyPending(long syncedSequence) {
+        while (!pending.isEmpty() && pending.peekFirst().sequence <= syncedSequence) {
+            Pending change = pending.removeFirst();
+            if (change.stored != null) {
+                byId.put(change.id, change.stored);
+            } else {
+                byId.remove(change.id);
+            }
+            latestPending.remove(change.id, change);
+        }
+    }
+
+    // No se sabe qué parte llegó al disco: se vuelve al último estado confirmado y se dejan de aceptar escrituras
+    private void discardPending(IOException failure) {
+        if (syncFailure == null) {
+            syncFailure = failure;
+            log.error("Client store log sync failed, rejecting writes until the store is reopened: {}",
+                    failure.getMessage(), failure);
+        }
+        pending.clear();
+        latestPending.clear();
+        byDni.clear();
+        byEmail.clear();
+        byId.values().forEach(this::index);
+    }
+
+    private void requireWritable() {
+        if (syncFailure != null) {
+            throw new UncheckedIOException("Client store log failed to sync; reopen the store to recover", syncFailure);
+        }
+    }
+
+    private void index(Client client) {
+        byDni.put(client.getDni(), client.getId());
+        byEmail.put(client.getEmail(), client.getId());
+        nextId = Math.max(nextId, client.getId() + 1);
+    }
+
+    private void unindex(Client client) {
+        byDni.remove(client.getDni(), client.getId());
+        byEmail.remove(client.getEmail(), client.getId());
+    }
+
+    // El índice puede apuntar a un cambio pendiente: sólo vale si el estado confirmado tiene esa clave
+    private Optional<Client> lookup(Map<String, Long> index, String key, Function<Client, String> column) {
+        Long id = key == null ? null : index.get(key);
+        return id == null ? Optional.empty() : get(id).filter(client -> key.equals(column.apply(client)));
+    }
+
+    private static void requireUnique(Map<String, Long> index, String key, long id, String column) {
+        Long owner = index.get(key);
+        if (owner != null && owner != id) {
+            throw new DataIntegrityViolationException("Duplicate " + column + " for client " + owner);
+        }
+    }
+
+    private static void requireColumns(Client client) {
+        if (client.getFirstName() == null || client.getLastName() == null
+                || client.getDni() == null || client.getEmail() == null) {
+            throw new DataIntegrityViolationException("Client columns cannot be null");
+        }
+    }
+
+    private static byte[] encodePut(Client client) {
+        return encode(out -> {
+            out.writeByte(PUT_FULL);
+            writeClient(out, client);
+        });
+    }
+
+    private static byte[] encodeDelete(long id) {
+        return encode(out -> {
+            out.writeByte(DELETE);
+            out.writeLong(id);
+        });
+    }
+
+    private static byte[] encode(RecordWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeClient(DataOutput out, Client client) throws IOException {
+        out.writeLong(client.getId());
+        out.writeLong(client.getVersion());
+        out.writeUTF(client.getFirstName());
+        out.writeUTF(client.getLastName());
+        out.writeUTF(client.getDni());
+        out.writeUTF(client.getEmail());
+        writeNullable(out, client.getChangeSeq(), out::writeLong);
+        writeNullable(out, client.getLastAccessedAt(), value -> out.writeUTF(value.toString()));
+        writeNullable(out, client.getLastModifiedAt(), value -> out.writeUTF(value.toString()));
+    }
+
+    private static Client readClient(DataInput in, boolean full) throws IOException {
+        Client client = Client.builder()
+                .id(in.readLong())
+                .version(in.readLong())
+                .firstName(in.readUTF())
+                .lastName(in.readUTF())
+                .dni(in.readUTF())
+                .email(in.readUTF())
+                .build();
+        if (full) {
+            client.setChangeSeq(in.readBoolean() ? in.readLong() : null);
+            client.setLastAccessedAt(in.readBoolean() ? LocalDateTime.parse(in.readUTF()) : null);
+            client.setLastModifiedAt(in.readBoolean() ? LocalDateTime.parse(in.readUTF()) : null);
+        }
+        return client;
+    }
+
+    private static <T> void writeNullable(DataOutput out, T value, FieldWriter<T> writer) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writer.write(value);
+        }
+    }
+
+    private static Client copy(Client client) {
+        return client.copy();
+    }
+
+    /** Cambio escrito en el log; {@code stored} es null para un borrado */
+    private static final class Pending {
+        private final long sequence;
+        private final long id;
+        private final Client stored;
+
+        private Pending(long sequence, long id, Client stored) {
+            this.sequence = sequence;
+            this.id = id;
+            this.stored = stored;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter<T> {
+        void write(T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
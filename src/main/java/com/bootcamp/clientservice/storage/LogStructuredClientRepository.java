@@ -0,0 +1,321 @@
+package com.bootcamp.clientservice.storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityNotFoundException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.repository.ClientSorting;
+import com.bootcamp.clientservice.repository.ClientStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ClientRepository} sobre {@link ClientStore}, para correr sin MySQL (perfil {@code embedded-store}).
+ * Respeta la semántica observable de Spring Data JPA que usa el servicio: ids y versiones asignados
+ * en {@code save}, bloqueo optimista, unicidad de DNI/correo y {@code deleteById} sobre un id inexistente.
+ * Query by Example no está soportado. También da los agregados de {@link ClientStatisticsRepository}.
+ */
+@RequiredArgsConstructor
+public class LogStructuredClientRepository implements ClientRepository, ClientStatisticsRepository {
+
+    private final ClientStore store;
+
+    @Override
+    public Optional<Client> findByEmail(String email) {
+        return store.getByEmail(email);
+    }
+
+    @Override
+    public Optional<Client> findByDni(String dni) {
+        return store.getByDni(dni);
+    }
+
+    @Override
+    public boolean existsByDni(String dni) {
+        return store.containsDni(dni);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return store.containsEmail(email);
+    }
+
+    @Override
+    public List<UniqueKeys> findUniqueKeyConflicts(String dni, String email) {
+        List<UniqueKeys> conflicts = new ArrayList<>(2);
+        Optional<Client> byDni = store.getByDni(dni);
+        byDni.ifPresent(client -> conflicts.add(new Keys(client)));
+        store.getByEmail(email)
+                .filter(client -> byDni.map(other -> !other.getId().equals(client.getId())).orElse(true))
+                .ifPresent(client -> conflicts.add(new Keys(client)));
+        return conflicts;
+    }
+
+    @Override
+    public <S extends Client> S save(S entity) {
+        return store.put(entity);
+    }
+
+    @Override
+    public <S extends Client> List<S> saveAll(Iterable<S> entities) {
+        return store.putAll(entities);
+    }
+
+    @Override
+    public <S extends Client> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends Client> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    // Cada escritura ya queda en disco al volver de save/delete
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public Optional<Client> findById(Long id) {
+        return store.get(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return store.contains(id);
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return store.all();
+    }
+
+    @Override
+    public List<Client> findAll(Sort sort) {
+        List<Client> clients = store.all();
+        Comparator<Client> comparator = ClientSorting.comparator(sort);
+        if (comparator != null) {
+            clients.sort(comparator);
+        }
+        return clients;
+    }
+
+    @Override
+    public Page<Client> findAll(Pageable pageable) {
+        List<Client> clients = findAll(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(clients);
+        }
+        int from = (int) Math.min(pageable.getOffset(), clients.size());
+        int to = Math.min(from + pageable.getPageSize(), clients.size());
+        return new PageImpl<>(new ArrayList<>(clients.subList(from, to)), pageable, clients.size());
+    }
+
+    @Override
+    public List<Client> findAllById(Iterable<Long> ids) {
+        List<Client> clients = new ArrayList<>();
+        for (Long id : ids) {
+            store.get(id).ifPresent(clients::add);
+        }
+        return clients;
+    }
+
+    @Override
+    public long count() {
+        return store.size();
+    }
+
+    @Override
+    public List<DomainCount> countByEmailDomain() {
+        return store.countByEmailDomain().entrySet().stream()
+                .map(entry -> new Domain(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    // El almacén embebido no tiene archivo de clientes inactivos
+    @Override
+    public long countArchived() {
+        return 0;
+    }
+
+    @Override
+    public List<DomainCount> countArchivedByEmailDomain() {
+        return List.of();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (!store.delete(id)) {
+            throw new EmptyResultDataAccessException(
+                    String.format("No %s entity with id %s exists!", Client.class, id), 1);
+        }
+    }
+
+    @Override
+    public void delete(Client entity) {
+        if (entity.getId() != null) {
+            store.delete(entity.getId());
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        for (Long id : ids) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Client> entities) {
+        store.deleteAll(idsOf(entities));
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAllInBatch();
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<Client> entities) {
+        store.deleteAll(idsOf(entities));
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        store.deleteAll(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        List<Long> ids = new ArrayList<>();
+        for (Client client : store.all()) {
+            ids.add(client.getId());
+        }
+        store.deleteAll(ids);
+    }
+
+    /** @deprecated como en {@code JpaRepository}; usar {@link #getReferenceById(Long)} */
+    @Deprecated
+    @Override
+    public Client getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    /** @deprecated como en {@code JpaRepository}; usar {@link #getReferenceById(Long)} */
+    @Deprecated
+    @Override
+    public Client getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    // No hay proxies perezosos: si el id no existe falla ya, no al primer acceso
+    @Override
+    public Client getReferenceById(Long id) {
+        return store.get(id).orElseThrow(() -> new EntityNotFoundException(
+                "Unable to find " + Client.class.getName() + " with id " + id));
+    }
+
+    @Override
+    public <S extends Client> Optional<S> findOne(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> List<S> findAll(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> List<S> findAll(Example<S> example, Sort sort) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> long count(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client> boolean exists(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Client, R> R findBy(Example<S> example,
+                                          Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw queryByExampleNotSupported();
+    }
+
+    private static List<Long> idsOf(Iterable<? extends Client> entities) {
+        List<Long> ids = new ArrayList<>();
+        for (Client entity : entities) {
+            if (entity.getId() != null) {
+                ids.add(entity.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static UnsupportedOperationException queryByExampleNotSupported() {
+        return new UnsupportedOperationException("Query by Example is not supported by the embedded client store");
+    }
+
+    private static final class Keys implements UniqueKeys {
+
+        private final String dni;
+        private final String email;
+
+        private Keys(Client client) {
+            this.dni = client.getDni();
+            this.email = client.getEmail();
+        }
+
+        @Override
+        public String getDni() {
+            return dni;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+    }
+
+    private static final class Domain implements DomainCount {
+
+        private final String domain;
+        private final long clients;
+
+        private Domain(String domain, long clients) {
+            this.domain = domain;
+            this.clients = clients;
+        }
+
+        @Override
+        public String getDomain() {
+            return domain;
+        }
+
+        @Override
+        public long getClients() {
+            return clients;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bootcamp.clientservice.storage;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Gestor de transacciones vacío para el perfil {@code embedded-store}: no hay base relacional,
+ * cada operación de {@link ClientStore} es atómica y durable por sí sola.
+ * Existe para que los {@code @Transactional} del servicio sigan funcionando sin cambios.
+ */
+public class StoreTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.bootcamp.clientservice.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Log de escritura anticipada en segmentos {@code wal-<generación>.log}.
+ * Cada registro va enmarcado como {@code [largo][crc32][payload]}.
+ * <p>
+ * Group commit: {@link #append(byte[])} sólo escribe en el canal y {@link #sync(long)} espera el fsync.
+ * Mientras un hilo hace fsync, los demás siguen escribiendo; el siguiente fsync cubre a todos
+ * los registros acumulados, así que N escritores concurrentes pagan bastante menos que N fsync.
+ */
+@Slf4j
+public class WriteAheadLog implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final Path directory;
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+    private long generation;
+    private long appended;
+    private volatile long synced;
+
+    private WriteAheadLog(Path directory, long generation) throws IOException {
+        this.directory = directory;
+        this.generation = generation;
+        this.channel = openSegment(directory, generation);
+    }
+
+    /** Abre (o crea) el segmento de la generación indicada para seguir escribiendo al final */
+    public static WriteAheadLog open(Path directory, long generation) throws IOException {
+        return new WriteAheadLog(directory, generation);
+    }
+
+    /**
+     * Reproduce los registros de los segmentos con generación mayor o igual a {@code fromGeneration}.
+     * Un registro incompleto o corrupto al final del último segmento (escritura cortada por una caída)
+     * se descarta truncando el archivo; en un segmento intermedio es un error.
+     *
+     * @return la generación del último segmento encontrado, o {@code fromGeneration} si no había ninguno
+     */
+    public static long replay(Path directory, long fromGeneration, Consumer<byte[]> consumer) throws IOException {
+        List<Long> generations = generations(directory);
+        long last = fromGeneration;
+        for (int i = 0; i < generations.size(); i++) {
+            long generation = generations.get(i);
+            if (generation < fromGeneration) {
+                continue;
+            }
+            boolean isLast = i == generations.size() - 1;
+            replaySegment(segmentPath(directory, generation), isLast, consumer);
+            last = generation;
+        }
+        return last;
+    }
+
+    /** Escribe el registro sin esperar a disco. Devuelve su número de secuencia para {@link #sync(long)} */
+    public long append(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        synchronized (writeLock) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return ++appended;
+        }
+    }
+
+    /** Bloquea hasta que el registro {@code sequence} (y todos los anteriores) esté en disco */
+    public void sync(long sequence) throws IOException {
+        if (synced >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (synced >= sequence) {
+                return;
+            }
+            long target;
+            FileChannel current;
+            synchronized (writeLock) {
+                target = appended;
+                current = channel;
+            }
+            current.force(false);
+            synced = target;
+        }
+    }
+
+    /** Cierra el segmento actual (con fsync) y empieza uno nuevo. Devuelve la nueva generación */
+    public long rotate() throws IOException {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                channel.force(false);
+                channel.close();
+                synced = appended;
+                generation++;
+                channel = openSegment(directory, generation);
+                return generation;
+            }
+        }
+    }
+
+    /** Borra los segmentos ya cubiertos por un snapshot */
+    public void deleteSegmentsBefore(long generation) throws IOException {
+        for (long candidate : generations(directory)) {
+            if (candidate < generation) {
+                Files.deleteIfExists(segmentPath(directory, candidate));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                if (channel.isOpen()) {
+                    channel.force(false);
+                    channel.close();
+                }
+                synced = appended;
+            }
+        }
+    }
+
+    private static void replaySegment(Path segment, boolean isLast, Consumer<byte[]> consumer) throws IOException {
+        try (FileChannel in = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            long position = 0;
+            while (true) {
+                header.clear();
+                if (readFully(in, header, position) < HEADER_BYTES) {
+                    break;
+                }
+                header.flip();
+                int length = header.getInt();
+                int checksum = header.getInt();
+                if (length < 0 || length > MAX_RECORD_BYTES) {
+                    break;
+                }
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                if (readFully(in, payload, position + HEADER_BYTES) < length) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(payload.array());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                consumer.accept(payload.array());
+                position += HEADER_BYTES + length;
+            }
+
+            if (position < in.size()) {
+                if (!isLast) {
+                    throw new IllegalStateException("Corrupted write-ahead log segment: " + segment);
+                }
+                log.warn("Discarding {} bytes of incomplete records at the end of {}", in.size() - position, segment);
+                in.truncate(position);
+                in.force(true);
+            }
+        }
+    }
+
+    private static int readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = in.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static List<Long> generations(Path directory) throws IOException {
+        List<Long> generations = new ArrayList<>();
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path segment : segments) {
+                String name = segment.getFileName().toString();
+                generations.add(Long.parseLong(
+                        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    private static FileChannel openSegment(Path directory, long generation) throws IOException {
+        return FileChannel.open(segmentPath(directory, generation),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static Path segmentPath(Path directory, long generation) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, generation, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,50 @@
+package com.bootcamp.clientservice.tracing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/** Exportador en memoria con capacidad acotada (descarta los spans más viejos), para análisis local y tests */
+public class RecordingSpanExporter implements SpanExporter {
+
+    private final int capacity;
+    private final Deque<SpanData> spans = new ArrayDeque<>();
+
+    public RecordingSpanExporter(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            if (spans.size() == capacity) {
+                spans.removeFirst();
+            }
+            spans.addLast(span);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public synchronized List<SpanData> getFinishedSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    public synchronized void reset() {
+        spans.clear();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
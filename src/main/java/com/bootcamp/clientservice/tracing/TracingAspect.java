@@ -0,0 +1,82 @@
+package com.bootcamp.clientservice.tracing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Spans internos para controller, service y repositorios.
+ * Sólo se crean dentro de una traza ya iniciada (petición HTTP), así el trabajo en segundo plano
+ * como el {@code DeletionWorker} no genera trazas sueltas cada pocos segundos.
+ */
+@Aspect
+public class TracingAspect {
+
+    static final String INSTRUMENTATION_NAME = "com.bootcamp.clientservice";
+
+    private static final String BASE_PACKAGE = "com.bootcamp.clientservice";
+
+    private final Tracer tracer;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public TracingAspect(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+
+    @Around("within(com.bootcamp.clientservice.controller..*)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, joinPoint.getSignature().getDeclaringType().getSimpleName(), SpanKind.INTERNAL);
+    }
+
+    @Around("within(com.bootcamp.clientservice.service..*Service)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, joinPoint.getSignature().getDeclaringType().getSimpleName(), SpanKind.INTERNAL);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, repositoryName(joinPoint.getThis()), SpanKind.CLIENT);
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String component, SpanKind kind) throws Throwable {
+        if (!Span.current().getSpanContext().isValid()) {
+            return joinPoint.proceed();
+        }
+        Span span = tracer.spanBuilder(component + "." + joinPoint.getSignature().getName())
+                .setSpanKind(kind)
+                .setAttribute("code.namespace", component)
+                .setAttribute("code.function", joinPoint.getSignature().getName())
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            span.recordException(ex);
+            span.setStatus(StatusCode.ERROR);
+            throw ex;
+        } finally {
+            span.end();
+        }
+    }
+
+    // Los métodos heredados (findById, save...) se declaran en Spring Data; el nombre útil es la interfaz propia
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate.getName().startsWith(BASE_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.bootcamp.clientservice.tracing;
+
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+/** Span CLIENT por cada llamada saliente del {@code RestTemplate}, propagando {@code traceparent} al destino */
+public class TracingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final TextMapSetter<HttpHeaders> HEADER_SETTER = (headers, key, value) -> {
+        if (headers != null) {
+            headers.set(key, value);
+        }
+    };
+
+    private final OpenTelemetry openTelemetry;
+    private final Tracer tracer;
+
+    public TracingClientHttpRequestInterceptor(OpenTelemetry openTelemetry) {
+        this.openTelemetry = openTelemetry;
+        this.tracer = openTelemetry.getTracer(TracingAspect.INSTRUMENTATION_NAME);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String method = request.getMethodValue();
+        Span span = tracer.spanBuilder("HTTP " + method)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("http.method", method)
+                .setAttribute("http.url", request.getURI().toString())
+                .setAttribute("net.peer.name", String.valueOf(request.getURI().getHost()))
+                .startSpan();
+
+        try (Scope ignored = span.makeCurrent()) {
+            openTelemetry.getPropagators().getTextMapPropagator()
+                    .inject(Context.current(), request.getHeaders(), HEADER_SETTER);
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getRawStatusCode();
+            span.setAttribute("http.status_code", status);
+            if (status >= 400) {
+                span.setStatus(StatusCode.ERROR);
+            }
+            return response;
+        } catch (IOException | RuntimeException ex) {
+            span.recordException(ex);
+            span.setStatus(StatusCode.ERROR);
+            throw ex;
+        } finally {
+            span.end();
+        }
+    }
+}
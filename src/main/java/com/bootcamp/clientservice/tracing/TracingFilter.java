@@ -0,0 +1,125 @@
+package com.bootcamp.clientservice.tracing;
+
+import java.io.IOException;
+import java.util.Collections;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+
+/**
+ * Abre el span SERVER de cada petición. Si el llamante envía {@code traceparent}
+ * (W3C Trace Context) el span continúa esa traza; si no, se inicia una nueva.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+
+    private static final TextMapGetter<HttpServletRequest> HEADER_GETTER = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(HttpServletRequest request) {
+            return Collections.list(request.getHeaderNames());
+        }
+
+        @Override
+        public String get(HttpServletRequest request, String key) {
+            return request == null ? null : request.getHeader(key);
+        }
+    };
+
+    private final OpenTelemetry openTelemetry;
+    private final Tracer tracer;
+
+    public TracingFilter(OpenTelemetry openTelemetry) {
+        this.openTelemetry = openTelemetry;
+        this.tracer = openTelemetry.getTracer(TracingAspect.INSTRUMENTATION_NAME);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Context parent = openTelemetry.getPropagators().getTextMapPropagator()
+                .extract(Context.root(), request, HEADER_GETTER);
+        Span span = tracer.spanBuilder("HTTP " + request.getMethod())
+                .setParent(parent)
+                .setSpanKind(SpanKind.SERVER)
+                .setAttribute("http.method", request.getMethod())
+                .setAttribute("http.target", request.getRequestURI())
+                .startSpan();
+
+        boolean async = false;
+        try (Scope ignored = span.makeCurrent()) {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } catch (IOException | ServletException | RuntimeException ex) {
+            span.recordException(ex);
+            span.setStatus(StatusCode.ERROR);
+            throw ex;
+        } finally {
+            if (async) {
+                // El status definitivo de una petición asíncrona se conoce recién al completarse
+                request.getAsyncContext().addListener(new FinishOnComplete(span, request, response));
+            } else {
+                finish(span, request, response);
+            }
+        }
+    }
+
+    private static void finish(Span span, HttpServletRequest request, HttpServletResponse response) {
+        // La ruta con plantilla sólo se conoce después de que Spring MVC resolvió el handler
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (route != null) {
+            span.setAttribute("http.route", route.toString());
+            span.updateName(request.getMethod() + " " + route);
+        }
+        span.setAttribute("http.status_code", response.getStatus());
+        if (response.getStatus() >= 500) {
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+
+    private static final class FinishOnComplete implements AsyncListener {
+        private final Span span;
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+
+        private FinishOnComplete(Span span, HttpServletRequest request, HttpServletResponse response) {
+            this.span = span;
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finish(span, request, response);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            span.setStatus(StatusCode.ERROR, "async request timed out");
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (event.getThrowable() != null) {
+                span.recordException(event.getThrowable());
+            }
+            span.setStatus(StatusCode.ERROR);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
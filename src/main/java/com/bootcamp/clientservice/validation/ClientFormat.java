@@ -0,0 +1,70 @@
+package com.bootcamp.clientservice.validation;
+
+/**
+ * Reglas de formato de DNI y correo, escritas como recorridos carácter a carácter.
+ * Es la única definición del formato: la usan tanto las anotaciones de Bean Validation
+ * de los DTOs como {@link ClientValidator}, sin compilar expresiones regulares por llamada.
+ */
+public final class ClientFormat {
+
+    public static final int DNI_MIN_LENGTH = 8;
+    public static final int DNI_MAX_LENGTH = 12;
+
+    private ClientFormat() {
+    }
+
+    /** Sólo dígitos, entre {@value #DNI_MIN_LENGTH} y {@value #DNI_MAX_LENGTH} caracteres */
+    public static boolean isValidDni(String dni) {
+        if (dni == null || dni.length() < DNI_MIN_LENGTH || dni.length() > DNI_MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < dni.length(); i++) {
+            char c = dni.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalente a {@code ^[\w-.]+@[\w-]+\.[a-zA-Z]{2,}$}: usuario de letras, dígitos, '_', '-' o '.',
+     * un dominio sin puntos y un TLD de al menos dos letras.
+     */
+    public static boolean isValidEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        int at = email.indexOf('@');
+        int dot = email.lastIndexOf('.');
+        if (at < 1 || dot < at + 2 || email.length() - dot - 1 < 2) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            char c = email.charAt(i);
+            if (!isWordChar(c) && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        for (int i = at + 1; i < dot; i++) {
+            char c = email.charAt(i);
+            if (!isWordChar(c) && c != '-') {
+                return false;
+            }
+        }
+        for (int i = dot + 1; i < email.length(); i++) {
+            if (!isAsciiLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWordChar(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
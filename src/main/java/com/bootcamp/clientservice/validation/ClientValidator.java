@@ -1,12 +1,18 @@
 package com.bootcamp.clientservice.validation;
 
 import static org.apache.logging.log4j.util.Strings.isBlank;
+import java.util.List;
 import javax.validation.ValidationException;
 import org.springframework.stereotype.Component;
 import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.jfr.ClientValidationEvent;
 import com.bootcamp.clientservice.repository.ClientRepository;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Validación de alta en una sola pasada: primero los chequeos estructurales (sin costo de I/O)
+ * y sólo si pasan, una única consulta que resuelve a la vez la unicidad de DNI y correo.
+ */
 @Component
 @RequiredArgsConstructor
 public class ClientValidator {
@@ -14,30 +20,42 @@ public class ClientValidator {
     private final ClientRepository clientRepository;
 
     public void validateNewClient(Client client) {
+        ClientValidationEvent event = new ClientValidationEvent();
+        event.begin();
+        try {
+            validate(client, event);
+            event.outcome(ClientValidationEvent.OK);
+        } finally {
+            event.commit();
+        }
+    }
+
+    private void validate(Client client, ClientValidationEvent event) {
         if (isBlank(client.getFirstName()) || isBlank(client.getLastName()) ||
                 isBlank(client.getDni()) || isBlank(client.getEmail())) {
-            throw new ValidationException("Todos los campos son obligatorios");
+            throw event.reject("missing_fields", new ValidationException("Todos los campos son obligatorios"));
         }
 
-        if (clientRepository.existsByDni(client.getDni())) {
-            throw new IllegalArgumentException("El DNI ya está registrado");
+        if (!ClientFormat.isValidEmail(client.getEmail())) {
+            throw event.reject("invalid_email",
+                    new ValidationException("El correo electrónico tiene un formato inválido"));
         }
 
-        if (clientRepository.existsByEmail(client.getEmail())) {
-            throw new IllegalArgumentException("El correo ya está registrado");
+        if (!ClientFormat.isValidDni(client.getDni())) {
+            throw event.reject("invalid_dni", new ValidationException("El DNI debe tener entre 8 y 12 dígitos"));
         }
 
-        if (!isValidEmail(client.getEmail())) {
-            throw new ValidationException("El correo electrónico tiene un formato inválido");
+        event.queried();
+        List<ClientRepository.UniqueKeys> conflicts =
+                clientRepository.findUniqueKeyConflicts(client.getDni(), client.getEmail());
+        // El DNI se informa primero, igual que cuando se consultaba por separado
+        for (ClientRepository.UniqueKeys conflict : conflicts) {
+            if (client.getDni().equals(conflict.getDni())) {
+                throw event.reject("duplicate_dni", new IllegalArgumentException("El DNI ya está registrado"));
+            }
         }
-
-        if (client.getDni().length() < 8 || client.getDni().length() > 12) {
-            throw new ValidationException("El DNI debe tener entre 8 y 12 caracteres");
+        if (!conflicts.isEmpty()) {
+            throw event.reject("duplicate_email", new IllegalArgumentException("El correo ya está registrado"));
         }
-
-    }
-
-    private boolean isValidEmail(String email) {
-        return email != null && email.matches("^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$");
     }
 }
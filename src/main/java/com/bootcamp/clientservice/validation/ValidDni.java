@@ -0,0 +1,23 @@
+package com.bootcamp.clientservice.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import javax.validation.Constraint;
+import javax.validation.Payload;
+
+/** DNI con el formato de {@link ClientFormat#isValidDni(String)}; {@code null} se considera válido */
+@Documented
+@Constraint(validatedBy = ValidDniValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidDni {
+
+    String message() default "DNI must contain between 8 and 12 digits";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
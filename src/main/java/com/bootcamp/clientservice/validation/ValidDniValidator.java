@@ -0,0 +1,12 @@
+package com.bootcamp.clientservice.validation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+public class ValidDniValidator implements ConstraintValidator<ValidDni, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || ClientFormat.isValidDni(value);
+    }
+}
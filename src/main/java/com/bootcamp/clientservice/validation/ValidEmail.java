@@ -0,0 +1,23 @@
+package com.bootcamp.clientservice.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import javax.validation.Constraint;
+import javax.validation.Payload;
+
+/** Correo con el formato de {@link ClientFormat#isValidEmail(String)}; {@code null} se considera válido */
+@Documented
+@Constraint(validatedBy = ValidEmailValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidEmail {
+
+    String message() default "Email must be valid";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,12 @@
+package com.bootcamp.clientservice.validation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+public class ValidEmailValidator implements ConstraintValidator<ValidEmail, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || ClientFormat.isValidEmail(value);
+    }
+}
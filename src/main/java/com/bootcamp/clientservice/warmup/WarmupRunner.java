@@ -0,0 +1,194 @@
+package com.bootcamp.clientservice.warmup;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.DispatcherServlet;
+import com.bootcamp.clientservice.controller.ClientController;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.dto.request.CreateClientRequest;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.storage.StoreTransactionManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Calentamiento del JIT antes de quedar listo. Spring Boot publica la readiness recién después de
+ * los {@link ApplicationRunner}, así que mientras corre el probe sigue en rojo y no llega tráfico.
+ * <p>
+ * Envía peticiones en proceso al {@link DispatcherServlet} (negociación de contenido, validación,
+ * controller, servicio, cache de bytes y serialización): lecturas de clientes existentes y altas en
+ * modo prueba (transacción que siempre hace rollback), por rondas, hasta que el tiempo de compilación
+ * del JIT deja de crecer o se agota el tiempo máximo. No pasa por los filtros del contenedor: por la
+ * red, el rate limit de admisión frenaría el calentamiento y el alta no podría revertirse.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "startup.warmup.enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+
+    private final DispatcherServlet dispatcherServlet;
+    private final ClientRepository clientRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${startup.warmup.max-duration-ms:30000}")
+    private long maxDurationMillis;
+
+    @Value("${startup.warmup.calls-per-round:200}")
+    private int callsPerRound;
+
+    @Value("${startup.warmup.stable-rounds:3}")
+    private int stableRounds;
+
+    @Value("${startup.warmup.stable-compile-ms:5}")
+    private long stableCompileMillis;
+
+    @Value("${startup.warmup.sample-size:100}")
+    private int sampleSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (dispatcherServlet.getServletConfig() == null) {
+            log.warn("Skipping warm-up: dispatcher servlet is not initialized (spring.mvc.servlet.load-on-startup)");
+            return;
+        }
+        List<Long> ids = sampleIds();
+        // Con el almacenamiento embebido o sharded el rollback no deshace las escrituras
+        boolean dryRunRegister = !(transactionManager instanceof StoreTransactionManager);
+        if (ids.isEmpty() && !dryRunRegister) {
+            log.info("Skipping warm-up: no clients to read and register cannot run as a dry run");
+            return;
+        }
+
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean jitTimed = jit != null && jit.isCompilationTimeMonitoringSupported();
+        TransactionTemplate rollbackOnly = new TransactionTemplate(transactionManager);
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMillis);
+        long compileStart = compileMillis(jit, jitTimed);
+        long lastCompile = compileStart;
+        double firstRoundMicros = 0;
+        double lastRoundMicros = 0;
+        long calls = 0;
+        long failures = 0;
+        int rounds = 0;
+        int stable = 0;
+
+        while (stable < stableRounds && System.nanoTime() < deadline) {
+            long roundStart = System.nanoTime();
+            long roundFailures = 0;
+            for (int i = 0; i < callsPerRound; i++) {
+                if (!call(calls++, ids, dryRunRegister, rollbackOnly)) {
+                    roundFailures++;
+                }
+            }
+            failures += roundFailures;
+            lastRoundMicros = (System.nanoTime() - roundStart) / 1000.0 / callsPerRound;
+            if (rounds++ == 0) {
+                firstRoundMicros = lastRoundMicros;
+            }
+            if (roundFailures == callsPerRound) {
+                log.warn("Aborting warm-up: every call of the last round failed");
+                break;
+            }
+
+            // Sin medición del tiempo de compilación, el corte es sólo por duración
+            long compile = compileMillis(jit, jitTimed);
+            stable = jitTimed && compile - lastCompile <= stableCompileMillis ? stable + 1 : 0;
+            lastCompile = compile;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("clients.warmup.duration").record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warm-up {} after {} ms: {} calls in {} rounds ({} failed), {} ms of JIT compilation, "
+                        + "{} us -> {} us per call",
+                stable >= stableRounds ? "stabilized" : "stopped", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                calls, rounds, failures, lastCompile - compileStart,
+                Math.round(firstRoundMicros), Math.round(lastRoundMicros));
+    }
+
+    private List<Long> sampleIds() {
+        try {
+            return clientRepository.findAll(PageRequest.of(0, sampleSize)).map(Client::getId).getContent();
+        } catch (RuntimeException ex) {
+            log.warn("Could not sample clients for warm-up: {}", ex.getMessage());
+            return List.of();
+        }
+    }
+
+    // 3 de cada 4 llamadas son lecturas, la proporción habitual del tráfico; la mitad pide gzip
+    private boolean call(long n, List<Long> ids, boolean dryRunRegister, TransactionTemplate rollbackOnly) {
+        try {
+            if (dryRunRegister && (ids.isEmpty() || n % 4 == 3)) {
+                MockHttpServletRequest request = request("POST", "/clientes");
+                request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                request.setContent(objectMapper.writeValueAsBytes(syntheticRequest(n)));
+                return Boolean.TRUE.equals(rollbackOnly.execute(status -> {
+                    status.setRollbackOnly();
+                    return dispatch(request);
+                }));
+            }
+            MockHttpServletRequest request = request("GET", "/clientes/" + ids.get((int) (n % ids.size())));
+            if (n % 2 == 0) {
+                request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            }
+            return dispatch(request);
+        } catch (RuntimeException | IOException ex) {
+            log.debug("Warm-up call failed: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    private MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(dispatcherServlet.getServletContext(), method, uri);
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        request.setAttribute(ClientController.SYNTHETIC_REQUEST, Boolean.TRUE);
+        return request;
+    }
+
+    // Los errores los resuelve el propio dispatcher (GlobalExceptionHandler): cuenta como fallo un 4xx/5xx
+    private boolean dispatch(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            dispatcherServlet.service(request, response);
+        } catch (ServletException | IOException ex) {
+            log.debug("Warm-up call failed: {}", ex.getMessage());
+            return false;
+        }
+        return response.getStatus() < 400;
+    }
+
+    // DNI de 12 dígitos que empieza con 9: no choca con los reales de 8 dígitos, y el alta se revierte igual
+    private static CreateClientRequest syntheticRequest(long n) {
+        String suffix = String.format("%011d", n % 100_000_000_000L);
+        return new CreateClientRequest("Warm", "Up", "9" + suffix, "warmup" + suffix + "@example.com");
+    }
+
+    private static long compileMillis(CompilationMXBean jit, boolean jitTimed) {
+        return jitTimed ? jit.getTotalCompilationTime() : 0;
+    }
+}
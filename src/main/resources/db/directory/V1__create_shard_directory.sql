@@ -0,0 +1,21 @@
+-- Directorio global del clúster de shards: asignación bucket -> shard, índice de correos
+-- (únicos entre todos los shards) y secuencia de ids.
+CREATE TABLE IF NOT EXISTS shard_buckets (
+    bucket INT         NOT NULL,
+    shard  VARCHAR(64) NOT NULL,
+    PRIMARY KEY (bucket)
+);
+
+CREATE TABLE IF NOT EXISTS client_emails (
+    email     VARCHAR(150) NOT NULL,
+    client_id BIGINT       NOT NULL,
+    PRIMARY KEY (email)
+);
+
+CREATE TABLE IF NOT EXISTS client_id_sequence (
+    id         INT    NOT NULL,
+    next_value BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO client_id_sequence (id, next_value) VALUES (1, 1);
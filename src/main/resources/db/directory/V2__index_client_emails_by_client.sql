@@ -0,0 +1,2 @@
+-- Los borrados liberan los correos por id de cliente, sin leer antes la fila del shard
+CREATE INDEX idx_client_emails_client_id ON client_emails (client_id);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS clients (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    first_name VARCHAR(100) NOT NULL,
+    last_name  VARCHAR(100) NOT NULL,
+    email      VARCHAR(150) NOT NULL,
+    dni        VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX idx_clients_email_unique ON clients (email);
+CREATE UNIQUE INDEX idx_clients_dni_unique ON clients (dni);
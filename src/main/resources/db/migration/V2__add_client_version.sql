@@ -0,0 +1 @@
+ALTER TABLE clients ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS client_deletion_requests (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    client_id       BIGINT       NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_deletion_requests_status_next_attempt ON client_deletion_requests (status, next_attempt_at);
+CREATE INDEX idx_deletion_requests_client ON client_deletion_requests (client_id);
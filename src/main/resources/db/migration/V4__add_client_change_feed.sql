@@ -0,0 +1,25 @@
+ALTER TABLE clients ADD COLUMN change_seq BIGINT;
+
+-- Los clientes existentes entran al feed en orden de alta
+UPDATE clients SET change_seq = id;
+
+CREATE INDEX idx_clients_change_seq ON clients (change_seq);
+
+CREATE TABLE IF NOT EXISTS client_tombstones (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    client_id  BIGINT      NOT NULL,
+    change_seq BIGINT      NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_client_tombstones_change_seq ON client_tombstones (change_seq);
+
+CREATE TABLE IF NOT EXISTS client_change_sequence (
+    id        BIGINT NOT NULL,
+    seq_value BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO client_change_sequence (id, seq_value)
+SELECT 1, COALESCE(MAX(id), 0) FROM clients;
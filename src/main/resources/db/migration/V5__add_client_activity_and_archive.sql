@@ -0,0 +1,24 @@
+ALTER TABLE clients ADD COLUMN last_accessed_at DATETIME(6);
+ALTER TABLE clients ADD COLUMN last_modified_at DATETIME(6);
+
+-- Sin historial de accesos, los clientes existentes cuentan como usados al migrar
+UPDATE clients SET last_accessed_at = NOW(6), last_modified_at = NOW(6);
+
+CREATE INDEX idx_clients_last_accessed ON clients (last_accessed_at);
+
+CREATE TABLE IF NOT EXISTS clients_archive (
+    id               BIGINT       NOT NULL,
+    first_name       VARCHAR(100) NOT NULL,
+    last_name        VARCHAR(100) NOT NULL,
+    email            VARCHAR(150) NOT NULL,
+    dni              VARCHAR(255) NOT NULL,
+    version          BIGINT       NOT NULL,
+    change_seq       BIGINT,
+    last_accessed_at DATETIME(6),
+    last_modified_at DATETIME(6),
+    archived_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX idx_clients_archive_email_unique ON clients_archive (email);
+CREATE UNIQUE INDEX idx_clients_archive_dni_unique ON clients_archive (dni);
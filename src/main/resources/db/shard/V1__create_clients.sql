@@ -0,0 +1,15 @@
+-- Tabla de clientes de cada shard. El id lo asigna el servicio (secuencia global + bucket),
+-- y bucket permite mover los clientes de un bucket completo al rebalancear.
+CREATE TABLE IF NOT EXISTS clients (
+    id         BIGINT       NOT NULL,
+    bucket     INT          NOT NULL,
+    first_name VARCHAR(100) NOT NULL,
+    last_name  VARCHAR(100) NOT NULL,
+    email      VARCHAR(150) NOT NULL,
+    dni        VARCHAR(255) NOT NULL,
+    version    BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX idx_clients_dni_unique ON clients (dni);
+CREATE INDEX idx_clients_bucket ON clients (bucket);
@@ -0,0 +1,145 @@
+package com.bootcamp.clientservice.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import com.bootcamp.clientservice.deadline.Deadline;
+import com.bootcamp.clientservice.deadline.DeadlineExceededException;
+import com.bootcamp.clientservice.loadtest.StubAccountsServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.context.Scope;
+
+/** Cobertura y deadline de {@link RestAccountsClient} contra el stub local con picos de latencia */
+class RestAccountsClientHedgingTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callExecutor = Executors.newCachedThreadPool();
+    private StubAccountsServer accounts;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setup() throws Exception {
+        accounts = new StubAccountsServer(5, 0);
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setReadTimeout(5000);
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @AfterEach
+    void shutdown() {
+        accounts.close();
+        callExecutor.shutdownNow();
+    }
+
+    @Test
+    void slow_primary_is_hedged_and_the_fast_attempt_wins() {
+        // Cada intento original tarda 1 s; el de cobertura responde en 5 ms
+        accounts.setLatencySpikeEvery(2, 1000);
+        RestAccountsClient client = client(50);
+
+        for (long id = 1; id <= 10; id++) {
+            long start = System.nanoTime();
+            assertThat(client.hasAccounts(id)).isFalse();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+        }
+
+        assertThat(meterRegistry.get("clients.accounts.calls").tag("hedged", "true").counter().count()).isEqualTo(10);
+        assertThat(meterRegistry.get("clients.accounts.hedge.wins").tag("winner", "hedge").counter().count()).isEqualTo(10);
+        assertThat(accounts.requestCount()).isEqualTo(20);
+    }
+
+    @Test
+    void fast_primary_is_not_hedged() {
+        RestAccountsClient client = client(500);
+
+        for (long id = 1; id <= 5; id++) {
+            assertThat(client.hasAccounts(id)).isFalse();
+        }
+
+        assertThat(meterRegistry.get("clients.accounts.calls").tag("hedged", "false").counter().count()).isEqualTo(5);
+        assertThat(accounts.requestCount()).isEqualTo(5);
+    }
+
+    @Test
+    void wait_is_bounded_by_request_deadline() {
+        accounts.setLatencyMillis(2000);
+        RestAccountsClient client = client(50);
+
+        long start = System.nanoTime();
+        try (Scope ignored = Deadline.after(200).makeCurrent()) {
+            assertThatThrownBy(() -> client.hasAccounts(1L)).isInstanceOf(DeadlineExceededException.class);
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+        assertThat(meterRegistry.get("clients.accounts.deadline_exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void expired_deadline_skips_the_call() {
+        RestAccountsClient client = client(50);
+
+        try (Scope ignored = Deadline.after(0).makeCurrent()) {
+            assertThatThrownBy(() -> client.hasAccounts(1L)).isInstanceOf(DeadlineExceededException.class);
+        }
+
+        assertThat(accounts.requestCount()).isZero();
+    }
+
+    @Test
+    void primary_failing_before_the_hedge_delay_still_gets_the_hedge_result() throws Exception {
+        RestAccountsClient client = client(300);
+        // La primera llamada en frío tarda lo bastante como para que el original falle tarde
+        assertThat(client.hasAccounts(0L)).isFalse();
+        long warmup = accounts.requestCount();
+        accounts.setErrorRate(1.0);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> result = caller.submit(() -> client.hasAccounts(1L));
+            while (accounts.requestCount() == warmup) {
+                Thread.sleep(1);
+            }
+            // El original falla a los ~5 ms; la cobertura sale a los 300 ms y ya no hay errores
+            Thread.sleep(100);
+            accounts.setErrorRate(0);
+
+            assertThat(result.get(5, TimeUnit.SECONDS)).isFalse();
+            assertThat(accounts.requestCount() - warmup).isEqualTo(2);
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejected_primary_fails_fast_without_calling_inline() {
+        Executor saturated = command -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        RestAccountsClient client = client(saturated, 50);
+
+        assertThatThrownBy(() -> client.hasAccounts(1L)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(accounts.requestCount()).isZero();
+    }
+
+    private RestAccountsClient client(long minHedgeDelayMillis) {
+        return client(callExecutor, minHedgeDelayMillis);
+    }
+
+    private RestAccountsClient client(Executor executor, long minHedgeDelayMillis) {
+        RestAccountsClient client = new RestAccountsClient(restTemplate, executor, meterRegistry,
+                true, 0.95, minHedgeDelayMillis);
+        ReflectionTestUtils.setField(client, "baseUrl", accounts.baseUrl());
+        return client;
+    }
+}
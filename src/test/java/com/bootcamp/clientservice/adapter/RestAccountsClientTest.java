@@ -21,6 +21,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import com.bootcamp.clientservice.dto.external.AccountResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class RestAccountsClientTest {
@@ -35,7 +36,8 @@ class RestAccountsClientTest {
 
     @BeforeEach
     void setup() {
-        client = new RestAccountsClient(restTemplate);
+        // Executor directo: el intento termina antes de la demora de cobertura y nunca se lanza un segundo
+        client = new RestAccountsClient(restTemplate, Runnable::run, new SimpleMeterRegistry(), true, 0.95, 20);
         // Inyecta el valor directamente en el campo baseUrl antes de ejecutar los tests.
         ReflectionTestUtils.setField(client, "baseUrl", baseUrl);
     }
@@ -0,0 +1,201 @@
+package com.bootcamp.clientservice.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdmissionControlFilterTest {
+
+    private final ObjectMapper om = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void request_within_limits_is_accepted() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(
+                () -> new AdaptiveConcurrencyLimiter(10, 1, 10),
+                new CallerRateLimiter(10, 10, 100), om, registry, true);
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/clientes/7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertEquals(200, response.getStatus());
+        assertEquals(1.0, registry.get("clients.admission.requests")
+                .tag("endpoint", "GET /clientes/{id}").tag("outcome", "accepted").counter().count());
+    }
+
+    @Test
+    void caller_over_rate_gets_429_with_retry_after() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(
+                () -> new AdaptiveConcurrencyLimiter(10, 1, 10),
+                new CallerRateLimiter(1, 1, 100), om, registry, true);
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request("caller-a"), new MockHttpServletResponse(), chain);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request("caller-a"), rejected, chain);
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("\"status\":429"));
+
+        // Otro llamante tiene su propio balde
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(request("caller-b"), other, chain);
+        assertEquals(200, other.getStatus());
+    }
+
+    @Test
+    void caller_header_is_ignored_unless_trusted() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(
+                () -> new AdaptiveConcurrencyLimiter(10, 1, 10),
+                new CallerRateLimiter(1, 1, 100), om, registry, false);
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request("caller-a"), new MockHttpServletResponse(), chain);
+        MockHttpServletResponse rotated = new MockHttpServletResponse();
+        filter.doFilter(request("caller-b"), rotated, chain);
+
+        assertEquals(429, rotated.getStatus());
+    }
+
+    @Test
+    void endpoint_keys_come_from_the_fixed_route_list() {
+        assertEquals("GET /clientes/{id}", endpointKey("GET", "/clientes/7"));
+        assertEquals("GET /clientes/stats", endpointKey("GET", "/clientes/stats"));
+        assertEquals("GET /clientes/eliminaciones/{requestId}", endpointKey("GET", "/clientes/eliminaciones/abc"));
+        assertEquals("GET UNMATCHED", endpointKey("GET", "/clientes/7/x/y"));
+        assertEquals("OTHER /clientes", endpointKey("FOO", "/clientes"));
+    }
+
+    @Test
+    void endpoint_over_concurrency_limit_is_shed_with_503() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        AdmissionControlFilter filter = new AdmissionControlFilter(
+                () -> limiter, new CallerRateLimiter(10, 10, 100), om, registry, true);
+        FilterChain chain = mock(FilterChain.class);
+        assertTrue(limiter.tryAcquire());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/clientes");
+        filter.doFilter(request, response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        verify(chain, never()).doFilter(request, response);
+    }
+
+    @Test
+    void limiter_shrinks_when_latency_grows_and_respects_minimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 50);
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limiter, 1_000_000L);
+        }
+        int steadyLimit = limiter.getLimit();
+
+        for (int i = 0; i < 200; i++) {
+            saturateAndRelease(limiter, 20_000_000L);
+        }
+
+        assertTrue(limiter.getLimit() < steadyLimit);
+        assertTrue(limiter.getLimit() >= 2);
+    }
+
+    @Test
+    void limiter_recovers_when_latency_returns_to_no_load() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 50);
+        saturateAndRelease(limiter, 1_000_000L);
+        for (int i = 0; i < 200; i++) {
+            saturateAndRelease(limiter, 20_000_000L);
+        }
+        int overloadedLimit = limiter.getLimit();
+
+        for (int i = 0; i < 200; i++) {
+            saturateAndRelease(limiter, 1_000_000L);
+        }
+
+        assertTrue(limiter.getLimit() > overloadedLimit);
+    }
+
+    @Test
+    void rate_limiter_refills_over_time_and_evicts_idle_callers() {
+        AtomicLong clock = new AtomicLong();
+        CallerRateLimiter limiter = new CallerRateLimiter(1, 1, 1, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+
+        clock.addAndGet(1_000_000_000L);
+        assertEquals(0, limiter.tryAcquire("a"));
+
+        clock.addAndGet(1_000_000_000L);
+        assertEquals(0, limiter.tryAcquire("b"));
+        assertEquals(1, limiter.trackedCallers());
+        assertFalse(limiter.tryAcquire("b") == 0);
+    }
+
+    @Test
+    void rate_limiter_never_tracks_more_than_max_callers_and_shares_an_overflow_bucket() {
+        AtomicLong clock = new AtomicLong();
+        CallerRateLimiter limiter = new CallerRateLimiter(1, 1, 2, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("b"));
+        assertEquals(0, limiter.tryAcquire("c"));
+        assertTrue(limiter.tryAcquire("d") > 0);
+        assertEquals(2, limiter.trackedCallers());
+
+        clock.addAndGet(1_000_000_000L);
+        assertEquals(0, limiter.tryAcquire("e"));
+        assertTrue(limiter.trackedCallers() <= 2);
+    }
+
+    @Test
+    void rate_limiter_sweeps_a_bounded_number_of_buckets_per_new_caller() {
+        AtomicLong clock = new AtomicLong();
+        int maxCallers = CallerRateLimiter.SWEEP_STEP * 4;
+        CallerRateLimiter limiter = new CallerRateLimiter(1, 1, maxCallers, clock::get);
+        for (int i = 0; i < maxCallers; i++) {
+            limiter.tryAcquire("caller-" + i);
+        }
+
+        clock.addAndGet(1_000_000_000L);
+        limiter.tryAcquire("new");
+
+        assertTrue(limiter.trackedCallers() >= maxCallers - CallerRateLimiter.SWEEP_STEP);
+    }
+
+    private static String endpointKey(String method, String uri) {
+        return AdmissionControlFilter.endpointKey(new MockHttpServletRequest(method, uri));
+    }
+
+    private static MockHttpServletRequest request(String caller) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/clientes");
+        request.addHeader(AdmissionControlFilter.CALLER_HEADER, caller);
+        return request;
+    }
+
+    private static void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rttNanos);
+        }
+    }
+}
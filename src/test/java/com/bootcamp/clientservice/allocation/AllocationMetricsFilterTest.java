@@ -0,0 +1,52 @@
+package com.bootcamp.clientservice.allocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AllocationMetricsFilterTest {
+
+    private static final int ALLOCATION = 1 << 20;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AllocationMetricsFilter filter = new AllocationMetricsFilter(
+            (ThreadMXBean) ManagementFactory.getThreadMXBean(), registry);
+
+    private volatile byte[] sink;
+
+    @Test
+    void records_bytes_allocated_by_the_request_under_its_route_and_status() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/clientes/7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/clientes/{id}");
+            ((MockHttpServletResponse) res).setStatus(409);
+            sink = new byte[ALLOCATION];
+        });
+
+        DistributionSummary summary = registry.get("clients.http.allocated_bytes")
+                .tag("endpoint", "GET /clientes/{id}").tag("status", "4xx").summary();
+        assertEquals(1, summary.count());
+        assertTrue(summary.totalAmount() >= ALLOCATION);
+    }
+
+    @Test
+    void unmatched_requests_are_grouped_together() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/clientes/a/b"), new MockHttpServletResponse(),
+                (req, res) -> { });
+        filter.doFilter(new MockHttpServletRequest("GET", "/clientes/c/d"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        assertEquals(2, registry.get("clients.http.allocated_bytes")
+                .tag("endpoint", "GET UNMATCHED").summary().count());
+    }
+}
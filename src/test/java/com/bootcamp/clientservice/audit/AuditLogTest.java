@@ -0,0 +1,95 @@
+package com.bootcamp.clientservice.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.bootcamp.clientservice.domain.Client;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void update_is_written_with_before_and_after_values() throws Exception {
+        Client client = Client.builder().id(7L).firstName("Ana").lastName("Perez")
+                .dni("12345678").email("old@mail.com").build();
+        Map<String, String> before = ClientAuditEvent.fieldsOf(client);
+        client.setEmail("new@mail.com");
+
+        try (AuditLog auditLog = auditLog(1 << 20)) {
+            auditLog.append(ClientAuditEvent.registered(client));
+            auditLog.append(ClientAuditEvent.updated(7L, before, client));
+            auditLog.flush();
+        }
+
+        List<JsonNode> updates = AuditLogReader.read(directory, 7L, AuditOperation.UPDATE);
+        assertEquals(1, updates.size());
+        JsonNode change = updates.get(0).path("changes").get(0);
+        assertEquals("email", change.path("field").asText());
+        assertEquals("old@mail.com", change.path("before").asText());
+        assertEquals("new@mail.com", change.path("after").asText());
+        assertEquals(2, AuditLogReader.read(directory, 7L, null).size());
+    }
+
+    @Test
+    void concurrent_appends_are_all_persisted_and_files_rotate_by_size() throws Exception {
+        try (AuditLog auditLog = auditLog(4_096)) {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (long id = 1; id <= 500; id++) {
+                    Client client = Client.builder().id(id).firstName("Ana").lastName("Perez")
+                            .dni(String.valueOf(10_000_000 + id)).email(id + "@mail.com").build();
+                    futures.add(executor.submit(() -> auditLog.append(ClientAuditEvent.deleted(client))));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            auditLog.flush();
+        }
+
+        assertEquals(500, AuditLogReader.read(directory, null, AuditOperation.DELETE).size());
+        assertEquals(500.0, registry.get("clients.audit.records").counter().count());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.count() > 1);
+        }
+    }
+
+    @Test
+    void update_without_changes_is_not_audited() throws Exception {
+        Client client = Client.builder().id(7L).firstName("Ana").lastName("Perez")
+                .dni("12345678").email("ana@mail.com").build();
+
+        try (AuditLog auditLog = auditLog(1 << 20)) {
+            new AuditEventListener(auditLog)
+                    .onClientChanged(ClientAuditEvent.updated(7L, ClientAuditEvent.fieldsOf(client), client));
+            auditLog.flush();
+        }
+
+        assertTrue(AuditLogReader.read(directory, null, null).isEmpty());
+    }
+
+    private AuditLog auditLog(long maxFileBytes) throws Exception {
+        return new AuditLog(directory, 64, 32, maxFileBytes, new ObjectMapper(), registry);
+    }
+}
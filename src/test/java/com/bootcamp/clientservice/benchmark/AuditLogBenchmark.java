@@ -0,0 +1,81 @@
+package com.bootcamp.clientservice.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import com.bootcamp.clientservice.audit.AuditLog;
+import com.bootcamp.clientservice.audit.ClientAuditEvent;
+import com.bootcamp.clientservice.domain.Client;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Costo por operación que la auditoría agrega al hilo de la petición, con varios hilos
+ * escribiendo a la vez (como bajo carga). {@code serialize} es la base: sólo construir y
+ * serializar el evento; {@code append} además encola para el escritor con group fsync.
+ * El throughput sostenido de disco se ve en la métrica clients.audit.batch.write.
+ *
+ * mvn -Pbenchmark test -Dbench.include=AuditLogBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class AuditLogBenchmark {
+
+    @Param({"serialize", "append"})
+    public String mode;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private Path directory;
+    private AuditLog auditLog;
+    private Client client;
+    private Map<String, String> before;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("audit-bench");
+        auditLog = new AuditLog(directory, 8192, 512, 64L << 20, mapper, new SimpleMeterRegistry());
+        client = Client.builder().id(7L).firstName("Ana").lastName("Perez")
+                .dni("12345678").email("new@mail.com").build();
+        before = Map.of("firstName", "Ana", "lastName", "Perez", "dni", "12345678", "email", "old@mail.com");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        auditLog.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Object update() throws IOException {
+        ClientAuditEvent event = ClientAuditEvent.updated(7L, before, client);
+        if ("append".equals(mode)) {
+            auditLog.append(event);
+            return event;
+        }
+        return mapper.writeValueAsBytes(event);
+    }
+}
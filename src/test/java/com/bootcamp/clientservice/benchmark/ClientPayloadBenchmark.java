@@ -0,0 +1,82 @@
+package com.bootcamp.clientservice.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.bootcamp.clientservice.dto.response.ClientResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Compara el costo de codificar la respuesta de GET /clientes en cada formato negociable.
+ * El tamaño del payload de cada combinación se imprime en el setup.
+ *
+ * mvn -Pbenchmark test -Dbench.include=ClientPayloadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientPayloadBenchmark {
+
+    @Param({"json", "json-gzip", "smile", "cbor"})
+    public String format;
+
+    @Param({"1", "100", "1000"})
+    public int rows;
+
+    private ObjectMapper mapper;
+    private List<ClientResponse> payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        switch (format) {
+            case "smile":
+                mapper = new ObjectMapper(new SmileFactory());
+                break;
+            case "cbor":
+                mapper = new ObjectMapper(new CBORFactory());
+                break;
+            default:
+                mapper = new ObjectMapper();
+        }
+
+        payload = new ArrayList<>(rows);
+        for (long i = 1; i <= rows; i++) {
+            payload.add(new ClientResponse(i, "Lucía" + i, "Gómez" + i,
+                    String.valueOf(10_000_000L + i), "lucia.gomez" + i + "@example.com"));
+        }
+
+        System.out.printf("%n# payload bytes format=%s rows=%d size=%d%n", format, rows, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (!"json-gzip".equals(format)) {
+            return mapper.writeValueAsBytes(payload);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            mapper.writeValue(gzip, payload);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,103 @@
+package com.bootcamp.clientservice.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.bootcamp.clientservice.dto.response.ClientResponse;
+import com.bootcamp.clientservice.exception.ErrorResponse;
+import com.bootcamp.clientservice.serialization.ClientJsonSerializers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Serialización reflectiva por defecto vs. serializadores escritos a mano.
+ * Se escribe a un stream descartable para medir sólo el costo de codificación, como
+ * cuando el conversor escribe sobre el output stream del servlet.
+ * Dividir el tiempo por {@code rows} da el costo por fila del listado.
+ *
+ * mvn -Pbenchmark test -Dbench.include=ClientSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientSerializationBenchmark {
+
+    @Param({"reflective", "handwritten"})
+    public String serializer;
+
+    @Param({"1", "1000"})
+    public int rows;
+
+    private ObjectMapper mapper;
+    private List<ClientResponse> clients;
+    private ErrorResponse error;
+    private CountingOutputStream sink;
+
+    @Setup
+    public void setup() {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("handwritten".equals(serializer)) {
+            mapper.registerModule(ClientJsonSerializers.module());
+        }
+
+        clients = new ArrayList<>(rows);
+        for (long i = 1; i <= rows; i++) {
+            clients.add(new ClientResponse(i, "Lucía" + i, "Gómez" + i,
+                    String.valueOf(10_000_000L + i), "lucia.gomez" + i + "@example.com"));
+        }
+        error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(409)
+                .error("Conflict")
+                .message("Email is already in use")
+                .path("/clientes")
+                .build();
+        sink = new CountingOutputStream();
+    }
+
+    @Benchmark
+    public long listClients() throws IOException {
+        mapper.writeValue(sink, clients);
+        return sink.count;
+    }
+
+    @Benchmark
+    public long errorResponse() throws IOException {
+        mapper.writeValue(sink, error);
+        return sink.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.bootcamp.clientservice.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.dto.request.CreateClientRequest;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.validation.ClientValidator;
+
+/**
+ * Camino de validación de alta anterior vs. el unificado: Bean Validation del DTO más
+ * {@link ClientValidator}. Cada consulta al repositorio se simula con {@code roundTripTokens}
+ * de CPU, así se ve el efecto de cortar antes de la base y de pasar de dos consultas a una.
+ *
+ * mvn -Pbenchmark test -Dbench.include=ClientValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientValidationBenchmark {
+
+    private static final String TAKEN_DNI = "11111111";
+
+    @Param({"legacy", "unified"})
+    public String path;
+
+    @Param({"valid", "bad_email", "taken_dni"})
+    public String input;
+
+    @Param({"0", "2000"})
+    public long roundTripTokens;
+
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private ClientRepository repository;
+    private ClientValidator unifiedValidator;
+    private String dni;
+    private String email;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        repository = stubRepository(roundTripTokens);
+        unifiedValidator = new ClientValidator(repository);
+        dni = "taken_dni".equals(input) ? TAKEN_DNI : "12345678";
+        email = "bad_email".equals(input) ? "ana@mail" : "ana@mail.com";
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Object validate() {
+        Client client = Client.builder().firstName("Ana").lastName("Perez").dni(dni).email(email).build();
+        try {
+            if ("legacy".equals(path)) {
+                Set<ConstraintViolation<LegacyCreateClientRequest>> violations =
+                        beanValidator.validate(new LegacyCreateClientRequest("Ana", "Perez", dni, email));
+                if (!violations.isEmpty()) {
+                    return violations;
+                }
+                validateLegacy(client);
+            } else {
+                Set<ConstraintViolation<CreateClientRequest>> violations =
+                        beanValidator.validate(new CreateClientRequest("Ana", "Perez", dni, email));
+                if (!violations.isEmpty()) {
+                    return violations;
+                }
+                unifiedValidator.validateNewClient(client);
+            }
+            return client;
+        } catch (ValidationException | IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    // Copia de ClientValidator.validateNewClient antes de la unificación
+    private void validateLegacy(Client client) {
+        if (repository.existsByDni(client.getDni())) {
+            throw new IllegalArgumentException("El DNI ya está registrado");
+        }
+        if (repository.existsByEmail(client.getEmail())) {
+            throw new IllegalArgumentException("El correo ya está registrado");
+        }
+        if (!client.getEmail().matches("^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$")) {
+            throw new ValidationException("El correo electrónico tiene un formato inválido");
+        }
+        if (client.getDni().length() < 8 || client.getDni().length() > 12) {
+            throw new ValidationException("El DNI debe tener entre 8 y 12 caracteres");
+        }
+    }
+
+    private static ClientRepository stubRepository(long roundTripTokens) {
+        return (ClientRepository) Proxy.newProxyInstance(ClientRepository.class.getClassLoader(),
+                new Class<?>[] {ClientRepository.class}, (proxy, method, args) -> {
+                    Blackhole.consumeCPU(roundTripTokens);
+                    switch (method.getName()) {
+                        case "existsByDni":
+                            return TAKEN_DNI.equals(args[0]);
+                        case "existsByEmail":
+                            return false;
+                        case "findUniqueKeyConflicts":
+                            return TAKEN_DNI.equals(args[0]) ? List.of(takenKeys()) : List.of();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static ClientRepository.UniqueKeys takenKeys() {
+        return new ClientRepository.UniqueKeys() {
+            @Override
+            public String getDni() {
+                return TAKEN_DNI;
+            }
+
+            @Override
+            public String getEmail() {
+                return "otro@mail.com";
+            }
+        };
+    }
+
+    /** Anotaciones que tenía {@link CreateClientRequest} antes de la unificación */
+    public static class LegacyCreateClientRequest {
+
+        @NotBlank
+        private final String firstName;
+
+        @NotBlank
+        private final String lastName;
+
+        @Pattern(regexp = "^[0-9]+$")
+        @NotBlank
+        private final String dni;
+
+        @NotBlank
+        @Email
+        private final String email;
+
+        LegacyCreateClientRequest(String firstName, String lastName, String dni, String email) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.dni = dni;
+            this.email = email;
+        }
+    }
+}
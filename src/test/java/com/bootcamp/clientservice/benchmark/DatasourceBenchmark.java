@@ -0,0 +1,96 @@
+package com.bootcamp.clientservice.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.bootcamp.clientservice.ClientServiceApplication;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.dto.request.CreateClientRequest;
+import com.bootcamp.clientservice.service.ClientService;
+
+/**
+ * Throughput de register/get de ClientService contra MySQL con el datasource por defecto
+ * ({@code prod}) y con el perfil {@code mysql-tuned}. Sin cache para que cada get llegue a la base.
+ * Requiere un MySQL accesible; la base se indica con bench.datasource.url/username/password.
+ *
+ * mvn -Pbenchmark test -Dbench.include=DatasourceBenchmark \
+ *   -Dbench.args="-jvmArgs -Dbench.datasource.url=jdbc:mysql://localhost:3306/bench_clients"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class DatasourceBenchmark {
+
+    private static final int SEEDED = 10_000;
+
+    @Param({"prod", "prod,mysql-tuned"})
+    public String profiles;
+
+    private final AtomicLong nextDni = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private ClientService service;
+    private long firstId;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(ClientServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profiles.split(","))
+                .properties(
+                        "spring.datasource.url=" + System.getProperty("bench.datasource.url",
+                                "jdbc:mysql://localhost:3306/bench_clients?useSSL=false&allowPublicKeyRetrieval=true"),
+                        "spring.datasource.username=" + System.getProperty("bench.datasource.username", "root"),
+                        "spring.datasource.password=" + System.getProperty("bench.datasource.password", "2025"),
+                        "spring.main.lazy-initialization=false",
+                        "spring.jpa.show-sql=false",
+                        "clients.cache.enabled=false",
+                        "audit.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        service = context.getBean(ClientService.class);
+
+        // Cada corrida usa un rango de DNI propio para no chocar con los datos de corridas anteriores
+        long base = 10_000_000_000L + System.currentTimeMillis() % 1_000_000_000L * 10;
+        nextDni.set(base);
+        firstId = register().getId();
+        for (int i = 1; i < SEEDED; i++) {
+            register();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Client register() {
+        long dni = nextDni.getAndIncrement();
+        return service.register(new CreateClientRequest("Ana", "Perez", Long.toString(dni), dni + "@bench.com"));
+    }
+
+    @Benchmark
+    public Client get() {
+        return service.get(firstId + ThreadLocalRandom.current().nextLong(SEEDED));
+    }
+}
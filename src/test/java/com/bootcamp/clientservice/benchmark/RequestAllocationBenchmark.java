@@ -0,0 +1,119 @@
+package com.bootcamp.clientservice.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.context.WebApplicationContext;
+import com.bootcamp.clientservice.ClientServiceApplication;
+import com.bootcamp.clientservice.config.EmbeddedStoreConfig;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.dto.request.CreateClientRequest;
+import com.bootcamp.clientservice.service.ClientService;
+
+/**
+ * Bytes asignados por petición (gc.alloc.rate.norm) en los endpoints principales de
+ * {@code ClientController}: alta, lectura por id, listado y el camino de error de
+ * {@code GlobalExceptionHandler} (cliente inexistente, 409).
+ * <p>
+ * Corre sobre el almacén embebido para que la base no domine, y por MockMvc, que pasa por el
+ * DispatcherServlet completo (binding, validación, servicio, serialización) sin los filtros ni
+ * la red. Los objetos de request/response de MockMvc quedan incluidos: los números sirven para
+ * comparar entre versiones, no como valor absoluto de producción.
+ *
+ * mvn -Pbenchmark test -Dbench.include=RequestAllocationBenchmark -Dbench.args="-prof gc -rf json"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class RequestAllocationBenchmark {
+
+    private static final int SEEDED = 100;
+    private static final String REGISTER_BODY =
+            "{\"firstName\":\"Lucía\",\"lastName\":\"Gómez\",\"dni\":\"%d\",\"email\":\"lucia%d@example.com\"}";
+
+    private Path storeDirectory;
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+    private long existingId;
+    private long nextDni = 20_000_000L;
+
+    @Setup
+    public void setup() throws IOException {
+        storeDirectory = Files.createTempDirectory("allocation-bench");
+        context = new SpringApplicationBuilder(ClientServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .profiles(EmbeddedStoreConfig.PROFILE)
+                .properties(
+                        "server.port=0",
+                        "clients.store.directory=" + storeDirectory,
+                        "spring.main.lazy-initialization=false",
+                        "audit.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        ClientService service = context.getBean(ClientService.class);
+        for (int i = 0; i < SEEDED; i++) {
+            long dni = nextDni++;
+            Client client = service.register(new CreateClientRequest("Ana", "Perez", Long.toString(dni),
+                    "ana" + dni + "@example.com"));
+            existingId = client.getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(storeDirectory);
+    }
+
+    @Benchmark
+    public MvcResult register() throws Exception {
+        long dni = nextDni++;
+        return mvc.perform(post("/clientes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format(REGISTER_BODY, dni, dni)))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getById() throws Exception {
+        return mvc.perform(get("/clientes/{id}", existingId).accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult list() throws Exception {
+        return mvc.perform(get("/clientes").accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult notFound() throws Exception {
+        return mvc.perform(get("/clientes/{id}", Long.MAX_VALUE).accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+}
@@ -0,0 +1,105 @@
+package com.bootcamp.clientservice.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import com.bootcamp.clientservice.ClientServiceApplication;
+
+/**
+ * Mide el tiempo hasta la primera petición exitosa: lanza la aplicación en una JVM nueva
+ * contra H2 en memoria y consulta GET /clientes hasta obtener 200.
+ *
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *   -Dexec.args="-cp %classpath com.bootcamp.clientservice.benchmark.StartupBenchmark"
+ *
+ * Propiedades: startup.runs (5), startup.profile (prod), startup.jvmArgs
+ * (p.ej. "-XX:SharedArchiveFile=target/app-cds.jsa -XX:TieredStopAtLevel=1").
+ */
+public final class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        String profile = System.getProperty("startup.profile", "prod");
+        String jvmArgs = System.getProperty("startup.jvmArgs", "");
+
+        List<Long> timings = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            long millis = timeToFirstRequest(profile, jvmArgs, run);
+            timings.add(millis);
+            System.out.printf("run %d: first request after %d ms%n", run, millis);
+        }
+
+        Collections.sort(timings);
+        System.out.printf("profile=%s jvmArgs='%s' runs=%d min=%d ms median=%d ms max=%d ms%n",
+                profile, jvmArgs, runs, timings.get(0), timings.get(timings.size() / 2),
+                timings.get(timings.size() - 1));
+    }
+
+    private static long timeToFirstRequest(String profile, String jvmArgs, int run) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        if (!jvmArgs.isBlank()) {
+            command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+        }
+        command.addAll(List.of(
+                "-cp", System.getProperty("java.class.path"),
+                ClientServiceApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.profiles.active=" + profile,
+                "--spring.datasource.url=jdbc:h2:mem:startup" + run + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/clientes")).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with code " + process.exitValue());
+                }
+                try {
+                    if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException notListeningYet) {
+                    // el servidor todavía no acepta conexiones
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("Application did not answer within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.bootcamp.clientservice.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OffHeapByteStoreTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final byte[] target = new byte[64];
+
+    @Test
+    void read_returns_bytes_only_for_the_stored_version() {
+        OffHeapByteStore store = new OffHeapByteStore("test", 256, 64, meterRegistry);
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        store.put(1L, 3L, body);
+
+        int length = store.read(1L, 3L, target);
+
+        assertThat(Arrays.copyOf(target, length)).isEqualTo(body);
+        assertThat(store.read(1L, 4L, target)).isEqualTo(-1);
+        assertThat(meterRegistry.get("clients.response_cache.requests").tag("outcome", "hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void wrapping_around_drops_the_oldest_entries() {
+        OffHeapByteStore store = new OffHeapByteStore("test", 100, 40, meterRegistry);
+        for (long id = 1; id <= 4; id++) {
+            store.put(id, 0L, filled((byte) id, 30));
+        }
+
+        // 4 x 30 bytes en 100: la cuarta escritura pisa la primera
+        assertThat(store.read(1L, 0L, target)).isEqualTo(-1);
+        assertThat(store.read(4L, 0L, target)).isEqualTo(30);
+        assertThat(target[0]).isEqualTo((byte) 4);
+        assertThat(store.read(2L, 0L, target)).isEqualTo(30);
+        assertThat(target[29]).isEqualTo((byte) 2);
+        assertThat(store.size()).isEqualTo(3);
+    }
+
+    @Test
+    void oversized_entries_and_evicted_keys_are_not_served() {
+        OffHeapByteStore store = new OffHeapByteStore("test", 256, 16, meterRegistry);
+        store.put(1L, 0L, filled((byte) 1, 17));
+        store.put(2L, 0L, filled((byte) 2, 8));
+        store.evict(2L);
+
+        assertThat(store.read(1L, 0L, target)).isEqualTo(-1);
+        assertThat(store.read(2L, 0L, target)).isEqualTo(-1);
+    }
+
+    private static byte[] filled(byte value, int length) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, value);
+        return bytes;
+    }
+}
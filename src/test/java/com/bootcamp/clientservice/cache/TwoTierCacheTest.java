@@ -0,0 +1,108 @@
+package com.bootcamp.clientservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import com.bootcamp.clientservice.domain.Client;
+
+class TwoTierCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private Cache nodeA;
+    private Cache nodeB;
+
+    @BeforeEach
+    void setup() {
+        // Dos réplicas conectadas al mismo nivel remoto
+        EmbeddedRemoteCacheTier remote = new EmbeddedRemoteCacheTier(clock::get);
+        nodeA = manager(remote).getCache(CacheNames.CLIENTS);
+        nodeB = manager(remote).getCache(CacheNames.CLIENTS);
+    }
+
+    @Test
+    void value_cached_on_one_node_is_visible_from_the_other() {
+        nodeA.put(1L, client(1L, 0, "Ana"));
+
+        assertEquals("Ana", nodeB.get(1L, Client.class).getFirstName());
+    }
+
+    @Test
+    void update_on_one_node_replaces_near_entry_on_the_other() {
+        nodeA.put(1L, client(1L, 0, "Ana"));
+        assertNotNull(nodeB.get(1L));
+
+        nodeA.put(1L, client(1L, 1, "Ana María"));
+
+        assertEquals("Ana María", nodeB.get(1L, Client.class).getFirstName());
+    }
+
+    @Test
+    void stale_repopulation_after_update_is_discarded() {
+        nodeA.put(1L, client(1L, 2, "Nuevo"));
+
+        // Lectura lenta en B que empezó antes del update
+        nodeB.put(1L, client(1L, 1, "Viejo"));
+
+        assertEquals("Nuevo", nodeB.get(1L, Client.class).getFirstName());
+        assertEquals("Nuevo", nodeA.get(1L, Client.class).getFirstName());
+    }
+
+    @Test
+    void delete_blocks_repopulation_until_tombstone_expires() {
+        nodeB.put(1L, client(1L, 0, "Ana"));
+
+        nodeA.evict(1L);
+        nodeB.put(1L, client(1L, 0, "Ana"));
+
+        assertNull(nodeA.get(1L));
+        assertNull(nodeB.get(1L));
+
+        clock.addAndGet(61_000);
+        nodeB.put(1L, client(1L, 0, "Ana"));
+        assertNotNull(nodeA.get(1L));
+    }
+
+    @Test
+    void near_entries_expire_and_fall_back_to_remote() {
+        nodeA.put(1L, client(1L, 0, "Ana"));
+        clock.addAndGet(31_000);
+
+        assertEquals("Ana", nodeA.get(1L, Client.class).getFirstName());
+    }
+
+    @Test
+    void remote_entries_expire_after_ttl() {
+        nodeA.put(1L, client(1L, 0, "Ana"));
+
+        clock.addAndGet(301_000);
+
+        assertNull(nodeB.get(1L));
+    }
+
+    @Test
+    void embedded_remote_tier_is_bounded() {
+        EmbeddedRemoteCacheTier remote = new EmbeddedRemoteCacheTier(2, clock::get);
+        Cache cache = manager(remote).getCache(CacheNames.CLIENTS);
+
+        cache.put(1L, client(1L, 0, "Ana"));
+        cache.put(2L, client(2L, 0, "Luis"));
+        cache.put(3L, client(3L, 0, "Eva"));
+
+        assertEquals(2, remote.size(CacheNames.CLIENTS));
+        assertEquals("Eva", ((Client) remote.get(CacheNames.CLIENTS, 3L).getValue()).getFirstName());
+    }
+
+    private TwoTierCacheManager manager(EmbeddedRemoteCacheTier remote) {
+        return new TwoTierCacheManager(remote,
+                v -> ((Client) v).getVersion(), 100, 30_000, 300_000, 60_000, clock::get);
+    }
+
+    private static Client client(Long id, long version, String firstName) {
+        return Client.builder().id(id).version(version).firstName(firstName).build();
+    }
+}
@@ -1,24 +1,46 @@
 package com.bootcamp.clientservice.controller;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.domain.ClientChange;
+import com.bootcamp.clientservice.domain.DeletionRequest;
+import com.bootcamp.clientservice.domain.DeletionStatus;
 import com.bootcamp.clientservice.dto.request.CreateClientRequest;
 import com.bootcamp.clientservice.dto.request.UpdateClientRequest;
+import com.bootcamp.clientservice.service.ClientAccessTracker;
+import com.bootcamp.clientservice.service.ClientAsyncService;
+import com.bootcamp.clientservice.service.ClientChangeFeed;
+import com.bootcamp.clientservice.service.ClientDeletionService;
 import com.bootcamp.clientservice.service.ClientService;
+import com.bootcamp.clientservice.service.ClientStatistics;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(ClientController.class)
@@ -32,14 +54,29 @@ class ClientControllerTest {
     @MockBean
     ClientService service;
 
+    @MockBean
+    ClientDeletionService deletionService;
+
+    @MockBean
+    ClientAsyncService asyncService;
+
+    @MockBean
+    ClientChangeFeed changeFeed;
+
+    @MockBean
+    ClientStatistics statistics;
+
+    @MockBean
+    ClientAccessTracker accessTracker;
+
     @Test
     void create_returns200_and_body() throws Exception {
         CreateClientRequest req = new CreateClientRequest();
         req.setFirstName("Ana"); req.setLastName("Perez");
-        req.setDni("123"); req.setEmail("a@a.com");
+        req.setDni("12345678"); req.setEmail("a@a.com");
 
         Client saved = Client.builder().id(1L).firstName("Ana").lastName("Perez")
-                .dni("123").email("a@a.com").build();
+                .dni("12345678").email("a@a.com").build();
         when(service.register(any(CreateClientRequest.class))).thenReturn(saved);
 
         mvc.perform(post("/clientes")
@@ -50,6 +87,18 @@ class ClientControllerTest {
                 .andExpect(jsonPath("$.firstName").value("Ana"));
     }
 
+    @Test
+    void create_with_malformed_dni_returns400_without_calling_service() throws Exception {
+        CreateClientRequest req = new CreateClientRequest("Ana", "Perez", "123", "a@a.com");
+
+        mvc.perform(post("/clientes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).register(any(CreateClientRequest.class));
+    }
+
     @Test
     void get_returns200() throws Exception {
         Client c = Client.builder().id(7L).firstName("Ana").lastName("P").build();
@@ -60,6 +109,33 @@ class ClientControllerTest {
                 .andExpect(jsonPath("$.id").value(7L));
     }
 
+    @Test
+    void get_tracks_the_access_except_for_synthetic_warm_up_requests() throws Exception {
+        Client c = Client.builder().id(7L).firstName("Ana").lastName("P").build();
+        when(service.get(7L)).thenReturn(c);
+
+        mvc.perform(get("/clientes/{id}", 7).requestAttr(ClientController.SYNTHETIC_REQUEST, Boolean.TRUE))
+                .andExpect(status().isOk());
+        verify(accessTracker, never()).touch(7L);
+
+        mvc.perform(get("/clientes/{id}", 7))
+                .andExpect(status().isOk());
+        verify(accessTracker).touch(7L);
+    }
+
+    @Test
+    void accept_encoding_honours_quality_values() {
+        assertTrue(ClientController.acceptsGzip(acceptEncoding("gzip, deflate")));
+        assertTrue(ClientController.acceptsGzip(acceptEncoding("deflate;q=1.0, GZIP;q=0.5")));
+        assertTrue(ClientController.acceptsGzip(acceptEncoding("br, *;q=0.1")));
+        assertFalse(ClientController.acceptsGzip(acceptEncoding("gzip;q=0")));
+        assertFalse(ClientController.acceptsGzip(acceptEncoding("gzip;q=0.000, *")));
+        assertFalse(ClientController.acceptsGzip(acceptEncoding("*;q=0")));
+        assertFalse(ClientController.acceptsGzip(acceptEncoding("identity, x-gzipped")));
+        assertFalse(ClientController.acceptsGzip(acceptEncoding("gzip;q=abc")));
+        assertFalse(ClientController.acceptsGzip(new MockHttpServletRequest()));
+    }
+
     @Test
     void list_returns200_and_array() throws Exception {
         when(service.list()).thenReturn(List.of(
@@ -72,6 +148,32 @@ class ClientControllerTest {
                 .andExpect(jsonPath("$", hasSize(2)));
     }
 
+    @Test
+    void unsupported_operation_from_a_repository_is_a_server_error_not_501() throws Exception {
+        when(service.list()).thenThrow(new UnsupportedOperationException("Query by Example is not supported"));
+
+        mvc.perform(get("/clientes"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void list_negotiates_smile_when_requested() throws Exception {
+        when(service.list()).thenReturn(List.of(Client.builder().id(1L).firstName("Ana").build()));
+
+        mvc.perform(get("/clientes").accept(ClientController.APPLICATION_SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ClientController.APPLICATION_SMILE_VALUE));
+    }
+
+    @Test
+    void get_negotiates_cbor_when_requested() throws Exception {
+        when(service.get(7L)).thenReturn(Client.builder().id(7L).firstName("Ana").build());
+
+        mvc.perform(get("/clientes/{id}", 7).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+    }
+
     @Test
     void update_returns200() throws Exception {
         UpdateClientRequest req = new UpdateClientRequest();
@@ -104,9 +206,92 @@ class ClientControllerTest {
                 .andExpect(jsonPath("$.firstName").value("SoloNombre"));
     }
 
+    @Test
+    void changes_returns_page_with_next_token() throws Exception {
+        Client ana = Client.builder().id(1L).firstName("Ana").lastName("Perez")
+                .dni("12345678").email("a@a.com").changeSeq(11L).build();
+        when(changeFeed.changesSince(10L, 2)).thenReturn(new ClientChangeFeed.ChangePage(
+                List.of(new ClientChange(11L, 1L, ana), new ClientChange(12L, 2L, null)), 12L, true));
+
+        mvc.perform(get("/clientes/changes").param("since", "10").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[0].client.firstName").value("Ana"))
+                .andExpect(jsonPath("$.changes[1].deleted").value(true))
+                .andExpect(jsonPath("$.next").value(12))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void stats_returns_maintained_counters() throws Exception {
+        when(statistics.snapshot()).thenReturn(new ClientStatistics.Snapshot(3L, Instant.parse("2024-01-01T00:00:00Z"),
+                List.of(new ClientStatistics.BucketCounts(Instant.parse("2024-01-01T00:00:00Z"), 2L, 1L)),
+                Map.of("mail.com", 3L), 1));
+
+        mvc.perform(get("/clientes/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalClients").value(3))
+                .andExpect(jsonPath("$.buckets[0].registrations").value(2))
+                .andExpect(jsonPath("$.emailDomains['mail.com']").value(3));
+        verify(service, never()).list();
+    }
+
     @Test
     void delete_returns204() throws Exception {
-        mvc.perform(delete("/clientes/{id}", 9))
+        when(asyncService.deleteClient(9L)).thenReturn(CompletableFuture.completedFuture(null));
+
+        MvcResult result = mvc.perform(delete("/clientes/{id}", 9))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void delete_when_accounts_times_out_returns504() throws Exception {
+        CompletableFuture<Void> timedOut = new CompletableFuture<>();
+        timedOut.completeExceptionally(new TimeoutException());
+        when(asyncService.deleteClient(9L)).thenReturn(timedOut);
+
+        MvcResult result = mvc.perform(delete("/clientes/{id}", 9))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isGatewayTimeout());
+    }
+
+    @Test
+    void delete_async_returns202_with_status_location() throws Exception {
+        DeletionRequest request = DeletionRequest.builder()
+                .id(5L).clientId(9L).status(DeletionStatus.PENDING)
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                .build();
+        when(deletionService.requestDeletion(9L)).thenReturn(request);
+
+        mvc.perform(delete("/clientes/{id}", 9).param("async", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/clientes/eliminaciones/5"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void deletion_status_returns200() throws Exception {
+        DeletionRequest request = DeletionRequest.builder()
+                .id(5L).clientId(9L).status(DeletionStatus.COMPLETED).attempts(1)
+                .build();
+        when(deletionService.getRequest(5L)).thenReturn(request);
+
+        mvc.perform(get("/clientes/eliminaciones/{requestId}", 5))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.clientId").value(9L));
+    }
+
+    private static MockHttpServletRequest acceptEncoding(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", value);
+        return request;
+    }
 }
@@ -0,0 +1,96 @@
+package com.bootcamp.clientservice.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.validation.ValidationException;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.port.AccountsClient;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.service.ClientArchive;
+import com.bootcamp.clientservice.service.ClientChangeFeed;
+import com.bootcamp.clientservice.service.ClientService;
+import com.bootcamp.clientservice.validation.ClientValidator;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recording_is_summarized_by_operation_and_outcome() throws Exception {
+        ClientRepository repository = mock(ClientRepository.class);
+        when(repository.findById(1L)).thenReturn(Optional.of(Client.builder().id(1L).build()));
+        when(repository.findById(2L)).thenReturn(Optional.empty());
+        when(repository.findAll()).thenReturn(List.of(Client.builder().id(1L).build(), Client.builder().id(3L).build()));
+        ClientValidator validator = new ClientValidator(repository);
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        ClientService service = proxied(new ClientService(repository, mock(AccountsClient.class), validator, publisher,
+                noChangeFeed(), noArchive()));
+
+        Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ClientOperationEvent.class);
+            recording.enable(ClientValidationEvent.class);
+            recording.start();
+
+            service.get(1L);
+            assertThrows(IllegalArgumentException.class, () -> service.get(2L));
+            service.list();
+            assertThrows(ValidationException.class,
+                    () -> validator.validateNewClient(Client.builder().firstName("Ana").lastName("Perez")
+                            .dni("12345678").email("ana@mail").build()));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, JfrRecordingAnalyzer.Stats> summary = JfrRecordingAnalyzer.summarize(file);
+        assertEquals(1, summary.get("ClientOperation / get / ok").getCount());
+        assertEquals(1, summary.get("ClientOperation / get / rejected").getCount());
+        assertEquals(2, summary.get("ClientOperation / list / ok").getRows());
+        assertEquals(1, summary.get("ClientValidation / invalid_email").getCount());
+        assertTrue(summary.get("ClientOperation / list / ok").getTotalNanos() >= 0);
+    }
+
+    @Test
+    void service_behaves_the_same_when_recording_is_off() {
+        ClientRepository repository = mock(ClientRepository.class);
+        when(repository.save(any(Client.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(repository.findById(5L)).thenReturn(Optional.of(Client.builder().id(5L).firstName("Ana").build()));
+        ClientService service = proxied(new ClientService(repository, mock(AccountsClient.class),
+                mock(ClientValidator.class), mock(ApplicationEventPublisher.class), noChangeFeed(), noArchive()));
+
+        assertEquals("Ana", service.get(5L).getFirstName());
+    }
+
+    private static ObjectProvider<ClientChangeFeed> noChangeFeed() {
+        return new StaticListableBeanFactory().getBeanProvider(ClientChangeFeed.class);
+    }
+
+    private static ObjectProvider<ClientArchive> noArchive() {
+        return new StaticListableBeanFactory().getBeanProvider(ClientArchive.class);
+    }
+
+    private static ClientService proxied(ClientService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ClientOperationEventAspect());
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,81 @@
+package com.bootcamp.clientservice.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencias por operación en microsegundos. Cada worker usa su propia instancia
+ * (sin sincronización) y al final se combinan con {@link #merge(LatencyRecorder)}.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new TreeMap<>();
+
+    void record(String operation, int status, long micros) {
+        Samples s = samples.computeIfAbsent(operation, k -> new Samples());
+        s.add(micros);
+        s.statuses.merge(status / 100 + "xx" + (status == 429 || status == 503 ? "(" + status + ")" : ""), 1L, Long::sum);
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((operation, theirs) -> {
+            Samples mine = samples.computeIfAbsent(operation, k -> new Samples());
+            for (int i = 0; i < theirs.size; i++) {
+                mine.add(theirs.values[i]);
+            }
+            theirs.statuses.forEach((k, v) -> mine.statuses.merge(k, v, Long::sum));
+        });
+    }
+
+    long total() {
+        return samples.values().stream().mapToLong(s -> s.size).sum();
+    }
+
+    /** Una línea por operación: cantidad, throughput, percentiles y códigos de estado */
+    String report(double seconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-10s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)", "statuses"));
+        Samples all = new Samples();
+        samples.forEach((operation, s) -> {
+            appendLine(out, operation, s, seconds);
+            for (int i = 0; i < s.size; i++) {
+                all.add(s.values[i]);
+            }
+            s.statuses.forEach((k, v) -> all.statuses.merge(k, v, Long::sum));
+        });
+        appendLine(out, "ALL", all, seconds);
+        return out.toString();
+    }
+
+    private static void appendLine(StringBuilder out, String operation, Samples s, double seconds) {
+        long[] sorted = Arrays.copyOf(s.values, s.size);
+        Arrays.sort(sorted);
+        out.append(String.format("%-10s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                operation, s.size, s.size / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), percentile(sorted, 1.0), s.statuses));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1000.0;
+    }
+
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private final Map<String, Long> statuses = new TreeMap<>();
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.bootcamp.clientservice.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import com.bootcamp.clientservice.ClientServiceApplication;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Prueba de carga reproducible: levanta la aplicación contra H2 con N clientes sembrados y un
+ * stub del servicio de cuentas, ejecuta una mezcla de operaciones sobre todos los endpoints de
+ * ClientController y escribe throughput y percentiles de latencia en target/loadtest/.
+ *
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.jvmArgs="-Dloadtest.clients=10000 -Dloadtest.threads=32"
+ *
+ * Propiedades (con sus valores por defecto):
+ * loadtest.clients=1000, loadtest.threads=16, loadtest.warmup-seconds=10, loadtest.duration-seconds=60,
+ * loadtest.accounts.latency-ms=20, loadtest.accounts.error-rate=0.0,
+ * loadtest.mix=list:2,get:53,create:15,update:10,patch:10,delete:10, loadtest.admission=false
+ *
+ * El control de admisión va apagado por defecto: sus 429/503 medirían el limitador y no la capacidad del servicio.
+ */
+public final class LoadTestHarness {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final int threads = Integer.getInteger("loadtest.threads", 16);
+    private final int seedClients = Integer.getInteger("loadtest.clients", 1000);
+    private final long warmupSeconds = Long.getLong("loadtest.warmup-seconds", 10);
+    private final long durationSeconds = Long.getLong("loadtest.duration-seconds", 60);
+    private final long accountsLatencyMs = Long.getLong("loadtest.accounts.latency-ms", 20);
+    private final double accountsErrorRate = Double.parseDouble(System.getProperty("loadtest.accounts.error-rate", "0.0"));
+    private final boolean admission = Boolean.getBoolean("loadtest.admission");
+    private final Map<String, Integer> mix = parseMix(System.getProperty("loadtest.mix",
+            "list:2,get:53,create:15,update:10,patch:10,delete:10"));
+
+    private final AtomicLong uniqueSequence = new AtomicLong(50_000_000L);
+    private final IdPool ids = new IdPool();
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private String baseUrl;
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestHarness().run();
+    }
+
+    private void run() throws Exception {
+        try (StubAccountsServer accounts = new StubAccountsServer(accountsLatencyMs, accountsErrorRate);
+             ConfigurableApplicationContext context = startApplication(accounts.baseUrl())) {
+
+            seed(context.getBean(ClientRepository.class));
+            baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long stopAt = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            List<Future<LatencyRecorder>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String caller = "loadtest-" + i;
+                workers.add(pool.submit(() -> drive(caller, measureFrom, stopAt)));
+            }
+
+            LatencyRecorder total = new LatencyRecorder();
+            for (Future<LatencyRecorder> worker : workers) {
+                total.merge(worker.get());
+            }
+            pool.shutdown();
+
+            writeReport(total, accounts.requestCount());
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(String accountsUrl) {
+        return new SpringApplicationBuilder(ClientServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.bootcamp=WARN",
+                        "admission.enabled=" + admission,
+                        "accounts.base-url=" + accountsUrl)
+                .run();
+    }
+
+    private void seed(ClientRepository repository) {
+        List<Client> batch = new ArrayList<>();
+        for (int i = 0; i < seedClients; i++) {
+            long n = uniqueSequence.incrementAndGet();
+            batch.add(Client.builder()
+                    .firstName("Seed" + n).lastName("Client")
+                    .dni(String.valueOf(n)).email("seed" + n + "@loadtest.com")
+                    .build());
+            if (batch.size() == 500 || i == seedClients - 1) {
+                repository.saveAll(batch).forEach(c -> ids.add(c.getId()));
+                batch.clear();
+            }
+        }
+    }
+
+    private LatencyRecorder drive(String caller, long measureFrom, long stopAt) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        int weightTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+
+        while (System.nanoTime() < stopAt) {
+            String operation = pick(weightTotal);
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = execute(operation, caller);
+            } catch (IOException e) {
+                status = 599;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (start >= measureFrom) {
+                recorder.record(operation, status, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            }
+        }
+        return recorder;
+    }
+
+    private int execute(String operation, String caller) throws IOException, InterruptedException {
+        Long id = ids.random();
+        long n = uniqueSequence.incrementAndGet();
+        switch (operation) {
+            case "list":
+                return send(request("/clientes", caller).GET());
+            case "get":
+                return send(request("/clientes/" + id, caller).GET());
+            case "create": {
+                String body = "{\"firstName\":\"Load\",\"lastName\":\"Test\",\"dni\":\"" + n
+                        + "\",\"email\":\"load" + n + "@loadtest.com\"}";
+                HttpResponse<String> response = http.send(request("/clientes", caller)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    ids.add(JSON.readTree(response.body()).get("id").asLong());
+                }
+                return response.statusCode();
+            }
+            case "update":
+                return send(request("/clientes/" + id, caller)
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString("{\"firstName\":\"Upd\",\"lastName\":\"Ated\","
+                                + "\"email\":\"upd" + n + "@loadtest.com\"}")));
+            case "patch":
+                return send(request("/clientes/" + id, caller)
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"firstName\":\"Patched" + n + "\"}")));
+            case "delete": {
+                int status = send(request("/clientes/" + id, caller).DELETE());
+                if (status / 100 == 2) {
+                    ids.remove(id);
+                }
+                return status;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String caller) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("X-Client-Id", caller);
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return http.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private String pick(int weightTotal) {
+        int roll = ThreadLocalRandom.current().nextInt(weightTotal);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty workload mix");
+    }
+
+    private void writeReport(LatencyRecorder total, long accountsRequests) throws IOException {
+        StringBuilder report = new StringBuilder()
+                .append("# client-service load test ").append(LocalDateTime.now()).append('\n')
+                .append("clients=").append(seedClients)
+                .append(" threads=").append(threads)
+                .append(" warmup=").append(warmupSeconds).append("s")
+                .append(" duration=").append(durationSeconds).append("s")
+                .append(" accountsLatencyMs=").append(accountsLatencyMs)
+                .append(" accountsErrorRate=").append(accountsErrorRate)
+                .append(" admission=").append(admission)
+                .append(" mix=").append(mix).append('\n')
+                .append("requests=").append(total.total())
+                .append(" accountsCalls=").append(accountsRequests).append("\n\n")
+                .append(total.report(durationSeconds));
+
+        Path dir = Paths.get("target", "loadtest");
+        Files.createDirectories(dir);
+        Path file = dir.resolve("loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        Files.writeString(file, report);
+        System.out.println(report);
+        System.out.println("Report written to " + file.toAbsolutePath());
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            mix.put(kv[0], Integer.parseInt(kv[1]));
+        }
+        return mix;
+    }
+
+    /** Ids existentes para elegir al azar; las operaciones sobre ids ya borrados devuelven 4xx y también se miden */
+    private static final class IdPool {
+        private long[] values = new long[1024];
+        private int size;
+
+        synchronized void add(long id) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = id;
+        }
+
+        synchronized Long random() {
+            return size == 0 ? -1L : values[ThreadLocalRandom.current().nextInt(size)];
+        }
+
+        synchronized void remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == id) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.bootcamp.clientservice.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stub local del servicio de cuentas ({@code GET /cuentas/{clientId}}).
+ * Responde siempre lista vacía (el cliente se puede eliminar) con latencia y tasa de error configurables.
+ */
+public class StubAccountsServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong requests = new AtomicLong();
+
+    private volatile long latencyMillis;
+    private volatile double errorRate;
+    private volatile double spikeRate;
+    private volatile long spikeMillis;
+    private volatile int spikePeriod;
+
+    public StubAccountsServer(long latencyMillis, double errorRate) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.createContext("/cuentas/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /** Una fracción {@code rate} de las respuestas tarda {@code millis} en lugar de la latencia base */
+    public void setLatencySpikes(double rate, long millis) {
+        this.spikeRate = rate;
+        this.spikeMillis = millis;
+    }
+
+    /** Pico determinista: la 1.ª, (period+1).ª, (2*period+1).ª... petición tarda {@code millis} */
+    public void setLatencySpikeEvery(int period, long millis) {
+        this.spikePeriod = period;
+        this.spikeMillis = millis;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long request = requests.incrementAndGet();
+        try {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int period = spikePeriod;
+            boolean spike = period > 0 ? request % period == 1 % period : random.nextDouble() < spikeRate;
+            long delay = spike ? spikeMillis : latencyMillis;
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+
+            boolean fail = random.nextDouble() < errorRate;
+            byte[] body = (fail ? "{\"error\":\"injected\"}" : "[]").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(fail ? 500 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,57 @@
+package com.bootcamp.clientservice.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.bootcamp.clientservice.dto.response.ClientResponse;
+import com.bootcamp.clientservice.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class ClientJsonSerializersTest {
+
+    private final ObjectMapper reflective = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper handwritten = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(ClientJsonSerializers.module())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void client_response_matches_default_jackson_output() throws Exception {
+        List<ClientResponse> list = List.of(
+                new ClientResponse(1L, "Lucía", "Gómez", "12345678", "lucia@example.com"),
+                new ClientResponse(null, "Ana \"A\"", null, null, null));
+
+        assertEquals(reflective.writeValueAsString(list), handwritten.writeValueAsString(list));
+    }
+
+    @Test
+    void error_response_matches_default_jackson_output() throws Exception {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.of(2025, 9, 19, 0, 13))
+                .status(409)
+                .error("Conflict")
+                .message("Email is already in use")
+                .path("/clientes")
+                .build();
+
+        assertEquals(reflective.writeValueAsString(error), handwritten.writeValueAsString(error));
+    }
+
+    @Test
+    void handwritten_serializer_also_works_for_binary_formats() throws Exception {
+        ObjectMapper smile = new ObjectMapper(new SmileFactory()).registerModule(ClientJsonSerializers.module());
+        ClientResponse client = new ClientResponse(7L, "Ana", "P", "12345678", "a@a.com");
+
+        byte[] bytes = smile.writeValueAsBytes(client);
+
+        assertEquals(client, new ObjectMapper(new SmileFactory()).readValue(bytes, ClientResponse.class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.bootcamp.clientservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.dto.request.CreateClientRequest;
+import com.bootcamp.clientservice.port.AccountsClient;
+import com.bootcamp.clientservice.repository.ArchivedClientRepository;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.validation.ClientValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "clients.archive.cold-after-days=30",
+        "clients.archive.batch-size=1"
+})
+@Import({ClientService.class, ClientValidator.class, ClientChangeFeed.class, ClientArchive.class,
+        ClientAccessTracker.class, ClientArchiver.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientArchiverTest {
+
+    @Autowired
+    ClientArchiver archiver;
+
+    @Autowired
+    ClientAccessTracker accessTracker;
+
+    @Autowired
+    ClientService service;
+
+    @Autowired
+    ClientRepository clientRepository;
+
+    @Autowired
+    ArchivedClientRepository archivedClientRepository;
+
+    @MockBean
+    AccountsClient accountsClient;
+
+    @AfterEach
+    void cleanUp() {
+        clientRepository.deleteAllInBatch();
+        archivedClientRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void inactive_clients_move_to_archive_in_batches_and_stay_readable() {
+        Client ana = save("Ana", "12345678", "ana@mail.com", LocalDateTime.now().minusDays(400));
+        Client luis = save("Luis", "87654321", "luis@mail.com", LocalDateTime.now().minusDays(60));
+        Client eva = save("Eva", "11223344", "eva@mail.com", LocalDateTime.now().minusDays(2));
+
+        archiver.archiveInactive();
+
+        assertEquals(1, clientRepository.count());
+        assertTrue(clientRepository.existsById(eva.getId()));
+        assertEquals(2, archivedClientRepository.count());
+
+        Client archived = service.get(ana.getId());
+        assertEquals("Ana", archived.getFirstName());
+        assertEquals(ana.getVersion(), archived.getVersion());
+        assertEquals("Luis", service.get(luis.getId()).getFirstName());
+    }
+
+    @Test
+    void archived_clients_keep_their_dni_and_email() {
+        Client ana = save("Ana", "12345678", "ana@mail.com", LocalDateTime.now().minusDays(400));
+        Client eva = save("Eva", "11223344", "eva@mail.com", LocalDateTime.now());
+        archiver.archiveInactive();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.register(new CreateClientRequest("Otra", "Perez", "12345678", "otra@mail.com")));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.register(new CreateClientRequest("Otra", "Perez", "99887766", "ana@mail.com")));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.updateClient(eva.getId(), null, null, "ana@mail.com"));
+        assertFalse(clientRepository.existsById(ana.getId()));
+    }
+
+    @Test
+    void writes_on_an_archived_client_restore_it_first() {
+        Client ana = save("Ana", "12345678", "ana@mail.com", LocalDateTime.now().minusDays(400));
+        Client luis = save("Luis", "87654321", "luis@mail.com", LocalDateTime.now().minusDays(400));
+        archiver.archiveInactive();
+        assertEquals(2, archivedClientRepository.count());
+
+        Client updated = service.updateClient(ana.getId(), "Ana María", null, "ana.maria@mail.com");
+
+        assertEquals(ana.getId(), updated.getId());
+        assertEquals(ana.getVersion() + 1, updated.getVersion());
+        assertTrue(clientRepository.existsById(ana.getId()));
+        assertFalse(archivedClientRepository.existsById(ana.getId()));
+        assertEquals("ana.maria@mail.com", clientRepository.findById(ana.getId()).orElseThrow().getEmail());
+
+        service.deleteClient(luis.getId());
+
+        assertFalse(clientRepository.existsById(luis.getId()));
+        assertFalse(archivedClientRepository.existsById(luis.getId()));
+        assertThrows(IllegalArgumentException.class, () -> service.get(luis.getId()));
+    }
+
+    @Test
+    void recent_reads_keep_a_client_in_the_hot_table() {
+        Client ana = save("Ana", "12345678", "ana@mail.com", LocalDateTime.now().minusDays(400));
+
+        accessTracker.touch(ana.getId());
+        archiver.archiveInactive();
+
+        assertTrue(clientRepository.existsById(ana.getId()));
+        assertEquals(0, archivedClientRepository.count());
+    }
+
+    private Client save(String name, String dni, String email, LocalDateTime lastAccessedAt) {
+        return clientRepository.save(Client.builder()
+                .firstName(name).lastName("Perez").dni(dni).email(email)
+                .lastAccessedAt(lastAccessedAt).lastModifiedAt(lastAccessedAt)
+                .build());
+    }
+}
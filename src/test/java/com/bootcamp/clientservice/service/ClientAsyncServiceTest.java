@@ -0,0 +1,85 @@
+package com.bootcamp.clientservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ClientAsyncServiceTest {
+
+    private final ClientService clientService = mock(ClientService.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void deleteClient_runs_on_executor_thread() throws Exception {
+        Thread[] worker = new Thread[1];
+        doAnswer(inv -> {
+            worker[0] = Thread.currentThread();
+            return null;
+        }).when(clientService).deleteClient(7L);
+
+        new ClientAsyncService(clientService, executor, 1000).deleteClient(7L).get(1, TimeUnit.SECONDS);
+
+        verify(clientService).deleteClient(7L);
+        assertThat(worker[0]).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void deleteClient_times_out_when_accounts_call_hangs() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> release.await(5, TimeUnit.SECONDS)).when(clientService).deleteClient(7L);
+
+        CompletableFuture<Void> result = new ClientAsyncService(clientService, executor, 50).deleteClient(7L);
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        release.countDown();
+    }
+
+    @Test
+    void deleteClient_is_skipped_when_deadline_expires_while_queued() throws Exception {
+        CountDownLatch busy = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                busy.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        CompletableFuture<Void> result = new ClientAsyncService(clientService, executor, 50).deleteClient(7L);
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(TimeoutException.class);
+        busy.countDown();
+        executor.submit(() -> { }).get(1, TimeUnit.SECONDS);
+
+        verify(clientService, never()).deleteClient(7L);
+    }
+
+    @Test
+    void deleteClient_propagates_rejection_when_executor_is_saturated() {
+        ClientAsyncService service = new ClientAsyncService(clientService, task -> {
+            throw new RejectedExecutionException("queue full");
+        }, 1000);
+
+        assertThatThrownBy(() -> service.deleteClient(7L)).isInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,126 @@
+package com.bootcamp.clientservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import com.bootcamp.clientservice.cache.CacheNames;
+import com.bootcamp.clientservice.cache.EmbeddedRemoteCacheTier;
+import com.bootcamp.clientservice.cache.TwoTierCacheManager;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.domain.ClientChange;
+import com.bootcamp.clientservice.domain.ClientTombstone;
+
+class ClientCacheSnapshotterTest {
+
+    private static final String SOURCE = "jdbc:mysql://localhost:3306/bank_clients_db";
+
+    @TempDir
+    Path dir;
+
+    private final ClientChangeFeed changeFeed = mock(ClientChangeFeed.class);
+
+    @Test
+    void restart_restores_snapshot_and_applies_only_later_changes() {
+        CacheManager before = cacheManager();
+        Cache beforeCache = before.getCache(CacheNames.CLIENTS);
+        beforeCache.put(1L, client(1L, 0, 1L, "Ana"));
+        beforeCache.put(2L, client(2L, 0, 2L, "Beto"));
+        beforeCache.put(3L, client(3L, 0, 3L, "Carla"));
+
+        when(changeFeed.currentSequence()).thenReturn(3L);
+        ClientCacheSnapshotter first = snapshotter(before, SOURCE);
+        first.run(null);
+        first.destroy();
+
+        // Mientras la réplica estaba abajo: se modificó el 2 y se eliminó el 3
+        when(changeFeed.currentSequence()).thenReturn(5L);
+        when(changeFeed.changesSince(3L, ClientChangeFeed.MAX_PAGE_SIZE)).thenReturn(new ClientChangeFeed.ChangePage(
+                List.of(ClientChange.upserted(client(2L, 1, 4L, "Beatriz")),
+                        ClientChange.deleted(ClientTombstone.builder().clientId(3L).changeSeq(5L).build())),
+                5L, false));
+
+        CacheManager after = cacheManager();
+        snapshotter(after, SOURCE).run(null);
+
+        Cache afterCache = after.getCache(CacheNames.CLIENTS);
+        assertThat(afterCache.get(1L, Client.class).getFirstName()).isEqualTo("Ana");
+        assertThat(afterCache.get(2L, Client.class).getFirstName()).isEqualTo("Beatriz");
+        assertThat(afterCache.get(2L, Client.class).getVersion()).isEqualTo(1L);
+        assertThat(afterCache.get(3L)).isNull();
+    }
+
+    @Test
+    void snapshot_from_another_database_is_ignored() {
+        CacheManager before = cacheManager();
+        before.getCache(CacheNames.CLIENTS).put(1L, client(1L, 0, 1L, "Ana"));
+        when(changeFeed.currentSequence()).thenReturn(1L);
+        ClientCacheSnapshotter first = snapshotter(before, "jdbc:h2:mem:other");
+        first.run(null);
+        first.destroy();
+
+        CacheManager after = cacheManager();
+        snapshotter(after, SOURCE).run(null);
+
+        assertThat(after.getCache(CacheNames.CLIENTS).get(1L)).isNull();
+        verify(changeFeed, never()).changesSince(anyLong(), anyInt());
+    }
+
+    @Test
+    void corrupted_snapshot_starts_cold() throws Exception {
+        Files.write(dir.resolve("clients.snapshot"), new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20});
+        when(changeFeed.currentSequence()).thenReturn(1L);
+
+        CacheManager after = cacheManager();
+        snapshotter(after, SOURCE).run(null);
+
+        assertThat(after.getCache(CacheNames.CLIENTS).get(1L)).isNull();
+        verify(changeFeed, never()).changesSince(anyLong(), anyInt());
+    }
+
+    @Test
+    void snapshot_without_the_cache_fails_at_startup() {
+        assertThatThrownBy(() -> new ClientCacheSnapshotter(
+                new StaticListableBeanFactory().getBeanProvider(CacheManager.class),
+                changeFeed, dir.resolve("clients.snapshot").toString(), SOURCE, 1000, false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("clients.cache.enabled");
+    }
+
+    private ClientCacheSnapshotter snapshotter(CacheManager cacheManager, String source) {
+        return new ClientCacheSnapshotter(
+                new StaticListableBeanFactory(Map.of("cacheManager", cacheManager)).getBeanProvider(CacheManager.class),
+                changeFeed, dir.resolve("clients.snapshot").toString(), source, 1000, true);
+    }
+
+    private static CacheManager cacheManager() {
+        return new TwoTierCacheManager(new EmbeddedRemoteCacheTier(),
+                value -> ((Client) value).getVersion(), 100, 30_000, 300_000, 60_000);
+    }
+
+    private static Client client(Long id, long version, Long changeSeq, String firstName) {
+        return Client.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName("Perez")
+                .dni("1234567" + id)
+                .email("cliente" + id + "@mail.com")
+                .version(version)
+                .changeSeq(changeSeq)
+                .build();
+    }
+}
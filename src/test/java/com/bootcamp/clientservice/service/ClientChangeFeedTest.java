@@ -0,0 +1,103 @@
+package com.bootcamp.clientservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.validation.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.domain.ClientChange;
+import com.bootcamp.clientservice.dto.request.CreateClientRequest;
+import com.bootcamp.clientservice.port.AccountsClient;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.repository.ClientTombstoneRepository;
+import com.bootcamp.clientservice.validation.ClientValidator;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({ClientService.class, ClientValidator.class, ClientChangeFeed.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientChangeFeedTest {
+
+    @Autowired
+    ClientService service;
+
+    @Autowired
+    ClientChangeFeed changeFeed;
+
+    @Autowired
+    ClientRepository clientRepository;
+
+    @Autowired
+    ClientTombstoneRepository tombstoneRepository;
+
+    @MockBean
+    AccountsClient accountsClient;
+
+    @AfterEach
+    void cleanUp() {
+        clientRepository.deleteAllInBatch();
+        tombstoneRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void feed_returns_only_changes_after_token_including_deletes() {
+        long start = changeFeed.changesSince(0, ClientChangeFeed.MAX_PAGE_SIZE).getNext();
+        Client ana = service.register(new CreateClientRequest("Ana", "Perez", "12345678", "ana@mail.com"));
+        Client luis = service.register(new CreateClientRequest("Luis", "Diaz", "87654321", "luis@mail.com"));
+
+        ClientChangeFeed.ChangePage first = changeFeed.changesSince(start, 10);
+        assertEquals(List.of(ana.getId(), luis.getId()), ids(first.getChanges()));
+        assertFalse(first.isHasMore());
+
+        service.updateClient(ana.getId(), "Ana María", null, null);
+        when(accountsClient.hasAccounts(luis.getId())).thenReturn(false);
+        service.deleteClient(luis.getId());
+
+        List<ClientChange> changes = changeFeed.changesSince(first.getNext(), 10).getChanges();
+        assertEquals(List.of(ana.getId(), luis.getId()), ids(changes));
+        assertEquals("Ana María", changes.get(0).getClient().getFirstName());
+        assertTrue(changes.get(1).isDeleted());
+        assertNull(changes.get(1).getClient());
+    }
+
+    @Test
+    void feed_is_paginated_by_token() {
+        long start = changeFeed.changesSince(0, ClientChangeFeed.MAX_PAGE_SIZE).getNext();
+        for (int i = 0; i < 5; i++) {
+            service.register(new CreateClientRequest("Ana", "Perez", "1000000" + i, "c" + i + "@mail.com"));
+        }
+
+        ClientChangeFeed.ChangePage page1 = changeFeed.changesSince(start, 2);
+        ClientChangeFeed.ChangePage page2 = changeFeed.changesSince(page1.getNext(), 2);
+        ClientChangeFeed.ChangePage page3 = changeFeed.changesSince(page2.getNext(), 2);
+
+        assertTrue(page1.isHasMore());
+        assertTrue(page2.isHasMore());
+        assertFalse(page3.isHasMore());
+        assertEquals(1, page3.getChanges().size());
+        assertEquals(page3.getNext(), changeFeed.changesSince(page3.getNext(), 2).getNext());
+    }
+
+    @Test
+    void invalid_page_is_rejected() {
+        assertThrows(ValidationException.class, () -> changeFeed.changesSince(-1, 10));
+        assertThrows(ValidationException.class, () -> changeFeed.changesSince(0, ClientChangeFeed.MAX_PAGE_SIZE + 1));
+    }
+
+    private static List<Long> ids(List<ClientChange> changes) {
+        return changes.stream().map(ClientChange::getClientId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.bootcamp.clientservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.dto.request.CreateClientRequest;
+import com.bootcamp.clientservice.port.AccountsClient;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.sql.SqlBudget;
+import com.bootcamp.clientservice.sql.SqlBudgetExtension;
+import com.bootcamp.clientservice.sql.SqlCountingDataSourceConfig;
+import com.bootcamp.clientservice.validation.ClientValidator;
+
+/**
+ * Presupuesto de round trips a la base por operación de ClientService, contra H2.
+ * Sin transacción de test: cada operación hace commit y se cuentan también los flush.
+ * Cada escritura suma el UPDATE + SELECT de la secuencia del feed de cambios.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({ClientService.class, ClientValidator.class, ClientChangeFeed.class, ClientArchive.class,
+        SqlCountingDataSourceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ExtendWith(SqlBudgetExtension.class)
+class ClientServiceSqlBudgetTest {
+
+    @Autowired
+    ClientService service;
+
+    @Autowired
+    ClientRepository clientRepository;
+
+    @MockBean
+    AccountsClient accountsClient;
+
+    private Long existingId;
+
+    @BeforeEach
+    void seed() {
+        existingId = clientRepository.save(Client.builder()
+                .firstName("Ana").lastName("Perez")
+                .dni("12345678").email("ana@mail.com")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        clientRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @SqlBudget(select = 2, insert = 1, update = 1, delete = 0)
+    void register() {
+        CreateClientRequest req = new CreateClientRequest("Luis", "Diaz", "87654321", "luis@mail.com");
+        service.register(req);
+    }
+
+    @Test
+    @SqlBudget(select = 1, insert = 0, update = 0, delete = 0)
+    void get() {
+        assertEquals("Ana", service.get(existingId).getFirstName());
+    }
+
+    @Test
+    @SqlBudget(select = 1, insert = 0, update = 0, delete = 0)
+    void list() {
+        assertEquals(1, service.list().size());
+    }
+
+    @Test
+    @SqlBudget(select = 3, insert = 0, update = 2, delete = 0)
+    void updateClient_with_new_email() {
+        service.updateClient(existingId, "Ana María", "Perez", "new@mail.com");
+    }
+
+    @Test
+    @SqlBudget(select = 2, insert = 0, update = 2, delete = 0)
+    void updateClient_same_email() {
+        service.updateClient(existingId, "Ana María", null, "ana@mail.com");
+    }
+
+    @Test
+    @SqlBudget(select = 2, insert = 1, update = 1, delete = 1)
+    void deleteClient() {
+        when(accountsClient.hasAccounts(existingId)).thenReturn(false);
+        service.deleteClient(existingId);
+    }
+}
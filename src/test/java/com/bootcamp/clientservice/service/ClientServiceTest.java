@@ -12,16 +12,24 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import javax.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import com.bootcamp.clientservice.audit.AuditOperation;
+import com.bootcamp.clientservice.audit.ClientAuditEvent;
+import com.bootcamp.clientservice.deadline.Deadline;
+import com.bootcamp.clientservice.deadline.DeadlineExceededException;
 import com.bootcamp.clientservice.domain.Client;
 import com.bootcamp.clientservice.dto.request.CreateClientRequest;
 import com.bootcamp.clientservice.port.AccountsClient;
 import com.bootcamp.clientservice.repository.ClientRepository;
 import com.bootcamp.clientservice.validation.ClientValidator;
+import io.opentelemetry.context.Scope;
 
 @ExtendWith(MockitoExtension.class)
 class ClientServiceTest {
@@ -35,9 +43,24 @@ class ClientServiceTest {
     @Mock
     ClientValidator clientValidator;
 
-    @InjectMocks
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    ObjectProvider<ClientChangeFeed> changeFeed;
+
+    @Mock
+    ObjectProvider<ClientArchive> archive;
+
     ClientService service;
 
+    // Explícito: con dos ObjectProvider, @InjectMocks los resolvería sólo por tipo
+    @BeforeEach
+    void setUp() {
+        service = new ClientService(clientRepository, accountsClient, clientValidator, eventPublisher, changeFeed,
+                archive);
+    }
+
     // ---------- register() ----------
     @Test
     void register_ok() {
@@ -136,6 +159,16 @@ class ClientServiceTest {
         verifyNoInteractions(accountsClient);
     }
 
+    @Test
+    void get_falls_back_to_archive() {
+        ClientArchive clientArchive = mock(ClientArchive.class);
+        when(archive.getIfAvailable()).thenReturn(clientArchive);
+        when(clientRepository.findById(7L)).thenReturn(Optional.empty());
+        when(clientArchive.find(7L)).thenReturn(Optional.of(Client.builder().id(7L).firstName("Ana").build()));
+
+        assertEquals("Ana", service.get(7L).getFirstName());
+    }
+
     // ---------- list() ----------
     @Test
     void list_ok() {
@@ -173,6 +206,28 @@ class ClientServiceTest {
         verifyNoInteractions(accountsClient);
     }
 
+    @Test
+    void updateClient_publishes_audit_event_with_changed_fields_only() {
+        Client existing = Client.builder()
+                .id(1L).firstName("Ana").lastName("P").dni("12345678")
+                .email("old@mail.com").build();
+        when(clientRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(clientRepository.existsByEmail("new@mail.com")).thenReturn(false);
+        when(clientRepository.save(any(Client.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        service.updateClient(1L, null, "P", "new@mail.com");
+
+        ArgumentCaptor<ClientAuditEvent> event = ArgumentCaptor.forClass(ClientAuditEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(AuditOperation.UPDATE, event.getValue().getOperation());
+        assertEquals(1L, event.getValue().getClientId());
+        assertEquals(1, event.getValue().getChanges().size());
+        ClientAuditEvent.FieldChange change = event.getValue().getChanges().get(0);
+        assertEquals("email", change.getField());
+        assertEquals("old@mail.com", change.getBefore());
+        assertEquals("new@mail.com", change.getAfter());
+    }
+
     @Test
     void updateClient_email_duplicated_throws() {
         Client existing = Client.builder()
@@ -204,39 +259,87 @@ class ClientServiceTest {
     // ---------- deleteClient() ----------
     @Test
     void deleteClient_ok_when_no_accounts() {
-        when(clientRepository.existsById(10L)).thenReturn(true);
+        Client existing = Client.builder().id(10L).build();
+        when(clientRepository.findById(10L)).thenReturn(Optional.of(existing));
         when(accountsClient.hasAccounts(10L)).thenReturn(false);
 
         service.deleteClient(10L);
 
-        verify(clientRepository).existsById(10L);
+        verify(clientRepository).findById(10L);
         verify(accountsClient).hasAccounts(10L);
-        verify(clientRepository).deleteById(10L);
+        verify(clientRepository).delete(existing);
         verifyNoMoreInteractions(clientRepository, accountsClient);
     }
 
+    @Test
+    void writes_take_change_sequence_and_delete_leaves_tombstone() {
+        ClientChangeFeed feed = mock(ClientChangeFeed.class);
+        when(changeFeed.getIfAvailable()).thenReturn(feed);
+        when(feed.nextSequence()).thenReturn(41L, 42L);
+        when(clientRepository.save(any(Client.class))).thenAnswer(inv -> inv.getArgument(0));
+        Client existing = Client.builder().id(10L).email("ana@mail.com").build();
+        when(clientRepository.findById(10L)).thenReturn(Optional.of(existing));
+        when(accountsClient.hasAccounts(10L)).thenReturn(false);
+
+        Client registered = service.register(new CreateClientRequest("Ana", "Perez", "12345678", "otra@mail.com"));
+        Client updated = service.updateClient(10L, "Ana María", null, null);
+        service.deleteClient(10L);
+
+        assertEquals(41L, registered.getChangeSeq());
+        assertEquals(42L, updated.getChangeSeq());
+        verify(feed).recordDeletion(10L);
+    }
+
+    @Test
+    void deleteApproved_deletes_in_batch_and_publishes_one_event_per_client() {
+        ClientChangeFeed feed = mock(ClientChangeFeed.class);
+        when(changeFeed.getIfAvailable()).thenReturn(feed);
+        when(clientRepository.findAllById(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(Client.builder().id(1L).build(), Client.builder().id(3L).build()));
+
+        List<Long> deleted = service.deleteApproved(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(1L, 3L), deleted);
+        verify(clientRepository).deleteAllByIdInBatch(List.of(1L, 3L));
+        verify(feed).recordDeletions(List.of(1L, 3L));
+        ArgumentCaptor<ClientAuditEvent> events = ArgumentCaptor.forClass(ClientAuditEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertTrue(events.getAllValues().stream().allMatch(e -> e.getOperation() == AuditOperation.DELETE));
+    }
+
     @Test
     void deleteClient_not_found_throws() {
-        when(clientRepository.existsById(10L)).thenReturn(false);
+        when(clientRepository.findById(10L)).thenReturn(Optional.empty());
         var ex = assertThrows(IllegalArgumentException.class, () -> service.deleteClient(10L));
         assertTrue(ex.getMessage().contains("Client not found"));
-        verify(clientRepository).existsById(10L);
+        verify(clientRepository).findById(10L);
         verifyNoMoreInteractions(clientRepository);
         verifyNoInteractions(accountsClient);
     }
 
     @Test
     void deleteClient_with_active_accounts_throws() {
-        when(clientRepository.existsById(10L)).thenReturn(true);
+        when(clientRepository.findById(10L)).thenReturn(Optional.of(Client.builder().id(10L).build()));
         when(accountsClient.hasAccounts(10L)).thenReturn(true);
 
         var ex = assertThrows(ValidationException.class, () -> service.deleteClient(10L));
         assertTrue(ex.getMessage().contains("Cannot delete client with active accounts"));
-        verify(clientRepository).existsById(10L);
+        verify(clientRepository).findById(10L);
         verify(accountsClient).hasAccounts(10L);
         verifyNoMoreInteractions(clientRepository, accountsClient);
     }
 
+    @Test
+    void deleteClient_skips_delete_when_deadline_expired_during_accounts_call() {
+        when(clientRepository.findById(10L)).thenReturn(Optional.of(Client.builder().id(10L).build()));
+        when(accountsClient.hasAccounts(10L)).thenReturn(false);
+
+        try (Scope ignored = Deadline.after(0).makeCurrent()) {
+            assertThrows(DeadlineExceededException.class, () -> service.deleteClient(10L));
+        }
+        verify(clientRepository, never()).delete(any(Client.class));
+    }
+
     @Test
     void updateClient_should_not_update_email_when_same_as_current() {
         Client client = new Client();
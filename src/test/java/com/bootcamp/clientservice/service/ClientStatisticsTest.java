@@ -0,0 +1,120 @@
+package com.bootcamp.clientservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import com.bootcamp.clientservice.audit.ClientAuditEvent;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.repository.ClientStatisticsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ClientStatisticsTest {
+
+    private final ClientRepository repository = mock(ClientRepository.class);
+    private final ClientStatisticsRepository statisticsRepository = mock(ClientStatisticsRepository.class);
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toMillis(100));
+    private final ClientStatistics statistics = statistics(statisticsRepository);
+
+    @Test
+    void writes_update_total_domains_and_current_bucket() {
+        Client ana = client(1L, "ana@mail.com");
+        statistics.onClientChanged(ClientAuditEvent.registered(ana));
+        statistics.onClientChanged(ClientAuditEvent.registered(client(2L, "luis@Corp.com")));
+        statistics.onClientChanged(ClientAuditEvent.updated(1L, ClientAuditEvent.fieldsOf(ana),
+                client(1L, "ana@corp.com")));
+        statistics.onClientChanged(ClientAuditEvent.deleted(client(2L, "luis@Corp.com")));
+
+        ClientStatistics.Snapshot snapshot = statistics.snapshot();
+
+        assertThat(snapshot.getTotalClients()).isEqualTo(1);
+        assertThat(snapshot.getEmailDomains()).containsOnlyKeys("corp.com").containsEntry("corp.com", 1L);
+        ClientStatistics.BucketCounts current = snapshot.getBuckets().get(2);
+        assertThat(current.getRegistrations()).isEqualTo(2);
+        assertThat(current.getDeletions()).isEqualTo(1);
+    }
+
+    @Test
+    void buckets_roll_over_with_time() {
+        statistics.onClientChanged(ClientAuditEvent.registered(client(1L, "ana@mail.com")));
+        clock.addAndGet(TimeUnit.HOURS.toMillis(1));
+        statistics.onClientChanged(ClientAuditEvent.registered(client(2L, "luis@mail.com")));
+
+        assertThat(statistics.snapshot().getBuckets())
+                .extracting(ClientStatistics.BucketCounts::getRegistrations)
+                .containsExactly(0L, 1L, 1L);
+
+        clock.addAndGet(TimeUnit.HOURS.toMillis(3));
+        assertThat(statistics.snapshot().getBuckets())
+                .extracting(ClientStatistics.BucketCounts::getRegistrations)
+                .containsExactly(0L, 0L, 0L);
+    }
+
+    @Test
+    void reconcile_replaces_drifted_counters_with_database_values() {
+        statistics.onClientChanged(ClientAuditEvent.registered(client(1L, "ana@mail.com")));
+        List<ClientStatisticsRepository.DomainCount> domains = List.of(domainCount("mail.com", 1), domainCount("corp.com", 1));
+        when(repository.count()).thenReturn(2L);
+        when(statisticsRepository.countByEmailDomain()).thenReturn(domains);
+
+        statistics.reconcile();
+
+        ClientStatistics.Snapshot snapshot = statistics.snapshot();
+        assertThat(snapshot.getTotalClients()).isEqualTo(2);
+        assertThat(snapshot.getEmailDomains()).containsEntry("mail.com", 1L).containsEntry("corp.com", 1L);
+        assertThat(snapshot.getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    void writes_during_reconcile_are_kept() {
+        when(repository.count()).thenAnswer(invocation -> {
+            // Alta que hace commit mientras la consulta ya corre y que el conteo no vio
+            statistics.onClientChanged(ClientAuditEvent.registered(client(5L, "new@mail.com")));
+            return 4L;
+        });
+
+        statistics.reconcile();
+
+        assertThat(statistics.totalClients()).isEqualTo(5);
+        assertThat(statistics.snapshot().getEmailDomains()).containsEntry("mail.com", 1L);
+    }
+
+    @Test
+    void reconcile_without_statistics_repository_keeps_domains_and_does_not_load_clients() {
+        ClientStatistics statistics = statistics(null);
+        statistics.onClientChanged(ClientAuditEvent.registered(client(1L, "ana@mail.com")));
+        when(repository.count()).thenReturn(3L);
+
+        statistics.reconcile();
+
+        assertThat(statistics.totalClients()).isEqualTo(3);
+        assertThat(statistics.snapshot().getEmailDomains()).containsOnlyKeys("mail.com").containsEntry("mail.com", 1L);
+        verify(repository, never()).findAll();
+    }
+
+    private ClientStatistics statistics(ClientStatisticsRepository statisticsRepository) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<ClientStatisticsRepository> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(statisticsRepository);
+        return new ClientStatistics(repository, provider, new SimpleMeterRegistry(), 60, 3, 10, clock::get);
+    }
+
+    private static ClientStatisticsRepository.DomainCount domainCount(String domain, long clients) {
+        ClientStatisticsRepository.DomainCount count = mock(ClientStatisticsRepository.DomainCount.class);
+        when(count.getDomain()).thenReturn(domain);
+        when(count.getClients()).thenReturn(clients);
+        return count;
+    }
+
+    private static Client client(Long id, String email) {
+        return Client.builder().id(id).firstName("Ana").lastName("Perez").dni("1234567" + id).email(email).build();
+    }
+}
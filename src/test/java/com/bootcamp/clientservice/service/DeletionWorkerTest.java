@@ -0,0 +1,117 @@
+package com.bootcamp.clientservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.bootcamp.clientservice.domain.DeletionRequest;
+import com.bootcamp.clientservice.domain.DeletionStatus;
+import com.bootcamp.clientservice.port.AccountsClient;
+
+@ExtendWith(MockitoExtension.class)
+class DeletionWorkerTest {
+
+    @Mock
+    ClientDeletionService deletionService;
+
+    @Mock
+    AccountsClient accountsClient;
+
+    @Mock
+    ObjectProvider<CacheManager> cacheManager;
+
+    private DeletionWorker worker;
+
+    @BeforeEach
+    void setup() {
+        worker = new DeletionWorker(deletionService, accountsClient, cacheManager);
+        ReflectionTestUtils.setField(worker, "batchSize", 10);
+        ReflectionTestUtils.setField(worker, "leaseSeconds", 60L);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "baseBackoffSeconds", 5L);
+        ReflectionTestUtils.setField(worker, "maxBackoffSeconds", 600L);
+    }
+
+    @Test
+    void deletes_clients_without_accounts_in_one_batch_and_rejects_the_rest() {
+        DeletionRequest free = request(1L, 0);
+        DeletionRequest withAccounts = request(2L, 0);
+        when(deletionService.claimBatch(anyInt(), anyLong())).thenReturn(List.of(free, withAccounts));
+        when(accountsClient.hasAccounts(1L)).thenReturn(false);
+        when(accountsClient.hasAccounts(2L)).thenReturn(true);
+
+        worker.processPending();
+
+        verify(deletionService).completeBatch(List.of(free, withAccounts), List.of(1L));
+        assertEquals(DeletionStatus.COMPLETED, free.getStatus());
+        assertEquals(DeletionStatus.REJECTED, withAccounts.getStatus());
+    }
+
+    @Test
+    void accounts_failure_schedules_retry_with_backoff() {
+        DeletionRequest request = request(3L, 1);
+        when(accountsClient.hasAccounts(3L)).thenThrow(new IllegalStateException("No se pudo verificar"));
+
+        LocalDateTime before = LocalDateTime.now();
+        boolean delete = worker.evaluate(request);
+
+        assertEquals(false, delete);
+        assertEquals(DeletionStatus.PENDING, request.getStatus());
+        assertEquals(2, request.getAttempts());
+        // segundo intento: 5s << 1 = 10s
+        assertTrue(!request.getNextAttemptAt().isBefore(before.plusSeconds(10)));
+    }
+
+    @Test
+    void gives_up_after_max_attempts() {
+        DeletionRequest request = request(4L, 2);
+        when(accountsClient.hasAccounts(4L)).thenThrow(new IllegalStateException("No se pudo verificar"));
+
+        worker.evaluate(request);
+
+        assertEquals(DeletionStatus.FAILED, request.getStatus());
+        assertEquals(3, request.getAttempts());
+    }
+
+    @Test
+    void long_error_is_truncated_to_the_column_length() {
+        DeletionRequest request = request(5L, 0);
+        when(accountsClient.hasAccounts(5L)).thenThrow(new IllegalStateException("x".repeat(2000)));
+
+        worker.evaluate(request);
+
+        assertEquals(DeletionWorker.MAX_ERROR_LENGTH, request.getLastError().length());
+    }
+
+    @Test
+    void empty_batch_does_nothing() {
+        when(deletionService.claimBatch(anyInt(), anyLong())).thenReturn(List.of());
+
+        worker.processPending();
+
+        verify(deletionService, never()).completeBatch(any(), any());
+    }
+
+    private static DeletionRequest request(Long clientId, int attempts) {
+        return DeletionRequest.builder()
+                .id(clientId * 10).clientId(clientId)
+                .status(DeletionStatus.IN_PROGRESS).attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
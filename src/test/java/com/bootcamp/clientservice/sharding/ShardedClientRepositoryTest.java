@@ -0,0 +1,236 @@
+package com.bootcamp.clientservice.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.repository.ClientStatisticsRepository.DomainCount;
+
+class ShardedClientRepositoryTest {
+
+    private final String cluster = UUID.randomUUID().toString();
+    private final List<DataSource> shardDataSources = new ArrayList<>();
+
+    private DataSource directoryDataSource;
+    private Shards shards;
+    private ShardedClientRepository repository;
+
+    @BeforeEach
+    void open() {
+        directoryDataSource = h2("directory");
+        for (int index = 0; index < 3; index++) {
+            shardDataSources.add(h2(Shards.name(index)));
+        }
+        shards = Shards.open(shardDataSources);
+        repository = new ShardedClientRepository(ShardDirectory.open(directoryDataSource), shards);
+    }
+
+    @AfterEach
+    void close() {
+        repository.close();
+    }
+
+    @Test
+    void save_routes_by_dni_bucket_and_id_encodes_the_bucket() {
+        Client saved = repository.save(client("12345678", "ana@mail.com"));
+
+        int bucket = ShardRing.bucketOf("12345678");
+        assertEquals(bucket, ShardRing.bucketOf(saved.getId()));
+        assertEquals(0L, saved.getVersion());
+        assertEquals(1, rowsIn(repository.shardOf(saved.getId())));
+        assertEquals("ana@mail.com", repository.findById(saved.getId()).orElseThrow().getEmail());
+        assertEquals(saved.getId(), repository.findByDni("12345678").orElseThrow().getId());
+        assertEquals(saved.getId(), repository.findByEmail("ana@mail.com").orElseThrow().getId());
+    }
+
+    @Test
+    void list_and_count_gather_all_shards() {
+        for (int i = 0; i < 60; i++) {
+            repository.save(client(String.valueOf(10_000_000 + i), "c" + i + "@mail.com"));
+        }
+
+        Set<String> used = new HashSet<>();
+        for (String shard : shards.names()) {
+            if (rowsIn(shard) > 0) {
+                used.add(shard);
+            }
+        }
+        assertEquals(3, used.size());
+        assertEquals(60, repository.count());
+        assertEquals(60, repository.findAll().size());
+
+        List<String> emails = repository.findAll(Sort.by("email")).stream()
+                .map(Client::getEmail).collect(Collectors.toList());
+        assertEquals("c0@mail.com", emails.get(0));
+        assertEquals("c9@mail.com", emails.get(59));
+
+        Page<Client> page = repository.findAll(PageRequest.of(1, 10, Sort.by("dni")));
+        assertEquals(60, page.getTotalElements());
+        assertEquals("10000010", page.getContent().get(0).getDni());
+        assertEquals("10000019", page.getContent().get(9).getDni());
+    }
+
+    @Test
+    void email_domains_are_counted_with_a_group_by_on_every_shard() {
+        for (int i = 0; i < 30; i++) {
+            repository.save(client(String.valueOf(10_000_000 + i), "c" + i + (i % 2 == 0 ? "@mail.com" : "@MAIL.com")));
+        }
+        repository.save(client("87654321", "eva@corp.com"));
+
+        Map<String, Long> domains = repository.countByEmailDomain().stream()
+                .collect(Collectors.toMap(DomainCount::getDomain, DomainCount::getClients));
+
+        assertEquals(Map.of("mail.com", 30L, "corp.com", 1L), domains);
+        assertEquals(0, repository.countArchived());
+    }
+
+    @Test
+    void unique_dni_and_email_are_enforced_across_shards() {
+        repository.save(client("12345678", "ana@mail.com"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> repository.save(client("87654321", "ana@mail.com")));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> repository.save(client("12345678", "otra@mail.com")));
+
+        // La reserva del correo se libera si el alta falla en el shard
+        assertFalse(repository.existsByEmail("otra@mail.com"));
+        assertEquals(1, repository.findUniqueKeyConflicts("12345678", "ana@mail.com").size());
+    }
+
+    @Test
+    void update_moves_email_in_directory_and_checks_version() {
+        Client saved = repository.save(client("12345678", "ana@mail.com"));
+
+        Client stale = repository.findById(saved.getId()).orElseThrow();
+        Client fresh = repository.findById(saved.getId()).orElseThrow();
+        fresh.setEmail("nueva@mail.com");
+        repository.save(fresh);
+
+        assertEquals(1L, fresh.getVersion());
+        assertFalse(repository.existsByEmail("ana@mail.com"));
+        assertEquals(saved.getId(), repository.findByEmail("nueva@mail.com").orElseThrow().getId());
+
+        stale.setFirstName("Otra");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> repository.save(stale));
+    }
+
+    @Test
+    void delete_releases_email_and_deleteById_of_missing_id_fails() {
+        Client saved = repository.save(client("12345678", "ana@mail.com"));
+
+        repository.delete(saved);
+
+        assertFalse(repository.existsById(saved.getId()));
+        assertFalse(repository.existsByEmail("ana@mail.com"));
+        assertThrows(EmptyResultDataAccessException.class, () -> repository.deleteById(saved.getId()));
+    }
+
+    @Test
+    void batch_delete_removes_rows_and_emails_on_every_shard() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            ids.add(repository.save(client(String.valueOf(10_000_000 + i), "c" + i + "@mail.com")).getId());
+        }
+        Long kept = ids.remove(0);
+        assertTrue(ids.stream().map(repository::shardOf).distinct().count() > 1);
+
+        repository.deleteAllByIdInBatch(ids);
+
+        assertEquals(1, repository.count());
+        assertTrue(repository.existsById(kept));
+        assertTrue(repository.existsByEmail("c0@mail.com"));
+        assertFalse(repository.existsByEmail("c1@mail.com"));
+        assertFalse(repository.existsByEmail("c29@mail.com"));
+    }
+
+    @Test
+    void concurrent_initialization_adopts_the_bucket_assignment_already_inserted() {
+        DataSource dataSource = h2("race-directory");
+        ShardDirectory.open(dataSource).loadAssignments(new ShardRing(List.of("shard-0")));
+        // Lectura hecha antes de que la otra instancia insertara: todos los buckets parecen libres
+        JdbcTemplate staleRead = new JdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, RowCallbackHandler handler) {
+            }
+        };
+
+        String[] assignments = new ShardDirectory(staleRead)
+                .loadAssignments(new ShardRing(List.of("shard-0", "shard-1", "shard-2")));
+
+        assertTrue(Arrays.stream(assignments).allMatch("shard-0"::equals));
+    }
+
+    @Test
+    void rebalance_after_adding_a_shard_moves_only_reassigned_buckets() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(repository.save(client(String.valueOf(20_000_000 + i), "r" + i + "@mail.com")).getId());
+        }
+        repository.close();
+
+        shardDataSources.add(h2(Shards.name(3)));
+        shards = Shards.open(shardDataSources);
+        ShardDirectory directory = ShardDirectory.open(directoryDataSource);
+        ShardRebalancer.Result result = new ShardRebalancer(directory, shards).rebalance();
+
+        // Con 4 shards, cerca de 1/4 de los buckets pasa al nuevo
+        assertTrue(result.getBuckets() > ShardRing.BUCKETS / 8 && result.getBuckets() < ShardRing.BUCKETS / 2,
+                "moved " + result.getBuckets());
+        assertEquals(result.getClients(), rowsIn(Shards.name(3)));
+        assertEquals(0, new ShardRebalancer(directory, shards).rebalance().getBuckets());
+
+        repository = new ShardedClientRepository(directory, shards);
+        assertEquals(200, repository.count());
+        for (Long id : ids) {
+            assertTrue(repository.findById(id).isPresent(), "client " + id);
+        }
+        assertTrue(repository.findByDni("20000007").isPresent());
+    }
+
+    @Test
+    void ring_keeps_buckets_of_existing_shards_when_a_shard_is_added() {
+        ShardRing three = new ShardRing(List.of("shard-0", "shard-1", "shard-2"));
+        ShardRing four = new ShardRing(List.of("shard-0", "shard-1", "shard-2", "shard-3"));
+
+        for (int bucket = 0; bucket < ShardRing.BUCKETS; bucket++) {
+            String after = four.shardFor(bucket);
+            assertTrue(after.equals(three.shardFor(bucket)) || after.equals("shard-3"));
+        }
+    }
+
+    private long rowsIn(String shard) {
+        return shards.get(shard).queryForObject("SELECT COUNT(*) FROM clients", Long.class);
+    }
+
+    private DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + cluster + "-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static Client client(String dni, String email) {
+        return Client.builder().firstName("Ana").lastName("Perez").dni(dni).email(email).build();
+    }
+}
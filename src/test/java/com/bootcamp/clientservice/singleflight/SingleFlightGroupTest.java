@@ -0,0 +1,300 @@
+package com.bootcamp.clientservice.singleflight;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import com.bootcamp.clientservice.config.SingleFlightConfig;
+import com.bootcamp.clientservice.deadline.Deadline;
+import com.bootcamp.clientservice.deadline.DeadlineExceededException;
+import com.bootcamp.clientservice.domain.Client;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightGroupTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutdown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrent_calls_for_same_key_share_one_execution() throws Exception {
+        SingleFlightGroup group = new SingleFlightGroup("test", meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object shared = new Object();
+
+        List<Future<Object>> results = submitAll(() -> execute(group, 42L, () -> {
+            executions.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return shared;
+        }));
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            assertSame(shared, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(0, group.inFlight());
+        assertEquals(1.0, meterRegistry.get("clients.singleflight.calls").tag("outcome", "executed").counter().count());
+    }
+
+    @Test
+    void waiters_receive_the_leader_exception() throws Exception {
+        SingleFlightGroup group = new SingleFlightGroup("test", meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> results = submitAll(() -> execute(group, "key", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("accounts down");
+        }));
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals(IllegalStateException.class, ex.getCause().getClass());
+        }
+    }
+
+    @Test
+    void waiter_gives_up_when_its_own_deadline_expires() throws Exception {
+        SingleFlightGroup group = new SingleFlightGroup("test", meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = callers.submit(() -> execute(group, "key", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "value";
+        }));
+        while (group.inFlight() == 0) {
+            Thread.sleep(1);
+        }
+
+        try (Scope ignored = Context.current().with(Deadline.after(50)).makeCurrent()) {
+            assertThrows(DeadlineExceededException.class, () -> group.execute("key", () -> "waiter"));
+        } finally {
+            release.countDown();
+        }
+        assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void waiter_with_time_left_retries_when_the_leader_ran_out_of_deadline() throws Exception {
+        SingleFlightGroup group = new SingleFlightGroup("test", meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = callers.submit(() -> execute(group, "key", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new DeadlineExceededException("leader deadline");
+        }));
+        while (group.inFlight() == 0) {
+            Thread.sleep(1);
+        }
+
+        Future<Object> waiter = callers.submit(() -> execute(group, "key", () -> "waiter"));
+        awaitCollapsed(1);
+        release.countDown();
+
+        assertEquals("waiter", waiter.get(5, TimeUnit.SECONDS));
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertEquals(DeadlineExceededException.class, ex.getCause().getClass());
+    }
+
+    @Test
+    void aspect_hands_each_caller_its_own_copy_of_shared_results() throws Exception {
+        ClientLookup target = new ClientLookup();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(meterRegistry));
+        ClientLookup proxy = factory.getProxy();
+
+        Client first = proxy.find(7L);
+        first.setEmail("changed@example.com");
+        Client second = proxy.find(7L);
+
+        assertNotSame(first, second);
+        assertNotSame(target.shared, second);
+        assertEquals("ana@example.com", second.getEmail());
+        assertEquals("ana@example.com", target.shared.getEmail());
+        assertEquals(3L, second.getChangeSeq());
+    }
+
+    @Test
+    void key_is_released_after_completion_and_distinct_keys_do_not_collapse() throws Throwable {
+        SingleFlightGroup group = new SingleFlightGroup("test", meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+
+        group.execute(1L, executions::incrementAndGet);
+        group.execute(1L, executions::incrementAndGet);
+        group.execute(2L, executions::incrementAndGet);
+
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    void aspect_collapses_annotated_methods_by_arguments() throws Exception {
+        Lookup target = new Lookup();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(meterRegistry));
+        Lookup proxy = factory.getProxy();
+
+        List<Future<Object>> results = submitAll(() -> proxy.find(7L));
+        awaitCollapsed(CALLERS - 1);
+        target.release.countDown();
+        for (Future<Object> result : results) {
+            assertEquals("client-7", result.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, target.calls.get());
+    }
+
+    @Test
+    void aspect_collapses_calls_on_a_context_bean_and_runs_outside_the_cache() throws Exception {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ContextConfig.class)) {
+            CachedLookup lookup = context.getBean(CachedLookup.class);
+            Lookup target = lookup.delegate();
+            SimpleMeterRegistry registry = context.getBean(SimpleMeterRegistry.class);
+
+            List<Future<Object>> results = submitAll(() -> lookup.find(7L));
+            awaitCollapsed(registry, CALLERS - 1);
+            target.release.countDown();
+            for (Future<Object> result : results) {
+                assertEquals("client-7", result.get(5, TimeUnit.SECONDS));
+            }
+
+            assertEquals("client-7", lookup.find(7L));
+            assertEquals(1, target.calls.get());
+        }
+    }
+
+    private static Object execute(SingleFlightGroup group, Object key, SingleFlightGroup.Call call) throws Exception {
+        try {
+            return group.execute(key, call);
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private List<Future<Object>> submitAll(Callable<Object> call) {
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(call));
+        }
+        return results;
+    }
+
+    private void awaitCollapsed(int expected) throws InterruptedException {
+        awaitCollapsed(meterRegistry, expected);
+    }
+
+    private static void awaitCollapsed(MeterRegistry meterRegistry, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            double collapsed = meterRegistry.find("clients.singleflight.calls").tag("outcome", "collapsed")
+                    .counters().stream().mapToDouble(c -> c.count()).sum();
+            if (collapsed >= expected) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("callers did not collapse onto the in-flight call");
+    }
+
+    static class Lookup {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @SingleFlight("lookup")
+        public String find(Long id) throws InterruptedException {
+            calls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "client-" + id;
+        }
+    }
+
+    static class ClientLookup {
+
+        final Client shared = Client.builder().id(7L).email("ana@example.com").changeSeq(3L).build();
+
+        @SingleFlight("client-lookup")
+        public Client find(Long id) {
+            return shared;
+        }
+    }
+
+    static class CachedLookup {
+
+        private final Lookup delegate;
+
+        CachedLookup(Lookup delegate) {
+            this.delegate = delegate;
+        }
+
+        public Lookup delegate() {
+            return delegate;
+        }
+
+        @SingleFlight("cached-lookup")
+        @Cacheable(cacheNames = "lookup", key = "#id")
+        public String find(Long id) throws InterruptedException {
+            return delegate.find(id);
+        }
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+    @Import(SingleFlightConfig.class)
+    static class ContextConfig {
+
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("lookup");
+        }
+
+        @Bean
+        CachedLookup cachedLookup() {
+            return new CachedLookup(new Lookup());
+        }
+    }
+}
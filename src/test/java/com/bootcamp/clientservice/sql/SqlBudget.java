@@ -0,0 +1,25 @@
+package com.bootcamp.clientservice.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Máximo de sentencias SQL que puede ejecutar el cuerpo del test (sin contar el @BeforeEach).
+ * Lo verifica {@link SqlBudgetExtension}; un valor no declarado no tiene límite.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int UNLIMITED = Integer.MAX_VALUE;
+
+    int select() default UNLIMITED;
+
+    int insert() default UNLIMITED;
+
+    int update() default UNLIMITED;
+
+    int delete() default UNLIMITED;
+}
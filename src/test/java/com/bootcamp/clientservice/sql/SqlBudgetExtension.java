@@ -0,0 +1,49 @@
+package com.bootcamp.clientservice.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/**
+ * Compara las sentencias contadas por datasource-proxy durante el test contra su {@link SqlBudget}.
+ * El conteo es por hilo: sólo cuenta lo que se ejecuta en el hilo del test.
+ */
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCountHolder.clear();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        QueryCountHolder.clear();
+
+        SqlBudget budget = context.getRequiredTestMethod().getAnnotation(SqlBudget.class);
+        if (budget == null) {
+            return;
+        }
+
+        List<String> violations = new ArrayList<>();
+        check(violations, "SELECT", count.getSelect(), budget.select());
+        check(violations, "INSERT", count.getInsert(), budget.insert());
+        check(violations, "UPDATE", count.getUpdate(), budget.update());
+        check(violations, "DELETE", count.getDelete(), budget.delete());
+
+        if (!violations.isEmpty()) {
+            throw new AssertionError("SQL budget exceeded in " + context.getDisplayName() + ": "
+                    + String.join(", ", violations));
+        }
+    }
+
+    private static void check(List<String> violations, String type, long actual, int max) {
+        if (actual > max) {
+            violations.add(type + " " + actual + " > " + max);
+        }
+    }
+}
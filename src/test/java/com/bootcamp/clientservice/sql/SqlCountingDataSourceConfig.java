@@ -0,0 +1,29 @@
+package com.bootcamp.clientservice.sql;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/** Envuelve el DataSource del contexto de test con datasource-proxy para contar sentencias */
+@TestConfiguration
+public class SqlCountingDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create((DataSource) bean)
+                            .name(beanName)
+                            .countQuery()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
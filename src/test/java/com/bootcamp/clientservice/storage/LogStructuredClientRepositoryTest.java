@@ -0,0 +1,331 @@
+package com.bootcamp.clientservice.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.validation.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.dto.request.CreateClientRequest;
+import com.bootcamp.clientservice.port.AccountsClient;
+import com.bootcamp.clientservice.repository.ClientStatisticsRepository.DomainCount;
+import com.bootcamp.clientservice.service.ClientArchive;
+import com.bootcamp.clientservice.service.ClientChangeFeed;
+import com.bootcamp.clientservice.service.ClientService;
+import com.bootcamp.clientservice.validation.ClientValidator;
+
+class LogStructuredClientRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private ClientStore store;
+    private LogStructuredClientRepository repository;
+
+    @BeforeEach
+    void open() throws IOException {
+        store = ClientStore.open(directory, 1_000);
+        repository = new LogStructuredClientRepository(store);
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void save_assigns_id_and_version_and_indexes_unique_columns() {
+        Client saved = repository.save(client("12345678", "ana@mail.com"));
+
+        assertEquals(1L, saved.getId());
+        assertEquals(0L, saved.getVersion());
+        assertEquals("Ana", repository.findById(1L).orElseThrow().getFirstName());
+        assertTrue(repository.existsByDni("12345678"));
+        assertTrue(repository.existsByEmail("ana@mail.com"));
+        assertEquals(1L, repository.findByEmail("ana@mail.com").orElseThrow().getId());
+        assertEquals(1, repository.findUniqueKeyConflicts("12345678", "otro@mail.com").size());
+    }
+
+    @Test
+    void returned_entities_are_copies() {
+        Long id = repository.save(client("12345678", "ana@mail.com")).getId();
+
+        repository.findById(id).orElseThrow().setFirstName("Changed");
+
+        assertEquals("Ana", repository.findById(id).orElseThrow().getFirstName());
+    }
+
+    @Test
+    void duplicated_dni_or_email_is_rejected() {
+        repository.save(client("12345678", "ana@mail.com"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(client("12345678", "otra@mail.com")));
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(client("87654321", "ana@mail.com")));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void update_with_stale_version_fails() {
+        Long id = repository.save(client("12345678", "ana@mail.com")).getId();
+        Client first = repository.findById(id).orElseThrow();
+        Client second = repository.findById(id).orElseThrow();
+
+        first.setEmail("nuevo@mail.com");
+        repository.save(first);
+        second.setLastName("Otro");
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> repository.save(second));
+        assertFalse(repository.existsByEmail("ana@mail.com"));
+        assertTrue(repository.existsByEmail("nuevo@mail.com"));
+    }
+
+    @Test
+    void delete_by_missing_id_fails_like_spring_data() {
+        assertThrows(EmptyResultDataAccessException.class, () -> repository.deleteById(99L));
+    }
+
+    @Test
+    void find_all_supports_sorting() {
+        repository.save(client("12345678", "b@mail.com"));
+        repository.save(client("87654321", "a@mail.com"));
+
+        List<String> emails = repository.findAll(Sort.by("email")).stream()
+                .map(Client::getEmail).collect(Collectors.toList());
+
+        assertEquals(List.of("a@mail.com", "b@mail.com"), emails);
+    }
+
+    @Test
+    void email_domains_are_counted_from_the_store() {
+        repository.save(client("12345678", "ana@mail.com"));
+        repository.save(client("23456789", "luis@Mail.com"));
+        repository.save(client("87654321", "eva@corp.com"));
+
+        Map<String, Long> domains = repository.countByEmailDomain().stream()
+                .collect(Collectors.toMap(DomainCount::getDomain, DomainCount::getClients));
+
+        assertEquals(Map.of("mail.com", 2L, "corp.com", 1L), domains);
+        assertEquals(0, repository.countArchived());
+    }
+
+    @Test
+    void state_is_recovered_by_replaying_the_log() throws IOException {
+        Long kept = repository.save(client("12345678", "ana@mail.com")).getId();
+        Long deleted = repository.save(client("87654321", "luis@mail.com")).getId();
+        Client update = repository.findById(kept).orElseThrow();
+        update.setFirstName("Ana Maria");
+        repository.save(update);
+        repository.deleteById(deleted);
+
+        reopen(1_000);
+
+        assertEquals(1, repository.count());
+        Client recovered = repository.findById(kept).orElseThrow();
+        assertEquals("Ana Maria", recovered.getFirstName());
+        assertEquals(1L, recovered.getVersion());
+        assertFalse(repository.existsByDni("87654321"));
+        assertEquals(3L, repository.save(client("11112222", "nuevo@mail.com")).getId());
+    }
+
+    @Test
+    void change_sequence_and_timestamps_survive_copies_snapshot_and_log() throws IOException {
+        LocalDateTime at = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        Client client = client("12345678", "ana@mail.com");
+        client.setChangeSeq(5L);
+        client.setLastAccessedAt(at);
+        Long id = repository.save(client).getId();
+        assertEquals(5L, repository.findById(id).orElseThrow().getChangeSeq());
+
+        store.snapshot();
+        Client update = repository.findById(id).orElseThrow();
+        update.setChangeSeq(6L);
+        update.setLastModifiedAt(at.plusDays(1));
+        repository.save(update);
+        reopen(1_000);
+
+        Client recovered = repository.findById(id).orElseThrow();
+        assertEquals(6L, recovered.getChangeSeq());
+        assertEquals(at, recovered.getLastAccessedAt());
+        assertEquals(at.plusDays(1), recovered.getLastModifiedAt());
+    }
+
+    @Test
+    void writes_become_visible_only_after_the_fsync() throws Exception {
+        WriteAheadLog real = (WriteAheadLog) ReflectionTestUtils.getField(store, "wal");
+        WriteAheadLog slow = mock(WriteAheadLog.class);
+        CountDownLatch fsync = new CountDownLatch(1);
+        when(slow.append(any())).thenReturn(1L);
+        doAnswer(invocation -> fsync.await(5, TimeUnit.SECONDS)).when(slow).sync(anyLong());
+        ReflectionTestUtils.setField(store, "wal", slow);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            Future<Client> saved = writer.submit(() -> repository.save(client("12345678", "ana@mail.com")));
+            verify(slow, timeout(5_000)).sync(1L);
+
+            assertTrue(repository.findById(1L).isEmpty());
+            assertTrue(repository.findByEmail("ana@mail.com").isEmpty());
+            assertThrows(DataIntegrityViolationException.class,
+                    () -> repository.save(client("12345678", "otra@mail.com")));
+
+            fsync.countDown();
+            assertEquals(1L, saved.get(5, TimeUnit.SECONDS).getId());
+            assertEquals("ana@mail.com", repository.findById(1L).orElseThrow().getEmail());
+        } finally {
+            writer.shutdownNow();
+            real.close();
+        }
+    }
+
+    @Test
+    void failed_fsync_discards_the_write_and_rejects_further_writes() throws IOException {
+        Long kept = repository.save(client("12345678", "ana@mail.com")).getId();
+        WriteAheadLog real = (WriteAheadLog) ReflectionTestUtils.getField(store, "wal");
+        WriteAheadLog failing = mock(WriteAheadLog.class);
+        when(failing.append(any())).thenReturn(2L);
+        doThrow(new IOException("disk gone")).when(failing).sync(anyLong());
+        ReflectionTestUtils.setField(store, "wal", failing);
+        try {
+            assertThrows(UncheckedIOException.class, () -> repository.save(client("87654321", "luis@mail.com")));
+
+            assertEquals(1, repository.count());
+            assertFalse(repository.existsByDni("87654321"));
+            Client update = repository.findById(kept).orElseThrow();
+            update.setFirstName("Changed");
+            assertThrows(UncheckedIOException.class, () -> repository.save(update));
+            assertEquals("Ana", repository.findById(kept).orElseThrow().getFirstName());
+        } finally {
+            real.close();
+        }
+    }
+
+    @Test
+    void snapshot_compacts_the_log_and_recovery_combines_both() throws IOException {
+        repository.save(client("12345678", "ana@mail.com"));
+        store.snapshot();
+        repository.save(client("87654321", "luis@mail.com"));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.filter(file -> file.getFileName().toString().startsWith("wal-")).count());
+        }
+
+        reopen(1_000);
+
+        assertEquals(2, repository.count());
+        assertTrue(repository.existsByEmail("ana@mail.com"));
+        assertTrue(repository.existsByEmail("luis@mail.com"));
+    }
+
+    @Test
+    void torn_record_at_the_end_of_the_log_is_discarded() throws IOException {
+        repository.save(client("12345678", "ana@mail.com"));
+        store.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(file -> file.getFileName().toString().startsWith("wal-")).findFirst().orElseThrow();
+        }
+        // Cabecera de un registro de 100 bytes del que sólo llegaron 3
+        ByteBuffer torn = ByteBuffer.allocate(11).putInt(100).putInt(0).put(new byte[3]);
+        Files.write(segment, torn.array(), StandardOpenOption.APPEND);
+
+        store = ClientStore.open(directory, 1_000);
+        repository = new LogStructuredClientRepository(store);
+
+        assertEquals(1, repository.count());
+        repository.save(client("87654321", "luis@mail.com"));
+        reopen(1_000);
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void concurrent_writers_share_fsyncs_and_all_writes_survive_restart() throws Exception {
+        reopen(50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                String dni = String.valueOf(10_000_000 + i);
+                futures.add(executor.submit(() -> repository.save(client(dni, dni + "@mail.com"))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        reopen(50);
+
+        assertEquals(400, repository.count());
+        assertTrue(repository.existsByDni("10000399"));
+    }
+
+    @Test
+    void client_service_scenarios_run_on_the_embedded_store() {
+        AccountsClient accountsClient = mock(AccountsClient.class);
+        ClientService service = new ClientService(repository, accountsClient, new ClientValidator(repository), event -> { },
+                new StaticListableBeanFactory().getBeanProvider(ClientChangeFeed.class),
+                new StaticListableBeanFactory().getBeanProvider(ClientArchive.class));
+
+        Client registered = service.register(new CreateClientRequest("Ana", "Perez", "12345678", "ana@mail.com"));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.register(new CreateClientRequest("Otra", "Perez", "12345678", "otra@mail.com")));
+
+        Client updated = service.updateClient(registered.getId(), "Ana M", null, "nuevo@mail.com");
+        assertEquals("Ana M", service.get(registered.getId()).getFirstName());
+        assertEquals(1L, updated.getVersion());
+
+        when(accountsClient.hasAccounts(registered.getId())).thenReturn(true);
+        assertThrows(ValidationException.class, () -> service.deleteClient(registered.getId()));
+
+        when(accountsClient.hasAccounts(registered.getId())).thenReturn(false);
+        service.deleteClient(registered.getId());
+        assertThrows(IllegalArgumentException.class, () -> service.get(registered.getId()));
+        assertTrue(service.list().isEmpty());
+    }
+
+    private void reopen(int snapshotEvery) throws IOException {
+        store.close();
+        store = ClientStore.open(directory, snapshotEvery);
+        repository = new LogStructuredClientRepository(store);
+    }
+
+    private static Client client(String dni, String email) {
+        return Client.builder().firstName("Ana").lastName("Perez").dni(dni).email(email).build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.bootcamp.clientservice.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+class TracingPropagationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+    private final RecordingSpanExporter exporter = new RecordingSpanExporter(100);
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build();
+    private final OpenTelemetry openTelemetry = OpenTelemetrySdk.builder()
+            .setTracerProvider(tracerProvider)
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void incoming_traceparent_is_continued_and_propagated_to_outbound_calls() throws Exception {
+        TracingFilter filter = new TracingFilter(openTelemetry);
+        TracingClientHttpRequestInterceptor interceptor = new TracingClientHttpRequestInterceptor(openTelemetry);
+        AtomicReference<String> outboundTraceparent = new AtomicReference<>();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/clientes/7");
+        request.addHeader("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/clientes/{id}");
+            MockClientHttpRequest outbound = new MockClientHttpRequest(HttpMethod.GET,
+                    URI.create("http://localhost:8081/cuentas/cliente/7"));
+            interceptor.intercept(outbound, new byte[0], (r, body) -> {
+                outboundTraceparent.set(r.getHeaders().getFirst("traceparent"));
+                return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+            });
+        });
+
+        List<SpanData> spans = exporter.getFinishedSpans();
+        assertEquals(2, spans.size());
+        SpanData client = spans.get(0);
+        SpanData server = spans.get(1);
+
+        assertEquals(SpanKind.SERVER, server.getKind());
+        assertEquals("DELETE /clientes/{id}", server.getName());
+        assertEquals(TRACE_ID, server.getTraceId());
+        assertEquals(PARENT_SPAN_ID, server.getParentSpanId());
+
+        assertEquals(SpanKind.CLIENT, client.getKind());
+        assertEquals(TRACE_ID, client.getTraceId());
+        assertEquals(server.getSpanId(), client.getParentSpanId());
+        assertEquals("00-" + TRACE_ID + "-" + client.getSpanId() + "-01", outboundTraceparent.get());
+    }
+
+    @Test
+    void request_without_traceparent_starts_new_trace() throws Exception {
+        TracingFilter filter = new TracingFilter(openTelemetry);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/clientes"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        List<SpanData> spans = exporter.getFinishedSpans();
+        assertEquals(1, spans.size());
+        assertTrue(spans.get(0).getSpanContext().isValid());
+        assertNotEquals(TRACE_ID, spans.get(0).getTraceId());
+        assertEquals("HTTP GET", spans.get(0).getName());
+    }
+
+    @Test
+    void memory_exporter_keeps_only_the_most_recent_spans() throws Exception {
+        RecordingSpanExporter small = new RecordingSpanExporter(2);
+        try (SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(small)).build()) {
+            for (int i = 0; i < 3; i++) {
+                provider.get("test").spanBuilder("span-" + i).startSpan().end();
+            }
+        }
+
+        List<SpanData> spans = small.getFinishedSpans();
+        assertEquals(2, spans.size());
+        assertEquals("span-1", spans.get(0).getName());
+        assertEquals("span-2", spans.get(1).getName());
+    }
+}
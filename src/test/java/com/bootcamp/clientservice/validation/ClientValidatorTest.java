@@ -0,0 +1,117 @@
+package com.bootcamp.clientservice.validation;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.repository.ClientRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ClientValidatorTest {
+
+    private static final Pattern LEGACY_EMAIL = Pattern.compile("^[\\w-.]+@[\\w-]+\\.[a-zA-Z]{2,}$");
+
+    @Mock
+    ClientRepository clientRepository;
+
+    @InjectMocks
+    ClientValidator validator;
+
+    @Test
+    void valid_client_runs_a_single_uniqueness_query() {
+        when(clientRepository.findUniqueKeyConflicts("12345678", "ana@mail.com")).thenReturn(List.of());
+
+        assertDoesNotThrow(() -> validator.validateNewClient(client("12345678", "ana@mail.com")));
+
+        verify(clientRepository).findUniqueKeyConflicts("12345678", "ana@mail.com");
+    }
+
+    @Test
+    void malformed_email_is_rejected_before_touching_the_database() {
+        assertThrows(ValidationException.class,
+                () -> validator.validateNewClient(client("12345678", "ana@mail")));
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void malformed_dni_is_rejected_before_touching_the_database() {
+        assertThrows(ValidationException.class,
+                () -> validator.validateNewClient(client("1234", "ana@mail.com")));
+        assertThrows(ValidationException.class,
+                () -> validator.validateNewClient(client("1234567A", "ana@mail.com")));
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void duplicated_dni_is_reported_before_duplicated_email() {
+        when(clientRepository.findUniqueKeyConflicts("12345678", "ana@mail.com"))
+                .thenReturn(List.of(keys("99999999", "ana@mail.com"), keys("12345678", "otra@mail.com")));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> validator.validateNewClient(client("12345678", "ana@mail.com")));
+        assertEquals("El DNI ya está registrado", ex.getMessage());
+    }
+
+    @Test
+    void duplicated_email_is_reported() {
+        when(clientRepository.findUniqueKeyConflicts("12345678", "ana@mail.com"))
+                .thenReturn(List.of(keys("99999999", "ana@mail.com")));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> validator.validateNewClient(client("12345678", "ana@mail.com")));
+        assertEquals("El correo ya está registrado", ex.getMessage());
+    }
+
+    @Test
+    void email_scanner_matches_the_previous_regex() {
+        List<String> samples = List.of("ana@mail.com", "a.b-c_d@mail-x.io", "a@b.c", "@mail.com", "ana@.com",
+                "ana@mail.", "ana@mail.c0m", "ana@sub.mail.com", "ana@@mail.com", "an a@mail.com", "ana@mail",
+                "ana.mail.com", "ñandu@mail.com", "ana@mail.COM", "-@-.co", "ana@ma_il.com", "");
+
+        for (String sample : samples) {
+            assertEquals(LEGACY_EMAIL.matcher(sample).matches(), ClientFormat.isValidEmail(sample), sample);
+        }
+    }
+
+    @Test
+    void dni_requires_8_to_12_digits() {
+        assertTrue(ClientFormat.isValidDni("12345678"));
+        assertTrue(ClientFormat.isValidDni("123456789012"));
+        assertFalse(ClientFormat.isValidDni("1234567"));
+        assertFalse(ClientFormat.isValidDni("1234567890123"));
+        assertFalse(ClientFormat.isValidDni("12345 678"));
+        assertFalse(ClientFormat.isValidDni(null));
+    }
+
+    private static Client client(String dni, String email) {
+        return Client.builder().firstName("Ana").lastName("Perez").dni(dni).email(email).build();
+    }
+
+    private static ClientRepository.UniqueKeys keys(String dni, String email) {
+        return new ClientRepository.UniqueKeys() {
+            @Override
+            public String getDni() {
+                return dni;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
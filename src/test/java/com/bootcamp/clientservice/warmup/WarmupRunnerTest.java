@@ -0,0 +1,147 @@
+package com.bootcamp.clientservice.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.DispatcherServlet;
+import com.bootcamp.clientservice.controller.ClientController;
+import com.bootcamp.clientservice.domain.Client;
+import com.bootcamp.clientservice.repository.ClientRepository;
+import com.bootcamp.clientservice.storage.StoreTransactionManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WarmupRunnerTest {
+
+    private final DispatcherServlet dispatcher = mock(DispatcherServlet.class);
+    private final ClientRepository repository = mock(ClientRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Dispatched> dispatched = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setup() throws Exception {
+        Client client = Client.builder().id(1L).firstName("Ana").lastName("Perez")
+                .dni("12345678").email("ana@mail.com").build();
+        when(repository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(client)));
+        when(dispatcher.getServletConfig()).thenReturn(new MockServletConfig());
+        doAnswer(invocation -> {
+            HttpServletRequest request = invocation.getArgument(0);
+            dispatched.add(new Dispatched(request.getMethod(), request.getRequestURI(),
+                    request.getAttribute(ClientController.SYNTHETIC_REQUEST) != null,
+                    TransactionSynchronizationManager.isActualTransactionActive()));
+            ((HttpServletResponse) invocation.getArgument(1)).setStatus(200);
+            return null;
+        }).when(dispatcher).service(any(ServletRequest.class), any(ServletResponse.class));
+    }
+
+    @Test
+    void dry_run_register_never_commits() throws Exception {
+        RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+
+        runner(transactionManager).run(null);
+
+        assertThat(dispatched).anyMatch(call -> call.is("GET", "/clientes/1"));
+        assertThat(dispatched).anyMatch(call -> call.is("POST", "/clientes"));
+        assertThat(transactionManager.rollbacks).isPositive();
+        assertThat(transactionManager.commits).isZero();
+        assertThat(meterRegistry.get("clients.warmup.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void requests_go_through_the_dispatcher_marked_as_synthetic() throws Exception {
+        runner(new RecordingTransactionManager()).run(null);
+
+        assertThat(dispatched).isNotEmpty().allMatch(call -> call.synthetic);
+        assertThat(dispatched).filteredOn(call -> call.is("POST", "/clientes")).allMatch(call -> call.inTransaction);
+    }
+
+    @Test
+    void store_backed_deployment_only_warms_reads() throws Exception {
+        runner(new StoreTransactionManager()).run(null);
+
+        assertThat(dispatched).isNotEmpty().allMatch(call -> call.is("GET", "/clientes/1"));
+    }
+
+    @Test
+    void uninitialized_dispatcher_skips_warm_up() throws Exception {
+        when(dispatcher.getServletConfig()).thenReturn(null);
+
+        runner(new RecordingTransactionManager()).run(null);
+
+        assertThat(dispatched).isEmpty();
+        assertThat(meterRegistry.find("clients.warmup.duration").timer()).isNull();
+    }
+
+    private WarmupRunner runner(PlatformTransactionManager transactionManager) {
+        WarmupRunner runner = new WarmupRunner(dispatcher, repository, transactionManager, new ObjectMapper(),
+                meterRegistry);
+        ReflectionTestUtils.setField(runner, "maxDurationMillis", 300L);
+        ReflectionTestUtils.setField(runner, "callsPerRound", 50);
+        ReflectionTestUtils.setField(runner, "stableRounds", 3);
+        ReflectionTestUtils.setField(runner, "stableCompileMillis", 5L);
+        ReflectionTestUtils.setField(runner, "sampleSize", 10);
+        return runner;
+    }
+
+    private static final class Dispatched {
+        private final String method;
+        private final String uri;
+        private final boolean synthetic;
+        private final boolean inTransaction;
+
+        private Dispatched(String method, String uri, boolean synthetic, boolean inTransaction) {
+            this.method = method;
+            this.uri = uri;
+            this.synthetic = synthetic;
+            this.inTransaction = inTransaction;
+        }
+
+        private boolean is(String method, String uri) {
+            return this.method.equals(method) && this.uri.equals(uri);
+        }
+    }
+
+    private static final class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}